@@ -303,6 +303,27 @@ bool ClientEventQueue::hasEvents()
    // keep compiler happy
    return false;
 }
+
+void ClientEventQueue::pendingSize(std::size_t* pEventCount,
+                                   std::size_t* pOutputBytes)
+{
+   *pEventCount = 0;
+   *pOutputBytes = 0;
+
+   LOCK_MUTEX(*pMutex_)
+   {
+      *pEventCount = pendingEvents_.size();
+      for (auto&& entry : bufferedOutputs_)
+      {
+         if (!entry.second.empty())
+         {
+            *pEventCount += 1;
+            *pOutputBytes += entry.second.size();
+         }
+      }
+   }
+   END_LOCK_MUTEX;
+}
   
 void ClientEventQueue::remove(std::vector<ClientEvent>* pEvents)
 {
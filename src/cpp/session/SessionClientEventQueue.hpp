@@ -54,6 +54,10 @@ public:
    
    // are there any events pending?
    bool hasEvents();
+
+   // the number of pending events and the total size of any buffered
+   // output (used to decide when a batch of events is large enough to send)
+   void pendingSize(std::size_t* pEventCount, std::size_t* pOutputBytes);
    
    // clear the event queue
    void clear();
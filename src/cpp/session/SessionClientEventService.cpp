@@ -49,6 +49,10 @@ const int kLastChanceWaitSeconds = 4;
 // is likely still around to reconnect). otherwise there is no point waiting.
 const int kClientActiveThresholdSeconds = 5;
 
+// bounds on the batching preferences a client can request (see run())
+const int kDefaultLingerMs = 10;
+const int kMaxLingerMs = 250;
+
 bool hasEventIdLessThanOrEqualTo(const json::Value& event, int targetId)
 {
    const json::Object& eventJSON = event.getObject();
@@ -208,8 +212,6 @@ void ClientEventService::run()
       // default time durations
       using namespace boost::posix_time;
       time_duration maxRequestSec = seconds(50);
-      time_duration batchDelay = milliseconds(2);
-      time_duration maxTotalBatchDelay = milliseconds(10);
 
       // get alias to client event queue
       ClientEventQueue& clientEventQueue = session::clientEventQueue();
@@ -288,6 +290,34 @@ void ClientEventService::run()
             continue;
          }
            
+         // read the client's batching preferences, if provided (older
+         // clients send only the last event id). after the first event
+         // arrives we linger for up to 'lingerMs' waiting for more, stopping
+         // early once events stop arriving or the batch reaches the size the
+         // client asked for (a non-positive size means no limit)
+         int lingerMs = kDefaultLingerMs;
+         int maxBatchEvents = 0;
+         int maxBatchBytes = 0;
+         if (request.params.getSize() > 1)
+         {
+            paramError = json::readParams(request.params, 1,
+                                          &lingerMs,
+                                          &maxBatchEvents,
+                                          &maxBatchBytes);
+            if (paramError)
+            {
+               ptrConnection->sendJsonRpcError(paramError);
+               continue;
+            }
+            lingerMs = std::max(0, std::min(lingerMs, kMaxLingerMs));
+         }
+
+         // events arriving in rapid succession are batched together; the
+         // allowed gap between them grows with the linger window so that
+         // bursty output (e.g. from a loop printing progress) is coalesced
+         time_duration batchDelay = milliseconds(std::max(2, lingerMs / 5));
+         time_duration maxTotalBatchDelay = milliseconds(lingerMs);
+
          // remove all events already seen by the client from our internal list
          erasePreviouslyDeliveredEvents(lastClientEventIdSeen);
 
@@ -314,6 +344,13 @@ void ClientEventService::run()
                while ( clientEventQueue.waitForEvent(batchDelay) &&
                        (boost::get_system_time() < maxBatchDelayTime) )
                {
+                  std::size_t eventCount, outputBytes;
+                  clientEventQueue.pendingSize(&eventCount, &outputBytes);
+                  if ((maxBatchEvents > 0 && eventCount >= static_cast<std::size_t>(maxBatchEvents)) ||
+                      (maxBatchBytes > 0 && outputBytes >= static_cast<std::size_t>(maxBatchBytes)))
+                  {
+                     break;
+                  }
                }
            }
          }
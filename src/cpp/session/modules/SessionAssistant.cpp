@@ -26,6 +26,8 @@
 # include <signal.h>
 #endif
 
+#include <algorithm>
+
 #include <boost/current_function.hpp>
 #include <boost/range/adaptors.hpp>
 #include <boost/range/algorithm/copy.hpp>
@@ -57,6 +59,7 @@
 #include <session/SessionRUtil.hpp>
 
 #include "SessionLSP.hpp"
+#include "SessionSource.hpp"
 
 #include "session-config.h"
 
@@ -237,6 +240,14 @@ std::vector<AssistantRequest> s_pendingRequests;
 // Mainly used to map responses to their expected result types.
 std::map<std::string, AssistantContinuation> s_pendingContinuations;
 
+// The id of the pending inline completion request (if any) for each document,
+// so that a request can be cancelled when a newer one supersedes it.
+std::map<std::string, std::string> s_pendingCompletionRequests;
+
+// Requests that were cancelled after being sent to the agent, whose responses
+// (if any) can be dropped, along with the time they were cancelled.
+std::map<std::string, boost::posix_time::ptime> s_cancelledRequests;
+
 // A queue of pending responses, sent via the agent's stdout.
 std::queue<std::string> s_pendingResponses;
 
@@ -703,6 +714,48 @@ void sendRequest(const std::string& method,
    s_pendingRequests.push_back({ method, requestId, paramsJson });
 }
 
+// Cancel the pending inline completion request for a document, if any. The
+// request is dropped if it hasn't been sent to the agent yet, and otherwise
+// the agent is asked to cancel it; either way, its continuation is invoked
+// as cancelled.
+void cancelPendingCompletionRequest(const std::string& documentId)
+{
+   auto it = s_pendingCompletionRequests.find(documentId);
+   if (it == s_pendingCompletionRequests.end())
+      return;
+
+   std::string requestId = it->second;
+   s_pendingCompletionRequests.erase(it);
+
+   auto continuation = s_pendingContinuations.find(requestId);
+   if (continuation == s_pendingContinuations.end())
+      return;
+
+   DLOG("Cancelling superseded completion request with id '{}'.", requestId);
+
+   auto queued = std::find_if(
+            s_pendingRequests.begin(),
+            s_pendingRequests.end(),
+            [&](const AssistantRequest& request) { return request.id == requestId; });
+
+   if (queued != s_pendingRequests.end())
+   {
+      s_pendingRequests.erase(queued);
+   }
+   else
+   {
+      json::Object paramsJson;
+      paramsJson["id"] = requestId;
+      sendNotification("$/cancelRequest", paramsJson);
+      s_cancelledRequests[requestId] = boost::posix_time::second_clock::local_time();
+   }
+
+   // copy before erasing, since cancelling invokes the continuation
+   AssistantContinuation cancelled = continuation->second;
+   s_pendingContinuations.erase(continuation);
+   cancelled.cancel();
+}
+
 // Should only be used for debugging, as this will block the R session
 // while the request is being serviced.
 json::Object sendSynchronousRequest(const std::string& method,
@@ -2055,6 +2108,22 @@ void onBackgroundProcessing(bool isIdle)
             s_pendingContinuations.erase(key);
          }
       }
+
+      // the agent may never respond to a cancelled request; forget those
+      // after the same interval
+      for (auto it = s_cancelledRequests.begin(); it != s_cancelledRequests.end(); )
+      {
+         auto elapsedTime = currentTime - it->second;
+         if (elapsedTime.seconds() > 10)
+         {
+            DLOG("Forgetting cancelled request with id '{}'.", it->first);
+            it = s_cancelledRequests.erase(it);
+         }
+         else
+         {
+            ++it;
+         }
+      }
    }
 
    // process any pending requests
@@ -2195,6 +2264,10 @@ void onBackgroundProcessing(bool isIdle)
          s_pendingContinuations[requestId].invoke(responseJson);
          s_pendingContinuations.erase(requestId);
       }
+      else if (s_cancelledRequests.erase(requestId))
+      {
+         DLOG("Dropping response for cancelled request with id '{}'.", requestId);
+      }
       else
       {
          WLOG("Received response with id '{}', but no continuation is registered for that response.", requestId);
@@ -2450,6 +2523,13 @@ Error assistantGenerateCompletions(const json::JsonRpcRequest& request,
    bool autoInvoked;
    int cursorRow, cursorColumn;
 
+   // Unsaved changes to the document, as a diff against the session's copy
+   // (with the same meaning as for save_document_diff). The hash is empty
+   // if there are no changes to apply.
+   std::string deltaReplacement;
+   int deltaOffset, deltaLength;
+   std::string deltaHash;
+
    Error error = core::json::readParams(
             request.params,
             &documentId,
@@ -2457,7 +2537,11 @@ Error assistantGenerateCompletions(const json::JsonRpcRequest& request,
             &isUntitled,
             &autoInvoked,
             &cursorRow,
-            &cursorColumn);
+            &cursorColumn,
+            &deltaReplacement,
+            &deltaOffset,
+            &deltaLength,
+            &deltaHash);
    
    if (error)
    {
@@ -2465,6 +2549,40 @@ Error assistantGenerateCompletions(const json::JsonRpcRequest& request,
       return error;
    }
 
+   // A new request supersedes any still pending for this document
+   cancelPendingCompletionRequest(documentId);
+
+   // Apply the document's unsaved changes; this notifies the agent of the
+   // change before the completion request is sent
+   std::string documentHash;
+   if (!deltaHash.empty())
+   {
+      error = source::applyDocumentDiff(
+               documentId,
+               deltaReplacement,
+               deltaOffset,
+               deltaLength,
+               deltaHash,
+               &documentHash);
+
+      if (error)
+         LOG_ERROR(error);
+
+      // If the changes couldn't be applied, the client will need to save
+      // the document and try again
+      if (documentHash.empty())
+      {
+         json::Object resultJson;
+         resultJson["stale"] = true;
+
+         json::JsonRpcResponse response;
+         response.setResult(resultJson);
+
+         continuation(Success(), &response);
+         return Success();
+      }
+   }
+
    // Resolve source document from id
    auto pDoc = boost::make_shared<source_database::SourceDocument>();
 
@@ -2481,6 +2599,7 @@ Error assistantGenerateCompletions(const json::JsonRpcRequest& request,
    {
       json::Object resultJson;
       resultJson["enabled"] = false;
+      resultJson["documentHash"] = documentHash;
       
       json::JsonRpcResponse response;
       response.setResult(resultJson);
@@ -2517,9 +2636,30 @@ Error assistantGenerateCompletions(const json::JsonRpcRequest& request,
          paramsJson["variables"] = variablesContext;
    }
 
-   // Send the request
+   // Report the document's new hash (if its changes were applied) along
+   // with the response, even if the request is cancelled
    std::string requestId = core::system::generateUuid();
-   sendRequest("textDocument/inlineCompletion", requestId, paramsJson, AssistantContinuation(continuation));
+   auto wrappedContinuation = [continuation, documentId, requestId, documentHash](
+         const Error& error,
+         json::JsonRpcResponse* pResponse)
+   {
+      auto it = s_pendingCompletionRequests.find(documentId);
+      if (it != s_pendingCompletionRequests.end() && it->second == requestId)
+         s_pendingCompletionRequests.erase(it);
+
+      if (!error && pResponse && pResponse->result().isObject())
+      {
+         json::Object resultJson = pResponse->result().getObject();
+         resultJson["documentHash"] = documentHash;
+         pResponse->setResult(resultJson);
+      }
+
+      continuation(error, pResponse);
+   };
+
+   // Send the request
+   s_pendingCompletionRequests[documentId] = requestId;
+   sendRequest("textDocument/inlineCompletion", requestId, paramsJson, AssistantContinuation(wrappedContinuation));
 
    return Success();
 }
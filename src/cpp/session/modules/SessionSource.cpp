@@ -686,58 +686,31 @@ Error saveDocument(const json::JsonRpcRequest& request,
    return Success();
 }
 
-Error saveDocumentDiff(const json::JsonRpcRequest& request,
-                       json::JsonRpcResponse* pResponse)
+// Applies a diff to a document, replacing the byte range
+// [offset, offset+length) with 'replacement', then saves the document and
+// notifies listeners of the change. If the document's current hash doesn't
+// match 'hash', or the diff can't be applied, the document is left as-is and
+// 'pNewHash' is left empty, which signals to the client that it needs to
+// save the document in full instead.
+Error saveDocumentDiffImpl(const std::string& id,
+                           const std::string& replacement,
+                           int offset,
+                           int length,
+                           bool valid,
+                           const std::string& hash,
+                           const json::Value& jsonPath,
+                           const json::Value& jsonType,
+                           const json::Value& jsonEncoding,
+                           const json::Value& jsonFoldSpec,
+                           const json::Value& jsonChunkOutput,
+                           bool retryWrite,
+                           std::string* pNewHash)
 {
-   using namespace rstudio::core::string_utils;
-
-   // unique id and jsonPath (can be null for auto-save)
-   std::string id;
-   json::Value jsonPath, jsonType, jsonEncoding, jsonFoldSpec, jsonChunkOutput;
-   
-   // This is a chunk of text that should be inserted into the
-   // current document. It replaces the subrange [offset, offset+length).
-   std::string replacement;
-   int offset, length;
-   bool valid;
-   
-   // This is the expected hash of the current document. If the
-   // current hash value is different than this value, then the
-   // document cannot be patched and the request should be discarded.
-   std::string hash;
-   
-   // indicated whether or not this is write operation should be retried
-   // if the file handle cannot be acquired - this is used for
-   // manual saves as they can take longer as they are user-initiated actions
-   // autosaves need to be quick as they occur frequently
-   bool retryWrite = false;
-
-   // read params
-   Error error = json::readParams(request.params,
-                                  &id,
-                                  &jsonPath,
-                                  &jsonType,
-                                  &jsonEncoding,
-                                  &jsonFoldSpec,
-                                  &jsonChunkOutput,
-                                  &replacement,
-                                  &offset,
-                                  &length,
-                                  &valid,
-                                  &hash,
-                                  &retryWrite);
-   if (error)
-      return error;
-   
-   // if this has no path then it is an autosave, in this case
-   // suppress change detection and write retries
-   bool hasPath = json::isType<std::string>(jsonPath);
-   if (!hasPath)
-      pResponse->setSuppressDetectChanges(true);
+   pNewHash->clear();
 
    // get the doc
    boost::shared_ptr<SourceDocument> pDoc(new SourceDocument());
-   error = source_database::get(id, pDoc);
+   Error error = source_database::get(id, pDoc);
    if (error)
       return sourceDatabaseError(error);
    
@@ -752,6 +725,12 @@ Error saveDocumentDiff(const json::JsonRpcRequest& request,
    {
       // get current state of document
       std::string contents(pDoc->contents());
+      if (valid &&
+          (offset < 0 || length < 0 ||
+           static_cast<std::size_t>(offset) + length > contents.size()))
+      {
+         return Success();
+      }
 
       // construct change event with original state of document
       SourceDocumentChangedEvent event {
@@ -792,14 +771,74 @@ Error saveDocumentDiff(const json::JsonRpcRequest& request,
       if (error)
          return error;
 
-      // set document hash
-      pResponse->setResult(pDoc->hash());
+      *pNewHash = pDoc->hash();
    }
    CATCH_UNEXPECTED_EXCEPTION
    
    return Success();
 }
 
+Error saveDocumentDiff(const json::JsonRpcRequest& request,
+                       json::JsonRpcResponse* pResponse)
+{
+   // unique id and jsonPath (can be null for auto-save)
+   std::string id;
+   json::Value jsonPath, jsonType, jsonEncoding, jsonFoldSpec, jsonChunkOutput;
+   
+   // This is a chunk of text that should be inserted into the
+   // current document. It replaces the subrange [offset, offset+length).
+   std::string replacement;
+   int offset, length;
+   bool valid;
+   
+   // This is the expected hash of the current document. If the
+   // current hash value is different than this value, then the
+   // document cannot be patched and the request should be discarded.
+   std::string hash;
+   
+   // indicated whether or not this is write operation should be retried
+   // if the file handle cannot be acquired - this is used for
+   // manual saves as they can take longer as they are user-initiated actions
+   // autosaves need to be quick as they occur frequently
+   bool retryWrite = false;
+
+   // read params
+   Error error = json::readParams(request.params,
+                                  &id,
+                                  &jsonPath,
+                                  &jsonType,
+                                  &jsonEncoding,
+                                  &jsonFoldSpec,
+                                  &jsonChunkOutput,
+                                  &replacement,
+                                  &offset,
+                                  &length,
+                                  &valid,
+                                  &hash,
+                                  &retryWrite);
+   if (error)
+      return error;
+   
+   // if this has no path then it is an autosave, in this case
+   // suppress change detection and write retries
+   bool hasPath = json::isType<std::string>(jsonPath);
+   if (!hasPath)
+      pResponse->setSuppressDetectChanges(true);
+
+   std::string newHash;
+   error = saveDocumentDiffImpl(id, replacement, offset, length, valid, hash,
+                                jsonPath, jsonType, jsonEncoding, jsonFoldSpec,
+                                jsonChunkOutput, retryWrite, &newHash);
+   if (error)
+      return error;
+
+   // set document hash
+   if (!newHash.empty())
+      pResponse->setResult(newHash);
+
+   return Success();
+}
+
 Error onFormatError(
       const Error& error,
       const ErrorLocation& location,
@@ -2007,6 +2046,19 @@ Error clientInitDocuments(core::json::Array* pJsonDocs)
    return Success();
 }
 
+Error applyDocumentDiff(const std::string& id,
+                        const std::string& replacement,
+                        int offset,
+                        int length,
+                        const std::string& hash,
+                        std::string* pNewHash)
+{
+   // apply as an autosave (no path, type, or encoding)
+   return saveDocumentDiffImpl(id, replacement, offset, length, true, hash,
+                               json::Value(), json::Value(), json::Value(),
+                               json::Value(), json::Value(), false, pNewHash);
+}
+
 Error initialize()
 {   
    // connect to events
@@ -16,6 +16,7 @@
 #ifndef SESSION_SOURCE_HPP
 #define SESSION_SOURCE_HPP
 
+#include <string>
 #include <vector>
 
 #include <boost/shared_ptr.hpp>
@@ -38,6 +39,16 @@ namespace source {
    
 core::Error clientInitDocuments(core::json::Array* pJsonDocs);
 
+// Apply a diff (as sent for an autosave) to a document's contents, provided
+// the document still has the given hash; on success, the document's new hash
+// is returned, and otherwise (if the document has changed) an empty string.
+core::Error applyDocumentDiff(const std::string& id,
+                              const std::string& replacement,
+                              int offset,
+                              int length,
+                              const std::string& hash,
+                              std::string* pNewHash);
+
 core::Error initialize();
                        
 } // namespace source
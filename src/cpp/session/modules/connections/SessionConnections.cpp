@@ -368,6 +368,24 @@ void connectionListObjects(const json::JsonRpcRequest& request,
       return;
    }
 
+   // read the (optional) filter and page of objects to return; when refresh
+   // is false, R may re-use the object list it fetched for an earlier page
+   std::string filter;
+   int offset = 0;
+   int limit = -1;
+   bool refresh = true;
+   if (request.params.getSize() > 2)
+   {
+      error = json::readParams(request.params, 2,
+                               &filter, &offset, &limit, &refresh);
+      if (error)
+      {
+         json::JsonRpcResponse response;
+         continuation(error, &response);
+         return;
+      }
+   }
+
    // response
    json::JsonRpcResponse response;
 
@@ -378,6 +396,10 @@ void connectionListObjects(const json::JsonRpcRequest& request,
                                  connectionId.type,
                                  connectionId.host);
    addObjectSpecifiers(objectSpecifier, &listObjects);
+   listObjects.addParam(".filter", filter);
+   listObjects.addParam(".offset", offset);
+   listObjects.addParam(".limit", limit);
+   listObjects.addParam(".refresh", refresh);
    error = listObjects.call(&objects, &protect);
    if (error)
    {
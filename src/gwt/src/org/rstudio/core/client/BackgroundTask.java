@@ -0,0 +1,117 @@
+/*
+ * BackgroundTask.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client;
+
+import com.google.gwt.user.client.Timer;
+
+/**
+ * A unit of incremental background work (e.g. re-tokenizing a chunk of rows
+ * in an editor), run by the shared BackgroundTaskScheduler rather than by a
+ * timer of its own. This is intended as a drop-in replacement for a Timer
+ * that re-schedules itself until its work is done: call schedule() whenever
+ * another slice of work is needed, and run() will be invoked when the
+ * scheduler gets to it.
+ *
+ * Tasks belonging to visible widgets are run before those belonging to
+ * hidden ones; override isVisible() to report visibility.
+ */
+public abstract class BackgroundTask
+{
+   /**
+    * @param type A short name for this kind of task, used when reporting
+    *    scheduler statistics (e.g. "scope-tree").
+    */
+   public BackgroundTask(String type)
+   {
+      type_ = type;
+   }
+
+   /**
+    * Perform a single slice of work. Implementations should keep each slice
+    * short, and call schedule() again if more work remains.
+    */
+   protected abstract void run();
+
+   /**
+    * Whether the widget this task does work for is currently visible.
+    * Work for hidden widgets is only run once no visible work is pending.
+    */
+   protected boolean isVisible()
+   {
+      return true;
+   }
+
+   public String getType()
+   {
+      return type_;
+   }
+
+   /**
+    * Queue this task to be run as soon as the scheduler has time.
+    */
+   public void schedule()
+   {
+      schedule(0);
+   }
+
+   /**
+    * Queue this task to be run after (at least) the given delay. As with
+    * Timer.schedule(), re-scheduling a task replaces any pending request.
+    */
+   public void schedule(int delayMs)
+   {
+      cancel();
+
+      if (delayMs <= 0)
+      {
+         BackgroundTaskScheduler.get().enqueue(this);
+         return;
+      }
+
+      if (delayTimer_ == null)
+      {
+         delayTimer_ = new Timer()
+         {
+            @Override
+            public void run()
+            {
+               BackgroundTaskScheduler.get().enqueue(BackgroundTask.this);
+            }
+         };
+      }
+      delayTimer_.schedule(delayMs);
+   }
+
+   /**
+    * Cancel any pending run of this task.
+    */
+   public void cancel()
+   {
+      if (delayTimer_ != null)
+         delayTimer_.cancel();
+      BackgroundTaskScheduler.get().dequeue(this);
+   }
+
+   public boolean isScheduled()
+   {
+      return (delayTimer_ != null && delayTimer_.isRunning()) || queued_;
+   }
+
+   // Bookkeeping owned by BackgroundTaskScheduler.
+   boolean queued_ = false;
+
+   private final String type_;
+   private Timer delayTimer_;
+}
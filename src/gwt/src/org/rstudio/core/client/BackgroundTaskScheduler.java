@@ -0,0 +1,242 @@
+/*
+ * BackgroundTaskScheduler.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.user.client.Timer;
+
+/**
+ * Runs BackgroundTasks for the whole workbench from a single timer, so that
+ * per-editor background work (scope tree building, background highlighting,
+ * link detection, ...) shares one time budget instead of each open editor
+ * competing with typing via timers of its own.
+ *
+ * On each tick, queued tasks are run in FIFO order until the time budget is
+ * used up. Tasks for visible widgets always run first; tasks for hidden
+ * widgets are only run, one slice at a time and at a slower rate, once no
+ * visible work remains.
+ */
+public class BackgroundTaskScheduler
+{
+   public static class Stats
+   {
+      private Stats(String type)
+      {
+         type_ = type;
+      }
+
+      public String getType()
+      {
+         return type_;
+      }
+
+      // the number of tasks of this type currently waiting to run
+      public int getQueueDepth()
+      {
+         return queueDepth_;
+      }
+
+      // the number of slices of work run for tasks of this type
+      public int getSliceCount()
+      {
+         return sliceCount_;
+      }
+
+      // the total time spent running tasks of this type
+      public double getElapsedMs()
+      {
+         return elapsedMs_;
+      }
+
+      @Override
+      public String toString()
+      {
+         return type_ + ": " + queueDepth_ + " queued, " +
+                sliceCount_ + " slices, " +
+                Math.round(elapsedMs_) + " ms";
+      }
+
+      private final String type_;
+      private int queueDepth_;
+      private int sliceCount_;
+      private double elapsedMs_;
+   }
+
+   public static BackgroundTaskScheduler get()
+   {
+      if (INSTANCE == null)
+         INSTANCE = new BackgroundTaskScheduler();
+      return INSTANCE;
+   }
+
+   private BackgroundTaskScheduler()
+   {
+      ClientMetrics.get().registerGauge("background.queueDepth",
+                                        () -> queue_.size());
+
+      timer_ = new Timer()
+      {
+         @Override
+         public void run()
+         {
+            pump();
+         }
+      };
+   }
+
+   public List<Stats> getStats()
+   {
+      return new ArrayList<>(stats_.values());
+   }
+
+   public int getQueueDepth()
+   {
+      return queue_.size();
+   }
+
+   void enqueue(BackgroundTask task)
+   {
+      if (task.queued_)
+         return;
+
+      task.queued_ = true;
+      queue_.add(task);
+      stats(task.getType()).queueDepth_++;
+
+      // a visible task mustn't wait behind the slower tick used for hidden
+      // work, so pull a pending tick forward if need be
+      if (!timer_.isRunning())
+         scheduleTick(VISIBLE_DELAY_MS);
+      else if (task.isVisible() && getPendingDelayMs() > VISIBLE_DELAY_MS)
+         scheduleTick(VISIBLE_DELAY_MS);
+   }
+
+   void dequeue(BackgroundTask task)
+   {
+      if (!task.queued_)
+         return;
+
+      task.queued_ = false;
+      queue_.remove(task);
+      stats(task.getType()).queueDepth_--;
+   }
+
+   private void pump()
+   {
+      double start = Duration.currentTimeMillis();
+
+      // run visible work until the budget is exhausted
+      while (Duration.currentTimeMillis() - start < BUDGET_MS)
+      {
+         BackgroundTask task = nextTask(true);
+         if (task == null)
+            break;
+         execute(task);
+      }
+
+      // if nothing visible is waiting, allow a single slice of hidden work
+      boolean hasVisibleWork = nextTask(true) != null;
+      if (!hasVisibleWork && !queue_.isEmpty())
+      {
+         BackgroundTask task = nextTask(false);
+         if (task != null)
+            execute(task);
+         hasVisibleWork = nextTask(true) != null;
+      }
+
+      if (hasVisibleWork)
+         scheduleTick(VISIBLE_DELAY_MS);
+      else if (!queue_.isEmpty())
+         scheduleTick(HIDDEN_DELAY_MS);
+   }
+
+   private void scheduleTick(int delayMs)
+   {
+      deadline_ = Duration.currentTimeMillis() + delayMs;
+      timer_.schedule(delayMs);
+   }
+
+   // the time remaining until the next tick, if one is pending
+   double getPendingDelayMs()
+   {
+      if (!timer_.isRunning())
+         return -1;
+      return Math.max(0, deadline_ - Duration.currentTimeMillis());
+   }
+
+   private BackgroundTask nextTask(boolean visible)
+   {
+      for (int i = 0, n = queue_.size(); i < n; i++)
+      {
+         BackgroundTask task = queue_.get(i);
+         if (!visible || task.isVisible())
+            return task;
+      }
+      return null;
+   }
+
+   private void execute(BackgroundTask task)
+   {
+      // dequeue before running, so that the task can re-schedule itself
+      dequeue(task);
+
+      Stats stats = stats(task.getType());
+      double start = Duration.currentTimeMillis();
+      try
+      {
+         task.run();
+      }
+      catch (Exception e)
+      {
+         Debug.logException(e);
+      }
+      finally
+      {
+         double elapsed = Duration.currentTimeMillis() - start;
+         stats.sliceCount_++;
+         stats.elapsedMs_ += elapsed;
+         ClientMetrics.get().record("background." + task.getType(), elapsed);
+      }
+   }
+
+   private Stats stats(String type)
+   {
+      Stats stats = stats_.get(type);
+      if (stats == null)
+      {
+         stats = new Stats(type);
+         stats_.put(type, stats);
+      }
+      return stats;
+   }
+
+   private final Timer timer_;
+   private double deadline_ = 0;
+   private final List<BackgroundTask> queue_ = new ArrayList<>();
+   private final Map<String, Stats> stats_ = new LinkedHashMap<>();
+
+   private static BackgroundTaskScheduler INSTANCE;
+
+   // time allotted to background work per tick, and the delays between ticks
+   // when visible (or only hidden) work remains
+   private static final int BUDGET_MS = 8;
+   static final int VISIBLE_DELAY_MS = 5;
+   static final int HIDDEN_DELAY_MS = 100;
+}
@@ -0,0 +1,283 @@
+/*
+ * ClientMetrics.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.rstudio.core.client.js.JsObject;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * A registry of client performance metrics: counters (e.g. the number of
+ * client events dispatched), gauges (e.g. the number of queued background
+ * tasks) and latency histograms (e.g. the time taken to drain a batch of
+ * client events). Metrics are keyed by dotted names, and are created on first
+ * use; a snapshot of all of them can be read (as a plain JavaScript object)
+ * by automation clients, so that tests can assert performance budgets.
+ */
+public class ClientMetrics
+{
+   public interface Gauge
+   {
+      double getValue();
+   }
+
+   /**
+    * Records the number, mean and maximum of all values, and percentiles of
+    * the most recent values.
+    */
+   public static class Histogram
+   {
+      public void record(double value)
+      {
+         samples_[count_ % samples_.length] = value;
+         count_++;
+         sum_ += value;
+         max_ = Math.max(max_, value);
+      }
+
+      public int getCount()
+      {
+         return count_;
+      }
+
+      public double getMean()
+      {
+         return count_ == 0 ? 0 : sum_ / count_;
+      }
+
+      public double getMax()
+      {
+         return max_;
+      }
+
+      /**
+       * @param percentile The percentile, between 0 and 100
+       */
+      public double getPercentile(double percentile)
+      {
+         int n = Math.min(count_, samples_.length);
+         if (n == 0)
+            return 0;
+
+         double[] sorted = Arrays.copyOf(samples_, n);
+         Arrays.sort(sorted);
+         int index = (int) Math.ceil(percentile / 100 * n) - 1;
+         return sorted[Math.max(0, Math.min(n - 1, index))];
+      }
+
+      private final double[] samples_ = new double[MAX_SAMPLES];
+      private int count_;
+      private double sum_;
+      private double max_;
+   }
+
+   public class Timing
+   {
+      private Timing(String name)
+      {
+         name_ = name;
+         start_ = Duration.currentTimeMillis();
+      }
+
+      public void stop()
+      {
+         if (stopped_)
+            return;
+
+         stopped_ = true;
+         record(name_, Duration.currentTimeMillis() - start_);
+      }
+
+      // stops the timing once the browser is about to paint the next frame,
+      // so that the time includes that taken by deferred work and layout
+      public void stopOnNextFrame()
+      {
+         AnimationScheduler.get().requestAnimationFrame(timestamp -> stop());
+      }
+
+      private final String name_;
+      private final double start_;
+      private boolean stopped_ = false;
+   }
+
+   public static ClientMetrics get()
+   {
+      if (INSTANCE == null)
+         INSTANCE = new ClientMetrics();
+      return INSTANCE;
+   }
+
+   private ClientMetrics()
+   {
+   }
+
+   public void increment(String name)
+   {
+      Counter counter = counters_.get(name);
+      if (counter == null)
+      {
+         counter = new Counter();
+         counters_.put(name, counter);
+      }
+      counter.increment();
+   }
+
+   public int getCount(String name)
+   {
+      Counter counter = counters_.get(name);
+      return counter == null ? 0 : counter.get();
+   }
+
+   public void setGauge(String name, final double value)
+   {
+      gauges_.put(name, () -> value);
+   }
+
+   /**
+    * Registers a gauge whose value is read whenever a snapshot is taken.
+    */
+   public void registerGauge(String name, Gauge gauge)
+   {
+      gauges_.put(name, gauge);
+   }
+
+   public void record(String name, double ms)
+   {
+      getHistogram(name).record(ms);
+   }
+
+   public Histogram getHistogram(String name)
+   {
+      Histogram histogram = histograms_.get(name);
+      if (histogram == null)
+      {
+         histogram = new Histogram();
+         histograms_.put(name, histogram);
+      }
+      return histogram;
+   }
+
+   /**
+    * Returns the histograms whose names start with the given prefix.
+    */
+   public Map<String, Histogram> getHistograms(String prefix)
+   {
+      return histograms_.subMap(prefix, prefix + Character.MAX_VALUE);
+   }
+
+   public Timing startTiming(String name)
+   {
+      return new Timing(name);
+   }
+
+   /**
+    * Discards all counts and recorded values (gauges are unaffected).
+    */
+   public void reset()
+   {
+      counters_.clear();
+      histograms_.clear();
+   }
+
+   /**
+    * Returns a snapshot of all metrics, of the form:
+    * <pre>
+    * {
+    *    counters:   { name: count, ... },
+    *    gauges:     { name: value, ... },
+    *    histograms: { name: { count, mean, p50, p95, p99, max }, ... }
+    * }
+    * </pre>
+    */
+   public JavaScriptObject toJso()
+   {
+      JsObject counters = JsObject.createJsObject();
+      for (Map.Entry<String, Counter> entry : counters_.entrySet())
+         counters.setInteger(entry.getKey(), entry.getValue().get());
+
+      JsObject gauges = JsObject.createJsObject();
+      for (Map.Entry<String, Gauge> entry : gauges_.entrySet())
+         gauges.setDouble(entry.getKey(), entry.getValue().getValue());
+
+      JsObject histograms = JsObject.createJsObject();
+      for (Map.Entry<String, Histogram> entry : histograms_.entrySet())
+      {
+         Histogram histogram = entry.getValue();
+         JsObject summary = JsObject.createJsObject();
+         summary.setInteger("count", histogram.getCount());
+         summary.setDouble("mean", histogram.getMean());
+         summary.setDouble("p50", histogram.getPercentile(50));
+         summary.setDouble("p95", histogram.getPercentile(95));
+         summary.setDouble("p99", histogram.getPercentile(99));
+         summary.setDouble("max", histogram.getMax());
+         histograms.setObject(entry.getKey(), summary);
+      }
+
+      JsObject snapshot = JsObject.createJsObject();
+      snapshot.setObject("counters", counters);
+      snapshot.setObject("gauges", gauges);
+      snapshot.setObject("histograms", histograms);
+      return snapshot;
+   }
+
+   /**
+    * Returns a human-readable summary of all metrics.
+    */
+   public String toText()
+   {
+      StringBuilder builder = new StringBuilder();
+      for (Map.Entry<String, Histogram> entry : histograms_.entrySet())
+      {
+         Histogram histogram = entry.getValue();
+         builder.append(entry.getKey())
+                .append(": n=").append(histogram.getCount())
+                .append(", mean=").append(format(histogram.getMean()))
+                .append(", p95=").append(format(histogram.getPercentile(95)))
+                .append(", max=").append(format(histogram.getMax()))
+                .append(" ms\n");
+      }
+      for (Map.Entry<String, Counter> entry : counters_.entrySet())
+      {
+         builder.append(entry.getKey()).append(": ")
+                .append(entry.getValue().get()).append("\n");
+      }
+      for (Map.Entry<String, Gauge> entry : gauges_.entrySet())
+      {
+         builder.append(entry.getKey()).append(": ")
+                .append(format(entry.getValue().getValue())).append("\n");
+      }
+      return builder.toString();
+   }
+
+   private static String format(double value)
+   {
+      return Double.toString(Math.round(value * 10) / 10.0);
+   }
+
+   // sorted, so that related metrics are listed together
+   private final Map<String, Counter> counters_ = new TreeMap<>();
+   private final Map<String, Gauge> gauges_ = new TreeMap<>();
+   private final TreeMap<String, Histogram> histograms_ = new TreeMap<>();
+
+   private static ClientMetrics INSTANCE;
+
+   private static final int MAX_SAMPLES = 512;
+}
@@ -87,6 +87,9 @@ public class ConsoleOutputWriter
                                   boolean ignoreLineCount,
                                   boolean ariaLiveAnnounce)
    {
+      ClientMetrics.Timing timing =
+            ClientMetrics.get().startTiming("console.write");
+
       if (text.indexOf('\f') >= 0)
          clearConsoleOutput();
 
@@ -127,7 +130,9 @@ public class ConsoleOutputWriter
 
       lines_ += newLineCount - oldLineCount;
 
-      return ignoreLineCount || !trimExcess();
+      boolean result = ignoreLineCount || !trimExcess();
+      timing.stop();
+      return result;
    }
 
    public boolean trimExcess()
@@ -0,0 +1,254 @@
+/*
+ * InputLatencyTracer.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client;
+
+import java.util.Map;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.dom.client.NativeEvent;
+import com.google.gwt.user.client.Command;
+
+/**
+ * Opt-in tracing of keystroke latency. When enabled, each keydown starts a
+ * trace; handlers along the input path (shortcut dispatch, completion and
+ * signature popups, editor change tracking, lint scheduling) record spans
+ * into the current trace, and the trace ends once the browser has painted the
+ * next frame (a message posted from an animation frame callback is delivered
+ * only after that frame's style, layout and paint). Latencies are recorded
+ * into ClientMetrics:
+ *
+ * <pre>
+ *   input.latency.&lt;type&gt;   keydown to next paint, by document type
+ *   input.queue            keydown to first handler (time spent waiting)
+ *   input.span.&lt;name&gt;     time spent in each traced handler
+ *   input.untraced         latency not accounted for by any span (Ace's own
+ *                          input handling, layout and rendering)
+ * </pre>
+ *
+ * Tracing is off by default; spans started while it is off are no-ops.
+ */
+public class InputLatencyTracer
+{
+   public interface Span
+   {
+      void end();
+   }
+
+   private class Trace
+   {
+      Trace(double start)
+      {
+         start_ = start;
+      }
+
+      private final double start_;
+      private String documentType_ = null;
+      private double traced_ = 0;
+      private int depth_ = 0;
+      private boolean ended_ = false;
+   }
+
+   private class TraceSpan implements Span
+   {
+      TraceSpan(Trace trace, String name)
+      {
+         trace_ = trace;
+         name_ = name;
+         nested_ = trace_.depth_++ > 0;
+         start_ = now();
+      }
+
+      @Override
+      public void end()
+      {
+         if (ended_)
+            return;
+
+         ended_ = true;
+         double elapsed = now() - start_;
+         trace_.depth_--;
+
+         // time in nested spans is already accounted for by the outer span
+         if (!nested_)
+            trace_.traced_ += elapsed;
+
+         ClientMetrics.get().record(SPAN_PREFIX + name_, elapsed);
+      }
+
+      private final Trace trace_;
+      private final String name_;
+      private final boolean nested_;
+      private final double start_;
+      private boolean ended_ = false;
+   }
+
+   public static InputLatencyTracer get()
+   {
+      if (INSTANCE == null)
+         INSTANCE = new InputLatencyTracer();
+      return INSTANCE;
+   }
+
+   private InputLatencyTracer()
+   {
+   }
+
+   public boolean isEnabled()
+   {
+      return enabled_;
+   }
+
+   public void setEnabled(boolean enabled)
+   {
+      enabled_ = enabled;
+      if (!enabled_)
+         current_ = null;
+   }
+
+   /**
+    * Starts a new trace for the given keydown event; any trace in progress
+    * still ends (and is recorded) after the next paint.
+    */
+   public void beginInput(NativeEvent event)
+   {
+      if (!enabled_)
+         return;
+
+      double now = now();
+      double start = getTimeStamp(event);
+
+      // not all browsers report event times relative to the time origin
+      if (start <= 0 || start > now)
+         start = now;
+
+      final Trace trace = new Trace(start);
+      current_ = trace;
+      ClientMetrics.get().record(QUEUE, now - start);
+
+      AnimationScheduler.get().requestAnimationFrame(timestamp ->
+            afterFrame(() -> endTrace(trace)));
+   }
+
+   /**
+    * Labels the current trace with the type of document receiving input.
+    */
+   public void setDocumentType(String type)
+   {
+      if (current_ != null && !current_.ended_ && current_.documentType_ == null)
+         current_.documentType_ = type;
+   }
+
+   /**
+    * Starts a span within the current trace; returns a no-op span if tracing
+    * is disabled, or if no input is awaiting a paint. Spans may be nested, but
+    * must be ended in the reverse order to which they were started.
+    */
+   public Span startSpan(String name)
+   {
+      if (current_ == null || current_.ended_)
+         return NULL_SPAN;
+
+      return new TraceSpan(current_, name);
+   }
+
+   /**
+    * Returns a human-readable summary of input latencies, by document type,
+    * followed by the time spent in each traced handler.
+    */
+   public String toText()
+   {
+      StringBuilder builder = new StringBuilder();
+      builder.append(enabled_ ? "Input latency tracing is enabled.\n\n"
+                              : "Input latency tracing is disabled.\n\n");
+
+      ClientMetrics metrics = ClientMetrics.get();
+      for (Map.Entry<String, ClientMetrics.Histogram> entry :
+            metrics.getHistograms(PREFIX).entrySet())
+      {
+         ClientMetrics.Histogram histogram = entry.getValue();
+         builder.append(entry.getKey())
+                .append(": n=").append(histogram.getCount())
+                .append(", p50=").append(format(histogram.getPercentile(50)))
+                .append(", p95=").append(format(histogram.getPercentile(95)))
+                .append(", p99=").append(format(histogram.getPercentile(99)))
+                .append(", max=").append(format(histogram.getMax()))
+                .append(" ms\n");
+      }
+      return builder.toString();
+   }
+
+   private void endTrace(Trace trace)
+   {
+      if (trace.ended_)
+         return;
+
+      trace.ended_ = true;
+      if (current_ == trace)
+         current_ = null;
+
+      double latency = now() - trace.start_;
+      String type = trace.documentType_ == null ? OTHER : trace.documentType_;
+
+      ClientMetrics metrics = ClientMetrics.get();
+      metrics.record(LATENCY_PREFIX + type, latency);
+      metrics.record(UNTRACED, Math.max(0, latency - trace.traced_));
+   }
+
+   private static String format(double value)
+   {
+      return Double.toString(Math.round(value * 10) / 10.0);
+   }
+
+   // runs the command as a task posted from within an animation frame
+   // callback, which the browser delivers after rendering that frame
+   private static final native void afterFrame(Command command) /*-{
+      var callback = $entry(function() {
+         command.@com.google.gwt.user.client.Command::execute()();
+      });
+
+      if (typeof $wnd.MessageChannel === "function")
+      {
+         var channel = new $wnd.MessageChannel();
+         channel.port1.onmessage = callback;
+         channel.port2.postMessage(null);
+      }
+      else
+      {
+         $wnd.setTimeout(callback, 0);
+      }
+   }-*/;
+
+   private static final native double now() /*-{
+      return $wnd.performance.now();
+   }-*/;
+
+   private static final native double getTimeStamp(NativeEvent event) /*-{
+      return event.timeStamp || 0;
+   }-*/;
+
+   private boolean enabled_ = false;
+   private Trace current_ = null;
+
+   private static InputLatencyTracer INSTANCE;
+
+   private static final Span NULL_SPAN = () -> {};
+
+   private static final String PREFIX = "input.";
+   private static final String LATENCY_PREFIX = PREFIX + "latency.";
+   private static final String SPAN_PREFIX = PREFIX + "span.";
+   private static final String QUEUE = PREFIX + "queue";
+   private static final String UNTRACED = PREFIX + "untraced";
+   private static final String OTHER = "other";
+}
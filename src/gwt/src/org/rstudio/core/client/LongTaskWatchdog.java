@@ -0,0 +1,285 @@
+/*
+ * LongTaskWatchdog.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.Scheduler.RepeatingCommand;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.i18n.client.DateTimeFormat;
+
+/**
+ * Detects long tasks on the main thread: units of work (scheduled commands,
+ * client event dispatches, RPC callbacks) that run for longer than 50ms, and
+ * so delay input handling and rendering. Work is bracketed with begin() and
+ * Task.end() (or wrapped with wrap()); when a long task ends, it is
+ * attributed to the nested unit of work that took the longest, and the
+ * worst offenders are kept for display in the request log.
+ */
+public class LongTaskWatchdog
+{
+   public static class LongTask
+   {
+      private LongTask(String label, String culprit, double duration, double time)
+      {
+         label_ = label;
+         culprit_ = culprit;
+         duration_ = duration;
+         time_ = time;
+      }
+
+      public String getLabel()
+      {
+         return label_;
+      }
+
+      /**
+       * The nested unit of work that accounted for most of the task's
+       * duration, or null if the task had no (traced) nested work.
+       */
+      public String getCulprit()
+      {
+         return culprit_;
+      }
+
+      public double getDuration()
+      {
+         return duration_;
+      }
+
+      public double getTime()
+      {
+         return time_;
+      }
+
+      private final String label_;
+      private final String culprit_;
+      private final double duration_;
+      private final double time_;
+   }
+
+   public class Task
+   {
+      private Task(String label, Object subject)
+      {
+         label_ = label;
+         subject_ = subject;
+         start_ = Duration.currentTimeMillis();
+      }
+
+      public void end()
+      {
+         endTask(this);
+      }
+
+      // built only when the task is reported, since tasks are begun far
+      // more often than they run long
+      private String getLabel()
+      {
+         return subject_ == null ? label_ : label_ + " " + subject_.getClass().getName();
+      }
+
+      private String getAttribution()
+      {
+         return culprit_ == null ? getLabel() : getLabel() + " > " + culprit_;
+      }
+
+      private final String label_;
+      private final Object subject_;
+      private final double start_;
+      private String culprit_ = null;
+      private double culpritDuration_ = 0;
+      private boolean ended_ = false;
+   }
+
+   public static LongTaskWatchdog get()
+   {
+      if (INSTANCE == null)
+         INSTANCE = new LongTaskWatchdog();
+      return INSTANCE;
+   }
+
+   private LongTaskWatchdog()
+   {
+      observeBrowserLongTasks();
+   }
+
+   public Task begin(String label)
+   {
+      return begin(label, null);
+   }
+
+   /**
+    * Begins a task labeled with the given label followed by the class name
+    * of the subject (e.g. the command being run).
+    */
+   public Task begin(String label, Object subject)
+   {
+      Task task = new Task(label, subject);
+      running_.add(task);
+      return task;
+   }
+
+   /**
+    * Wraps the command so that it runs as a task, labeled with the given
+    * label followed by the command's class name.
+    */
+   public ScheduledCommand wrap(final String label, final ScheduledCommand command)
+   {
+      return () ->
+      {
+         Task task = begin(label, command);
+         try
+         {
+            command.execute();
+         }
+         finally
+         {
+            task.end();
+         }
+      };
+   }
+
+   public RepeatingCommand wrap(final String label, final RepeatingCommand command)
+   {
+      return () ->
+      {
+         Task task = begin(label, command);
+         try
+         {
+            return command.execute();
+         }
+         finally
+         {
+            task.end();
+         }
+      };
+   }
+
+   /**
+    * Returns the longest tasks seen, longest first.
+    */
+   public List<LongTask> getLongTasks()
+   {
+      return new ArrayList<>(longTasks_);
+   }
+
+   public void reset()
+   {
+      longTasks_.clear();
+   }
+
+   public String toText()
+   {
+      if (longTasks_.isEmpty())
+         return "No long tasks (> " + THRESHOLD_MS + "ms) have been detected.\n";
+
+      DateTimeFormat format = DateTimeFormat.getFormat("HH:mm:ss.SSS");
+      StringBuilder builder = new StringBuilder();
+      for (LongTask task : longTasks_)
+      {
+         builder.append(format.format(new Date((long) task.getTime())))
+                .append("  ")
+                .append(StringUtil.padRight(Math.round(task.getDuration()) + "ms", 8))
+                .append(task.getLabel());
+         if (task.getCulprit() != null)
+            builder.append(" > ").append(task.getCulprit());
+         builder.append("\n");
+      }
+      return builder.toString();
+   }
+
+   private void endTask(Task task)
+   {
+      if (task.ended_)
+         return;
+
+      task.ended_ = true;
+      double duration = Duration.currentTimeMillis() - task.start_;
+
+      // unwind to this task; tasks above it were never ended (e.g. because
+      // their work threw before reaching a finally block)
+      int index = running_.lastIndexOf(task);
+      if (index == -1)
+         return;
+      while (running_.size() > index)
+         running_.remove(running_.size() - 1);
+
+      if (duration < THRESHOLD_MS)
+         return;
+
+      if (!running_.isEmpty())
+      {
+         // attribute to the enclosing task, which will be reported instead
+         Task parent = running_.get(running_.size() - 1);
+         if (duration > parent.culpritDuration_)
+         {
+            parent.culprit_ = task.getAttribution();
+            parent.culpritDuration_ = duration;
+         }
+         return;
+      }
+
+      ClientMetrics.get().increment("longtasks");
+      ClientMetrics.get().record("longtasks.duration", duration);
+      addLongTask(new LongTask(task.getLabel(), task.culprit_, duration, task.start_));
+   }
+
+   private void addLongTask(LongTask task)
+   {
+      int size = longTasks_.size();
+      if (size == MAX_LONG_TASKS &&
+          task.getDuration() <= longTasks_.get(size - 1).getDuration())
+      {
+         return;
+      }
+
+      int index = 0;
+      while (index < size && longTasks_.get(index).getDuration() >= task.getDuration())
+         index++;
+
+      longTasks_.add(index, task);
+      if (longTasks_.size() > MAX_LONG_TASKS)
+         longTasks_.remove(longTasks_.size() - 1);
+   }
+
+   // count all long tasks seen by the browser (where supported), so that the
+   // number of long tasks not covered by any wrapped work can be estimated
+   private final native void observeBrowserLongTasks() /*-{
+      var PerformanceObserver = $wnd.PerformanceObserver;
+      if (!PerformanceObserver ||
+          !PerformanceObserver.supportedEntryTypes ||
+          PerformanceObserver.supportedEntryTypes.indexOf("longtask") === -1)
+         return;
+
+      var observer = new PerformanceObserver($entry(function(list) {
+         var entries = list.getEntries();
+         for (var i = 0; i < entries.length; i++)
+            @org.rstudio.core.client.ClientMetrics::get()().@org.rstudio.core.client.ClientMetrics::increment(*)("longtasks.browser");
+      }));
+      observer.observe({ entryTypes: ["longtask"] });
+   }-*/;
+
+   private final List<Task> running_ = new ArrayList<>();
+   private final List<LongTask> longTasks_ = new ArrayList<>();
+
+   private static LongTaskWatchdog INSTANCE;
+
+   private static final int THRESHOLD_MS = 50;
+   private static final int MAX_LONG_TASKS = 25;
+}
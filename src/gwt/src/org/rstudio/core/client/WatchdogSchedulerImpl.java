@@ -0,0 +1,87 @@
+/*
+ * WatchdogSchedulerImpl.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client;
+
+import com.google.gwt.core.client.impl.SchedulerImpl;
+
+/**
+ * Scheduler (installed in place of GWT's default implementation) that runs
+ * each scheduled command as a LongTaskWatchdog task. Commands are labeled
+ * with their class names, which are only meaningful in unobfuscated builds;
+ * nested client events and RPC callbacks still identify the work done.
+ */
+public class WatchdogSchedulerImpl extends SchedulerImpl
+{
+   @Override
+   public void scheduleDeferred(ScheduledCommand cmd)
+   {
+      super.scheduleDeferred(watchdog().wrap(DEFERRED, cmd));
+   }
+
+   @Override
+   public void scheduleEntry(RepeatingCommand cmd)
+   {
+      super.scheduleEntry(watchdog().wrap(ENTRY, cmd));
+   }
+
+   @Override
+   public void scheduleEntry(ScheduledCommand cmd)
+   {
+      super.scheduleEntry(watchdog().wrap(ENTRY, cmd));
+   }
+
+   @Override
+   public void scheduleFinally(RepeatingCommand cmd)
+   {
+      super.scheduleFinally(watchdog().wrap(FINALLY, cmd));
+   }
+
+   @Override
+   public void scheduleFinally(ScheduledCommand cmd)
+   {
+      super.scheduleFinally(watchdog().wrap(FINALLY, cmd));
+   }
+
+   @Override
+   public void scheduleFixedDelay(RepeatingCommand cmd, int delayMs)
+   {
+      super.scheduleFixedDelay(watchdog().wrap(FIXED_DELAY, cmd), delayMs);
+   }
+
+   @Override
+   public void scheduleFixedPeriod(RepeatingCommand cmd, int delayMs)
+   {
+      super.scheduleFixedPeriod(watchdog().wrap(FIXED_PERIOD, cmd), delayMs);
+   }
+
+   @Override
+   public void scheduleIncremental(RepeatingCommand cmd)
+   {
+      super.scheduleIncremental(watchdog().wrap(INCREMENTAL, cmd));
+   }
+
+   private static LongTaskWatchdog watchdog()
+   {
+      return LongTaskWatchdog.get();
+   }
+
+   // the command's class name is appended only if it runs as a long task
+   private static final String DEFERRED = "scheduler.deferred";
+   private static final String ENTRY = "scheduler.entry";
+   private static final String FINALLY = "scheduler.finally";
+   private static final String FIXED_DELAY = "scheduler.fixedDelay";
+   private static final String FIXED_PERIOD = "scheduler.fixedPeriod";
+   private static final String INCREMENTAL = "scheduler.incremental";
+}
@@ -27,6 +27,7 @@ import java.util.Set;
 import org.rstudio.core.client.BrowseCap;
 import org.rstudio.core.client.CoreClientConstants;
 import org.rstudio.core.client.ElementIds;
+import org.rstudio.core.client.InputLatencyTracer;
 import org.rstudio.core.client.Pair;
 import org.rstudio.core.client.StringUtil;
 import org.rstudio.core.client.command.KeyMap.CommandBinding;
@@ -331,10 +332,19 @@ public class ShortcutManager implements NativePreviewHandler,
       keyTimer_.schedule(3000);
       if (event.getTypeInt() == Event.ONKEYDOWN)
       {
-         if (handleKeyDown(event.getNativeEvent()))
+         InputLatencyTracer.get().beginInput(event.getNativeEvent());
+         InputLatencyTracer.Span span = InputLatencyTracer.get().startSpan("shortcuts");
+         try
          {
-            event.cancel();
-            events_.fireEvent(new RStudioCommandExecutedFromShortcutEvent());
+            if (handleKeyDown(event.getNativeEvent()))
+            {
+               event.cancel();
+               events_.fireEvent(new RStudioCommandExecutedFromShortcutEvent());
+            }
+         }
+         finally
+         {
+            span.end();
          }
       }
    }
@@ -66,6 +66,12 @@ public interface FileSystemContext
     */
    void refresh();
 
+   /**
+    * Hints that the user may soon navigate to the specified relative or
+    * absolute path, so that its contents can be listed in advance.
+    */
+   void prefetch(String relativeOrAbsolutePath);
+
    /**
     * Begin creating a folder with the specified name in the current directory.
     * An onContentsChanged() callback will be fired when it is complete (if
@@ -34,6 +34,10 @@ public abstract class PosixFileSystemContext implements FileSystemContext
       callbacks_ = callbacks;
    }
 
+   public void prefetch(String relativeOrAbsolutePath)
+   {
+   }
+
    public String combine(String root, String name)
    {
       if (name == null || name.length() == 0)
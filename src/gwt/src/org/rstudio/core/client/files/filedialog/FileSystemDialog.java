@@ -254,6 +254,13 @@ public abstract class FileSystemDialog extends ModalDialogBase
 
    public void onSelection(SelectionEvent<FileSystemItem> event)
    {
+      // list the selected directory in advance, in case it's opened next
+      FileSystemItem item = event.getSelectedItem();
+      if (item != null && item.isDirectory() &&
+          !StringUtil.equals(item.getName(), ".."))
+      {
+         context_.prefetch(item.getPath());
+      }
    }
 
    public void onProgress(String message)
@@ -21,8 +21,10 @@ import com.google.gwt.json.client.JSONArray;
 import com.google.gwt.json.client.JSONObject;
 import com.google.gwt.json.client.JSONString;
 import com.google.gwt.user.client.Random;
+import org.rstudio.core.client.ClientMetrics;
 import org.rstudio.core.client.CoreClientConstants;
 import org.rstudio.core.client.Debug;
+import org.rstudio.core.client.LongTaskWatchdog;
 import org.rstudio.core.client.jsonrpc.RequestLogEntry.ResponseType;
 import org.rstudio.studio.client.application.ApplicationCsrfToken;
 import org.rstudio.studio.client.application.Desktop;
@@ -68,7 +70,7 @@ public class RpcRequest
    {
       // final references for access from anonymous class
       final RpcRequest enclosingRequest = this;
-      final RpcRequestCallback requestCallback = callback;
+      final RpcRequestCallback requestCallback = watchCallback(callback);
       
       // build json request object
       JSONObject request = new JSONObject();
@@ -117,10 +119,14 @@ public class RpcRequest
                                            redactLog_ ? constants_.redactedText()
                                                       : requestString);
 
+         final ClientMetrics.Timing timing =
+               ClientMetrics.get().startTiming("rpc.roundTrip");
+
          request_ = builder.sendRequest(requestString, new RequestCallback() {
             
             public void onError(Request request, Throwable exception)
             {      
+               timing.stop();
                requestLogEntry_.logResponse(ResponseType.Error,
                                            exception.getLocalizedMessage());
                // ERROR: Request failed
@@ -133,6 +139,8 @@ public class RpcRequest
             public void onResponseReceived(Request request, 
                                            Response response)
             {
+               timing.stop();
+
                // only accept 200 responses
                int status = response.getStatusCode();
                if ( status == 200 )
@@ -208,6 +216,43 @@ public class RpcRequest
       }
    }
    
+   // run the callback as a long task watchdog task, so that slow handling
+   // of a response is attributed to the method that was called
+   private RpcRequestCallback watchCallback(final RpcRequestCallback callback)
+   {
+      final String label = "rpc " + method_;
+      return new RpcRequestCallback()
+      {
+         @Override
+         public void onError(RpcRequest request, RpcError error)
+         {
+            LongTaskWatchdog.Task task = LongTaskWatchdog.get().begin(label);
+            try
+            {
+               callback.onError(request, error);
+            }
+            finally
+            {
+               task.end();
+            }
+         }
+
+         @Override
+         public void onResponseReceived(RpcRequest request, RpcResponse response)
+         {
+            LongTaskWatchdog.Task task = LongTaskWatchdog.get().begin(label);
+            try
+            {
+               callback.onResponseReceived(request, response);
+            }
+            finally
+            {
+               task.end();
+            }
+         }
+      };
+   }
+
    public void cancel()
    {
       if (request_ != null)
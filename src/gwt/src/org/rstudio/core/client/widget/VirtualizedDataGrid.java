@@ -28,15 +28,24 @@ import com.google.gwt.event.dom.client.ScrollHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.cellview.client.AbstractCellTable;
 import com.google.gwt.user.cellview.client.DefaultCellTableBuilder;
+import com.google.gwt.user.cellview.client.HasKeyboardPagingPolicy.KeyboardPagingPolicy;
 import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.ui.HeaderPanel;
 import com.google.gwt.user.client.ui.ScrollPanel;
 import com.google.gwt.view.client.ProvidesKey;
+import com.google.gwt.view.client.RowCountChangeEvent;
 
 // This class acts as a DOM-virtualized version of a DataGrid, effectively
 // allowing the class to render large tables without overloading the DOM.
 // The main requirement is that all rows within the drawn table have the
 // same height.
+//
+// Only the rows in view (plus some padding on either side) are part of the
+// grid's visible range, so only those rows are ever built; the rows above and
+// below are stood in for by a single padding row each. Note that this means
+// the keyboard selected row is relative to the first active row -- use
+// getKeyboardSelectedIndex() / setKeyboardSelectedIndex() to work with
+// absolute row indices.
 public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
 {
    public class TableBuilder extends DefaultCellTableBuilder<T>
@@ -49,20 +58,17 @@ public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
       @Override
       public void buildRowImpl(T data, int index)
       {
-         // if this is the first row, draw padding
-         if (index == 0)
+         // if this is the first active row, draw padding for the rows above
+         if (index == firstActiveRow_)
          {
             drawTopRowPadding();
          }
        
-         // draw this row if it's in view
-         if (firstActiveRow_ <= index && index <= lastActiveRow_)
-         {
-            // draw this row if it's in the visibility range
-            super.buildRowImpl(data, index);
-         }
+         // only active rows are within the visible range, so we'll only
+         // be asked to build rows that are (nearly) in view
+         super.buildRowImpl(data, index);
          
-         // if this is the last row, draw padding
+         // if this is the last active row, draw padding for the rows below
          if (index == lastActiveRow_)
          {
             drawBottomRowPadding();
@@ -139,8 +145,26 @@ public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
          }
       });
       
+      // the set of active rows depends on the number of rows available
+      addRowCountChangeHandler(new RowCountChangeEvent.Handler()
+      {
+         @Override
+         public void onRowCountChange(RowCountChangeEvent event)
+         {
+            updateActiveRows();
+         }
+      });
+      
+      // keep keyboard navigation from paging the visible range; it
+      // follows the scroll position instead
+      setKeyboardPagingPolicy(KeyboardPagingPolicy.CURRENT_PAGE);
+      
       setTableBuilder(new TableBuilder(this));
       
+      firstActiveRow_ = 0;
+      lastActiveRow_ = ROW_PADDING;
+      applyActiveRows();
+      
       redrawTimer_ = new Timer()
       {
          @Override
@@ -171,33 +195,42 @@ public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
       return true;
    }
    
+   // The visible range always matches the active rows, so a caller can't
+   // page in the whole list (which would build every row, leaving the bottom
+   // padding row in the middle of the table); the page size is ignored.
    @Override
-   public void redraw()
+   public void setPageSize(int pageSize)
    {
-      redraw(true);
+      applyActiveRows();
    }
    
-   private void redraw(boolean update)
+   @Override
+   public void redraw()
    {
-      if (update)
-         updateActiveRows();
-      
+      // reapply the active rows even when they haven't moved, in case the
+      // visible range was changed from underneath us
+      if (!updateActiveRows())
+         applyActiveRows();
       super.redraw();
    }
    
    public void redrawIfNecessary()
    {
-      int oldFirstActiveRow = firstActiveRow_;
-      int oldLastActiveRow = lastActiveRow_;
-      updateActiveRows();
-      
-      boolean changed =
-            (firstActiveRow_ != oldFirstActiveRow) ||
-            (lastActiveRow_ != oldLastActiveRow);
+      // nothing to do if the rows in view are still comfortably within the
+      // active rows; this keeps most scrolls from touching the DOM at all
+      int n = getTotalNumberOfRows();
+      int firstVisibleRow = getFirstVisibleRow();
+      int lastVisibleRow = firstVisibleRow + getVisibleRowCount();
+      boolean covered =
+            (firstActiveRow_ == 0 || firstVisibleRow - firstActiveRow_ >= ROW_MARGIN) &&
+            (lastActiveRow_ >= n - 1 || lastActiveRow_ - lastVisibleRow >= ROW_MARGIN);
+      if (covered)
+         return;
       
-      if (changed)
+      // otherwise, shift the active rows; updating the visible range
+      // rebuilds only the active rows, however many rows there are
+      if (updateActiveRows())
       {
-         redraw(false);
          Scheduler.get().scheduleDeferred(new ScheduledCommand()
          {
             @Override
@@ -247,6 +280,29 @@ public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
       return (int) (pseudoRowCount * getRowHeight());
    }
    
+   // Returns the (absolute) index of the keyboard selected row, or -1 if
+   // no row is selected.
+   public final int getKeyboardSelectedIndex()
+   {
+      int row = getKeyboardSelectedRow();
+      return row < 0 ? -1 : firstActiveRow_ + row;
+   }
+   
+   public final void setKeyboardSelectedIndex(int index)
+   {
+      setKeyboardSelectedIndex(index, true);
+   }
+   
+   // Selects the row at the given (absolute) index, making it active first
+   // if necessary.
+   public final void setKeyboardSelectedIndex(int index, boolean stealFocus)
+   {
+      if (index < firstActiveRow_ || index > lastActiveRow_)
+         setActiveRows(index - getVisibleRowCount() / 2);
+      
+      setKeyboardSelectedRow(index - firstActiveRow_, stealFocus);
+   }
+   
    public final int getVerticalScrollPosition()
    {
       int tableTop =
@@ -262,24 +318,47 @@ public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
       panel.setVerticalScrollPosition(position);
    }
    
-   private final void updateActiveRows()
+   // the number of rows that have been scrolled (this is, approximately,
+   // the first visible row)
+   private final int getFirstVisibleRow()
+   {
+      return Math.max(0, (int) (getVerticalScrollPosition() / getRowHeight()));
+   }
+   
+   // the number of rows that fit in view
+   private final int getVisibleRowCount()
+   {
+      return (int) (getOffsetHeight() / getRowHeight());
+   }
+   
+   private final boolean updateActiveRows()
+   {
+      // use padding to allow smoother scrolling
+      return setActiveRows(getFirstVisibleRow() - ROW_PADDING);
+   }
+   
+   // Sets the active rows to start at the given row (clamped to the rows
+   // available), and updates the visible range to match. Returns true if
+   // the active rows changed.
+   private final boolean setActiveRows(int firstRow)
    {
       int n = getTotalNumberOfRows();
-      double rowHeight = getRowHeight();
-      
-      // determine how much the table body element has been scrolled
-      int scrollAmount = getVerticalScrollPosition();
+      int count = getVisibleRowCount() + 2 * ROW_PADDING;
       
-      // determine the number of rows that have been scrolled
-      // (this is, approximately, the first visible row)
-      int numRowsScrolled = (int) (scrollAmount / rowHeight);
+      int firstActiveRow = Math.max(0, Math.min(firstRow, n - count));
+      int lastActiveRow = Math.max(firstActiveRow, Math.min(n - 1, firstActiveRow + count));
+      if (firstActiveRow == firstActiveRow_ && lastActiveRow == lastActiveRow_)
+         return false;
       
-      // determine the total number of rows visible
-      int rowsActive = (int) (getOffsetHeight() / rowHeight);
-      
-      // set our active rows -- use padding to allow smoother scrolling
-      firstActiveRow_ = Math.max(0, numRowsScrolled - ROW_PADDING);
-      lastActiveRow_ = Math.min(n, numRowsScrolled + rowsActive + ROW_PADDING);
+      firstActiveRow_ = firstActiveRow;
+      lastActiveRow_ = lastActiveRow;
+      applyActiveRows();
+      return true;
+   }
+   
+   private final void applyActiveRows()
+   {
+      setVisibleRange(firstActiveRow_, lastActiveRow_ - firstActiveRow_ + 1);
    }
    
    private int firstActiveRow_;
@@ -287,6 +366,12 @@ public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
    private Timer redrawTimer_;
    
    // Static Members ----
+   
+   // the number of rows built above and below those in view
    private static final int ROW_PADDING = 200;
+   
+   // how close the rows in view can get to the edge of the active rows
+   // before the active rows are shifted
+   private static final int ROW_MARGIN = ROW_PADDING / 4;
    private static final Resources RES = GWT.create(RStudioDataGridResources.class);
 }
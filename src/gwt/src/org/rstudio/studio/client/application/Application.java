@@ -23,6 +23,7 @@ import org.rstudio.core.client.BrowseCap;
 import org.rstudio.core.client.Debug;
 import org.rstudio.core.client.DragDropReceiver;
 import org.rstudio.core.client.ElementIds;
+import org.rstudio.core.client.InputLatencyTracer;
 import org.rstudio.core.client.StringUtil;
 import org.rstudio.core.client.command.CommandBinder;
 import org.rstudio.core.client.command.Handler;
@@ -665,6 +666,14 @@ public class Application implements ApplicationEventHandlers
       });
    }
 
+   @Handler
+   public void onTraceInputLatency()
+   {
+      InputLatencyTracer tracer = InputLatencyTracer.get();
+      tracer.setEnabled(!tracer.isEnabled());
+      commands_.traceInputLatency().setChecked(tracer.isEnabled());
+   }
+
    @Handler
    public void onLogFocusedElement()
    {
@@ -107,6 +107,17 @@ import com.google.inject.Singleton;
  *                                        // (advances when a submitted command
  *                                        // completes); a race-free completion
  *                                        // signal, vs sampling the busy class
+ *
+ *   window.rstudio.metrics.snapshot()    // client performance metrics:
+ *                                        // { counters, gauges, histograms },
+ *                                        // histograms summarized as
+ *                                        // { count, mean, p50, p95, p99, max }
+ *                                        // in ms (see ClientMetrics)
+ *   window.rstudio.metrics.reset()       // discard counts and recorded timings
+ *   window.rstudio.metrics.setInputTracing(enabled)
+ *                                        // record keystroke-to-frame latency
+ *                                        // as 'input.*' histograms (see
+ *                                        // InputLatencyTracer)
  * </pre>
  *
  * <h2>Why enumerate everything up front</h2>
@@ -176,6 +187,7 @@ public class ApplicationAutomation
       registerErrors();
       registerConsole();
       registerCompletions();
+      registerMetrics();
       registerReadinessHandlers();
    }
 
@@ -348,6 +360,11 @@ public class ApplicationAutomation
       registerCompletionsObject();
    }
 
+   private void registerMetrics()
+   {
+      registerMetricsObject();
+   }
+
    // Record uncaught client exceptions where the automation harness can see
    // them. The default ApplicationUncaughtExceptionHandler shows an "Error"
    // dialog (message only -- no stack) and best-effort logs to the server,
@@ -934,6 +951,21 @@ public class ApplicationAutomation
       });
    }-*/;
 
+   // window.rstudio.metrics: exposes ClientMetrics, so that tests
+   // can assert performance budgets (e.g. the p95 of 'events.drain').
+   private native final void registerMetricsObject() /*-{
+      $wnd.rstudio.metrics = $wnd.rstudio.metrics || {};
+      $wnd.rstudio.metrics.snapshot = $entry(function() {
+         return @org.rstudio.core.client.ClientMetrics::get()().@org.rstudio.core.client.ClientMetrics::toJso()();
+      });
+      $wnd.rstudio.metrics.reset = $entry(function() {
+         @org.rstudio.core.client.ClientMetrics::get()().@org.rstudio.core.client.ClientMetrics::reset()();
+      });
+      $wnd.rstudio.metrics.setInputTracing = $entry(function(enabled) {
+         @org.rstudio.core.client.InputLatencyTracer::get()().@org.rstudio.core.client.InputLatencyTracer::setEnabled(*)(!!enabled);
+      });
+   }-*/;
+
    private void setCompletionPopupForced(boolean forced)
    {
       completionPopupForced_ = forced;
@@ -0,0 +1,24 @@
+/*
+ * DocumentScopedEvent.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.application.events;
+
+// An event that concerns a single source document. In addition to the
+// handlers registered with EventBus.addHandler, these events are delivered to
+// the handlers registered for their document with EventBus.addDocumentHandler.
+public interface DocumentScopedEvent
+{
+   // The id of the document the event concerns (or null if none)
+   String getDocId();
+}
@@ -14,6 +14,10 @@
  */
 package org.rstudio.studio.client.application.events;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.rstudio.core.client.ClientMetrics;
 import org.rstudio.core.client.Debug;
 import org.rstudio.core.client.dom.WindowEx;
 import org.rstudio.core.client.js.JavaScriptSerializer;
@@ -47,6 +51,9 @@ public class EventBus extends HandlerManager implements FireEvents
       pSatellite_ = pSatellite;
       pManager_ = pManager;
       exportNativeCallbacks();
+
+      ClientMetrics.get().registerGauge("eventbus.documentDispatches",
+                                        () -> documentDispatchCount_);
    }
    
    @Override
@@ -90,16 +97,101 @@ public class EventBus extends HandlerManager implements FireEvents
          }
          else
          {
-            super.fireEvent(event);
+            fireLocalEvent(event);
          }
       }
       else
       {
-         super.fireEvent(event);
+         fireLocalEvent(event);
       }
       
    }
    
+   // delivers the event to the handlers registered in this window: first the
+   // global handlers, and then (for document-scoped events) the handlers
+   // registered for the event's document
+   private void fireLocalEvent(GwtEvent<?> event)
+   {
+      super.fireEvent(event);
+
+      if (!(event instanceof DocumentScopedEvent))
+         return;
+
+      String docId = ((DocumentScopedEvent) event).getDocId();
+      if (docId == null)
+         return;
+
+      HandlerManager handlers = documentHandlers_.get(docId);
+      if (handlers == null)
+         return;
+
+      documentDispatchCount_ += handlers.getHandlerCount(event.getAssociatedType());
+      handlers.fireEvent(event);
+   }
+
+   /**
+    * Registers a handler for document-scoped events concerning the given
+    * document only. Unlike handlers registered with addHandler, the handler
+    * isn't invoked (and so needn't filter out) events for other documents, so
+    * the cost of delivering such an event doesn't grow with the number of
+    * open documents.
+    */
+   public <H extends EventHandler> HandlerRegistration addDocumentHandler(
+         final String docId, Type<H> type, H handler)
+   {
+      HandlerManager handlers = documentHandlers_.get(docId);
+      if (handlers == null)
+      {
+         handlers = new HandlerManager(null);
+         documentHandlers_.put(docId, handlers);
+      }
+
+      final HandlerManager docHandlers = handlers;
+      final HandlerRegistration reg = docHandlers.addHandler(type, handler);
+      documentHandlerCounts_.put(docId, getDocumentHandlerCount(docId) + 1);
+
+      return new HandlerRegistration()
+      {
+         @Override
+         public void removeHandler()
+         {
+            if (removed_)
+               return;
+            removed_ = true;
+            reg.removeHandler();
+
+            // forget the document once its last handler is removed
+            int count = getDocumentHandlerCount(docId) - 1;
+            if (count > 0)
+            {
+               documentHandlerCounts_.put(docId, count);
+            }
+            else
+            {
+               documentHandlerCounts_.remove(docId);
+               if (documentHandlers_.get(docId) == docHandlers)
+                  documentHandlers_.remove(docId);
+            }
+         }
+
+         private boolean removed_ = false;
+      };
+   }
+
+   // the number of handlers currently registered for the given document
+   public int getDocumentHandlerCount(String docId)
+   {
+      Integer count = documentHandlerCounts_.get(docId);
+      return count == null ? 0 : count;
+   }
+
+   // the total number of handler invocations made for document-scoped events
+   // since startup; a diagnostic for the cost of routing those events
+   public int getDocumentDispatchCount()
+   {
+      return documentDispatchCount_;
+   }
+
    @Override
    public void fireEventToAllSatellites(CrossWindowEvent<?> event)
    {
@@ -183,6 +275,10 @@ public class EventBus extends HandlerManager implements FireEvents
       Debug.logObject(event);
    }
    
+   private final Map<String, HandlerManager> documentHandlers_ = new HashMap<>();
+   private final Map<String, Integer> documentHandlerCounts_ = new HashMap<>();
+   private int documentDispatchCount_ = 0;
+
    private Provider<Satellite> pSatellite_;
    private Provider<SatelliteManager> pManager_;
    private JavaScriptSerializer serializer_;
@@ -34,7 +34,10 @@ import com.google.gwt.user.client.Event.NativePreviewEvent;
 import com.google.gwt.user.client.Event.NativePreviewHandler;
 import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.ui.*;
+import org.rstudio.core.client.ClientMetrics;
 import org.rstudio.core.client.CsvReader;
+import org.rstudio.core.client.InputLatencyTracer;
+import org.rstudio.core.client.LongTaskWatchdog;
 import org.rstudio.core.client.CsvWriter;
 import org.rstudio.core.client.command.KeyboardShortcut;
 import org.rstudio.core.client.jsonrpc.RequestLog;
@@ -42,6 +45,7 @@ import org.rstudio.core.client.jsonrpc.RequestLogEntry;
 import org.rstudio.core.client.jsonrpc.RequestLogEntry.ResponseType;
 import org.rstudio.core.client.widget.ModalDialog;
 import org.rstudio.core.client.widget.OperationWithInput;
+import org.rstudio.core.client.widget.PreWidget;
 import org.rstudio.core.client.widget.ScrollPanelWithClick;
 import org.rstudio.studio.client.application.StudioClientApplicationConstants;
 
@@ -250,6 +254,15 @@ public class RequestLogVisualization extends Composite
       return addHandler(handler, CloseEvent.getType());
    }
 
+   private void showText(String text)
+   {
+      PreWidget pre = new PreWidget();
+      pre.setText(text);
+      ScrollPanel scroller = new ScrollPanel(pre);
+      scroller.setSize("100%", "100%");
+      detail_.setWidget(scroller);
+   }
+
    public void onPreviewNativeEvent(NativePreviewEvent event)
    {
       if (event.getTypeInt() == Event.ONKEYDOWN)
@@ -277,6 +290,18 @@ public class RequestLogVisualization extends Composite
             }
             timerIsRunning_ = !timerIsRunning_;
          }
+         else if (keyCode == 'M')
+         {
+            showText(ClientMetrics.get().toText());
+         }
+         else if (keyCode == 'L')
+         {
+            showText(InputLatencyTracer.get().toText());
+         }
+         else if (keyCode == 'T')
+         {
+            showText(LongTaskWatchdog.get().toText());
+         }
          else if (keyCode == 'E')
          {
             CsvWriter writer = new CsvWriter();
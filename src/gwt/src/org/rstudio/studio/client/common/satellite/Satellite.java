@@ -16,6 +16,7 @@ package org.rstudio.studio.client.common.satellite;
 
 import org.rstudio.core.client.CommandWithArg;
 import org.rstudio.core.client.dom.WindowEx;
+import org.rstudio.core.client.js.JsUtil;
 import org.rstudio.studio.client.RStudioGinjector;
 import org.rstudio.studio.client.application.Desktop;
 import org.rstudio.studio.client.application.events.EventBus;
@@ -29,6 +30,7 @@ import org.rstudio.studio.client.workbench.model.SessionInfo;
 import org.rstudio.studio.client.workbench.prefs.model.UserPrefs;
 
 import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayString;
 import com.google.gwt.event.dom.client.FocusEvent;
 import com.google.gwt.event.dom.client.FocusHandler;
 import com.google.gwt.event.logical.shared.CloseEvent;
@@ -124,6 +126,18 @@ public class Satellite implements HasCloseHandlers<Satellite>
       $wnd.opener.flushPendingEvents(name);
    }-*/;
 
+   // let the main window know which client event types this satellite
+   // consumes, so that it can avoid forwarding (or buffering) the others
+   public void setClientEventTypes(String[] types)
+   {
+      setClientEventTypesNative(getSatelliteName(), JsUtil.toJsArrayString(types));
+   }
+
+   private native final void setClientEventTypesNative(String name,
+                                                       JsArrayString types) /*-{
+      $wnd.opener.setRStudioSatelliteEventTypes(name, types);
+   }-*/;
+
    // satellite windows should call this during startup to setup a
    // communication channel with the main window
    private native void initializeNative(String name) /*-{
@@ -117,6 +117,18 @@ public class SatelliteApplication
    {
       return false;
    }
+
+   /**
+    * Have subclasses override and return the types of client events (e.g.
+    * "html_preview_output_event") that the satellite application handles.
+    * The main window will then only forward those events (along with the
+    * session-wide events every satellite needs) to this satellite.
+    * @return The client event types handled, or null to receive all events.
+    */
+   protected String[] getClientEventTypes()
+   {
+      return null;
+   }
    
    public void go(RootLayoutPanel rootPanel, 
                   final Command dismissLoadingProgress)
@@ -131,6 +143,11 @@ public class SatelliteApplication
                                }
                             });
 
+      // declare the events we consume before any pending events are flushed
+      String[] eventTypes = getClientEventTypes();
+      if (eventTypes != null)
+         satellite_.setClientEventTypes(eventTypes);
+
       if (!manuallyFlushPendingEvents())
       {
          flushPendingEvents();
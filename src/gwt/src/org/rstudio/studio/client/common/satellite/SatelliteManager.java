@@ -15,8 +15,11 @@
 package org.rstudio.studio.client.common.satellite;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.rstudio.core.client.BrowseCap;
 import org.rstudio.core.client.Debug;
@@ -27,6 +30,7 @@ import org.rstudio.core.client.command.AppCommand;
 import org.rstudio.core.client.dom.DomUtils;
 import org.rstudio.core.client.dom.WindowEx;
 import org.rstudio.core.client.js.JsObject;
+import org.rstudio.core.client.js.JsUtil;
 import org.rstudio.core.client.layout.ScreenUtils;
 import org.rstudio.studio.client.RStudioGinjector;
 import org.rstudio.studio.client.application.ApplicationUncaughtExceptionHandler;
@@ -38,12 +42,14 @@ import org.rstudio.studio.client.common.satellite.events.AllSatellitesClosingEve
 import org.rstudio.studio.client.common.satellite.events.SatelliteClosedEvent;
 import org.rstudio.studio.client.common.satellite.events.WindowClosedEvent;
 import org.rstudio.studio.client.common.satellite.events.WindowOpenedEvent;
+import org.rstudio.studio.client.server.remote.ClientEvent;
 import org.rstudio.studio.client.workbench.model.Session;
 import org.rstudio.studio.client.workbench.model.SessionInfo;
 import org.rstudio.studio.client.workbench.prefs.model.UserPrefs;
 import org.rstudio.studio.client.workbench.views.source.SourceWindowManager;
 
 import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayString;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.Window.ClosingEvent;
@@ -342,9 +348,11 @@ public class SatelliteManager implements ClosingHandler
       }
    }
 
-   // dispatch an event to all satellites
+   // dispatch an event to all satellites that consume it
    public void dispatchClientEvent(JavaScriptObject clientEvent)
    {
+      String type = getClientEventType(clientEvent);
+
       // list of windows to remove (because they were closed)
       ArrayList<ActiveSatellite> removeWindows = null;
 
@@ -369,9 +377,14 @@ public class SatelliteManager implements ClosingHandler
                   removeWindows = new ArrayList<>();
                removeWindows.add(satellite);
             }
+            else if (!isEventConsumed(satellite.getName(), type))
+            {
+               droppedEventCount_++;
+            }
             else
             {
                callDispatchEvent(satelliteWnd, clientEvent);
+               forwardedEventCount_++;
             }
          }
          catch(Throwable e)
@@ -382,7 +395,28 @@ public class SatelliteManager implements ClosingHandler
       for (Entry<String, ArrayList<JavaScriptObject>> entry :
                                        pendingEventsBySatelliteName_.entrySet())
       {
-         entry.getValue().add(clientEvent);
+         if (!isEventConsumed(entry.getKey(), type))
+         {
+            droppedEventCount_++;
+            continue;
+         }
+
+         // for events that describe current state, only the most recent
+         // one is worth delivering once the satellite has loaded
+         ArrayList<JavaScriptObject> pending = entry.getValue();
+         if (COALESCED_EVENT_TYPES.contains(type))
+         {
+            for (int i = pending.size() - 1; i >= 0; i--)
+            {
+               if (type.equals(getClientEventType(pending.get(i))))
+               {
+                  pending.remove(i);
+                  droppedEventCount_++;
+                  break;
+               }
+            }
+         }
+         pending.add(clientEvent);
       }
 
       // remove windows if necessary
@@ -395,6 +429,20 @@ public class SatelliteManager implements ClosingHandler
       }
    }
 
+   // the number of client events forwarded to satellites
+   public int getForwardedEventCount()
+   {
+      return forwardedEventCount_;
+   }
+
+   // the number of client events not forwarded to satellites, either because
+   // the satellite doesn't consume them or because they were superseded by a
+   // newer event while the satellite was loading
+   public int getDroppedEventCount()
+   {
+      return droppedEventCount_;
+   }
+
    // dispatch a command to the named satellite window, or to the main window
    // if no target is specified
    public void dispatchCommand(AppCommand command, String target)
@@ -454,6 +502,9 @@ public class SatelliteManager implements ClosingHandler
       if (!satellites_.contains(satellite))
          satellites_.add(satellite);
 
+      // the satellite will (re-)declare the events it consumes, if any
+      eventTypesBySatelliteName_.remove(name);
+
       // augment the current session info with an up-to-date set of source
       // documents
       SessionInfo sessionInfo = session_.getSessionInfo();
@@ -500,6 +551,21 @@ public class SatelliteManager implements ClosingHandler
       }
    }
 
+   // called by satellites to declare the client event types they consume
+   private void setSatelliteEventTypes(String name, JsArrayString types)
+   {
+      HashSet<String> eventTypes = new HashSet<>(ALWAYS_FORWARDED_EVENT_TYPES);
+      for (String type : JsUtil.asIterable(types))
+         eventTypes.add(type);
+      eventTypesBySatelliteName_.put(name, eventTypes);
+   }
+
+   private boolean isEventConsumed(String name, String type)
+   {
+      HashSet<String> eventTypes = eventTypesBySatelliteName_.get(name);
+      return eventTypes == null || eventTypes.contains(type);
+   }
+
    private void flushPendingEvents(String name)
    {
       ArrayList<JavaScriptObject> events =
@@ -516,9 +582,18 @@ public class SatelliteManager implements ClosingHandler
          {
             for (JavaScriptObject evt : events)
             {
+               // the satellite may have declared its events after these
+               // were buffered
+               if (!isEventConsumed(name, getClientEventType(evt)))
+               {
+                  droppedEventCount_++;
+                  continue;
+               }
+
                try
                {
                   callDispatchEvent(satellite.getWindow(), evt);
+                  forwardedEventCount_++;
                }
                catch (Exception e)
                {
@@ -555,6 +630,11 @@ public class SatelliteManager implements ClosingHandler
             manager.@org.rstudio.studio.client.common.satellite.SatelliteManager::unregisterDesktopChildWindow(Ljava/lang/String;)(name);
          }
       );
+      $wnd.setRStudioSatelliteEventTypes = $entry(
+         function(name, types) {
+            manager.@org.rstudio.studio.client.common.satellite.SatelliteManager::setSatelliteEventTypes(Ljava/lang/String;Lcom/google/gwt/core/client/JsArrayString;)(name, types);
+         }
+      );
       $wnd.notifyRStudioSatelliteClosed = $entry(
          function(name) {
             manager.@org.rstudio.studio.client.common.satellite.SatelliteManager::notifyRStudioSatelliteClosed(Ljava/lang/String;)(name);
@@ -609,6 +689,10 @@ public class SatelliteManager implements ClosingHandler
       satellite.notifyRStudioSatelliteReactivated(params);
    }-*/;
 
+   private native String getClientEventType(JavaScriptObject clientEvent) /*-{
+      return clientEvent.type;
+   }-*/;
+
    // dispatch event to a satellite
    private native void callDispatchEvent(JavaScriptObject satellite,
                                          JavaScriptObject clientEvent) /*-{
@@ -665,6 +749,38 @@ public class SatelliteManager implements ClosingHandler
    private final HashMap<String, ArrayList<JavaScriptObject>>
          pendingEventsBySatelliteName_ = new HashMap<>();
 
+   // client event types consumed, for satellites that have declared them
+   private final HashMap<String, HashSet<String>>
+         eventTypesBySatelliteName_ = new HashMap<>();
+
+   private int forwardedEventCount_ = 0;
+   private int droppedEventCount_ = 0;
+
+   // session-wide events that every satellite needs, whatever it declares
+   private static final Set<String> ALWAYS_FORWARDED_EVENT_TYPES = new HashSet<>(Arrays.asList(
+         ClientEvent.AbendWarning,
+         ClientEvent.Busy,
+         ClientEvent.ComputeThemeColors,
+         ClientEvent.DeferredInitCompleted,
+         ClientEvent.Quit,
+         ClientEvent.ReloadWithLastChanceSave,
+         ClientEvent.SessionSerialization,
+         ClientEvent.ShowErrorMessage,
+         ClientEvent.ShowMessage,
+         ClientEvent.Suicide,
+         ClientEvent.SuspendAndRestart,
+         ClientEvent.UserPrefsChanged,
+         ClientEvent.UserStateChanged));
+
+   // events describing current state, of which only the most recent need be
+   // delivered to a satellite that is still loading
+   private static final Set<String> COALESCED_EVENT_TYPES = new HashSet<>(Arrays.asList(
+         ClientEvent.Busy,
+         ClientEvent.EnvironmentRefresh,
+         ClientEvent.MemoryUsageChanged,
+         ClientEvent.PlotsStateChanged,
+         ClientEvent.SessionCountChanged));
+
    private class ActiveSatellite
    {
       public ActiveSatellite(String name, WindowEx window)
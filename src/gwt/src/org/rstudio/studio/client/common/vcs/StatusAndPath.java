@@ -24,30 +24,39 @@ public class StatusAndPath
 {
    public static class PathComparator implements Comparator<StatusAndPath>
    {
-      private String[] splitDirAndName(String path)
-      {
-         int index = path.lastIndexOf("/");
-         if (index < 0)
-            index = path.lastIndexOf("\\");
-         if (index < 0)
-            return new String[] { "", path };
-         else
-            return new String[] { StringUtil.substring(path, 0, index),
-                                  StringUtil.substring(path, index + 1) };
-      }
-
       @Override
       public int compare(StatusAndPath a, StatusAndPath b)
       {
-         String[] splitA = splitDirAndName(a.getPath());
-         String[] splitB = splitDirAndName(b.getPath());
-         int result = splitA[0].compareTo(splitB[0]);
-         if (result == 0)
-            result = splitA[1].compareTo(splitB[1]);
-         return result;
+         return compareDirAndName(a.sortDir_, a.sortName_,
+                                  b.sortDir_, b.sortName_);
       }
    }
 
+   // Shared instance; the comparator is stateless, so callers sorting
+   // changelists should prefer this over allocating their own.
+   public static final PathComparator PATH_COMPARATOR = new PathComparator();
+
+   // Orders paths by parent directory first and then by name, so that files
+   // in the same directory sort together.
+   public static int compareDirAndName(String dirA, String nameA,
+                                       String dirB, String nameB)
+   {
+      int result = dirA.compareTo(dirB);
+      if (result == 0)
+         result = nameA.compareTo(nameB);
+      return result;
+   }
+
+   // Returns the index of the separator between a path's directory and name,
+   // or -1 if the path has no directory component.
+   private static int dirSeparatorIndex(String path)
+   {
+      int index = path.lastIndexOf("/");
+      if (index < 0)
+         index = path.lastIndexOf("\\");
+      return index;
+   }
+
    public static ArrayList<StatusAndPath> fromInfos(
          JsArray<StatusAndPathInfo> infos)
    {
@@ -75,6 +84,21 @@ public class StatusAndPath
       changelist_ = info.getChangelist();
       discardable_ = info.isDiscardable();
       directory_ = info.isDirectory();
+
+      // Sorting large changelists compares each entry many times, so split
+      // the path into its sort keys once up front rather than per comparison.
+      String path = StringUtil.notNull(path_);
+      int index = dirSeparatorIndex(path);
+      if (index < 0)
+      {
+         sortDir_ = "";
+         sortName_ = path;
+      }
+      else
+      {
+         sortDir_ = StringUtil.substring(path, 0, index);
+         sortName_ = StringUtil.substring(path, index + 1);
+      }
    }
 
    public String getStatus()
@@ -135,4 +159,6 @@ public class StatusAndPath
    private final boolean discardable_;
    private final boolean directory_;
    private final String changelist_;
+   private final String sortDir_;
+   private final String sortName_;
 }
@@ -15,6 +15,7 @@
 
 package org.rstudio.studio.client.rmarkdown.events;
 
+import org.rstudio.studio.client.application.events.DocumentScopedEvent;
 import org.rstudio.studio.client.rmarkdown.model.RmdChunkOptions;
 
 import com.google.gwt.core.client.JavaScriptObject;
@@ -23,6 +24,7 @@ import com.google.gwt.event.shared.GwtEvent;
 
 public class ChunkExecStateChangedEvent
              extends GwtEvent<ChunkExecStateChangedEvent.Handler>
+             implements DocumentScopedEvent
 {
    public static class Data extends JavaScriptObject
    {
@@ -58,6 +60,7 @@ public class ChunkExecStateChangedEvent
       data_ = data;
    }
 
+   @Override
    public String getDocId()
    {
       return data_.getDocId();
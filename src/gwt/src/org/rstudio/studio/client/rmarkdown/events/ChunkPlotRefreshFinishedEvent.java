@@ -15,12 +15,15 @@
 
 package org.rstudio.studio.client.rmarkdown.events;
 
+import org.rstudio.studio.client.application.events.DocumentScopedEvent;
+
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.GwtEvent;
 
 public class ChunkPlotRefreshFinishedEvent
              extends GwtEvent<ChunkPlotRefreshFinishedEvent.Handler>
+             implements DocumentScopedEvent
 {
    public interface Handler extends EventHandler
    {
@@ -57,6 +60,12 @@ public class ChunkPlotRefreshFinishedEvent
       return data_;
    }
 
+   @Override
+   public String getDocId()
+   {
+      return data_.getDocId();
+   }
+
    @Override
    public Type<Handler> getAssociatedType()
    {
@@ -15,6 +15,7 @@
 
 package org.rstudio.studio.client.rmarkdown.events;
 
+import org.rstudio.studio.client.application.events.DocumentScopedEvent;
 import org.rstudio.studio.client.rmarkdown.model.NotebookExecRange;
 
 import com.google.gwt.core.client.JavaScriptObject;
@@ -23,6 +24,7 @@ import com.google.gwt.event.shared.GwtEvent;
 
 public class NotebookRangeExecutedEvent
              extends GwtEvent<NotebookRangeExecutedEvent.Handler>
+             implements DocumentScopedEvent
 {
    public static class Data extends JavaScriptObject
    {
@@ -62,6 +64,7 @@ public class NotebookRangeExecutedEvent
       data_ = data;
    }
 
+   @Override
    public String getDocId()
    {
       return data_.getDocId();
@@ -15,12 +15,14 @@
 
 package org.rstudio.studio.client.rmarkdown.events;
 
+import org.rstudio.studio.client.application.events.DocumentScopedEvent;
 import org.rstudio.studio.client.rmarkdown.model.RmdChunkOutput;
 
 import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.GwtEvent;
 
 public class RmdChunkOutputEvent extends GwtEvent<RmdChunkOutputEvent.Handler>
+             implements DocumentScopedEvent
 {
    public interface Handler extends EventHandler
    {
@@ -37,6 +39,12 @@ public class RmdChunkOutputEvent extends GwtEvent<RmdChunkOutputEvent.Handler>
       return output_;
    }
 
+   @Override
+   public String getDocId()
+   {
+      return output_.getDocId();
+   }
+
    @Override
    public Type<Handler> getAssociatedType()
    {
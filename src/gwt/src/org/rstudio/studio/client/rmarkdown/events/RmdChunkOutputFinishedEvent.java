@@ -15,12 +15,15 @@
 
 package org.rstudio.studio.client.rmarkdown.events;
 
+import org.rstudio.studio.client.application.events.DocumentScopedEvent;
+
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.GwtEvent;
 
 public class RmdChunkOutputFinishedEvent
              extends GwtEvent<RmdChunkOutputFinishedEvent.Handler>
+             implements DocumentScopedEvent
 {
    public interface Handler extends EventHandler
    {
@@ -68,6 +71,12 @@ public class RmdChunkOutputFinishedEvent
       return data_;
    }
 
+   @Override
+   public String getDocId()
+   {
+      return data_.getDocId();
+   }
+
    @Override
    public Type<Handler> getAssociatedType()
    {
@@ -15,6 +15,7 @@
 
 package org.rstudio.studio.client.rmarkdown.events;
 
+import org.rstudio.studio.client.application.events.DocumentScopedEvent;
 import org.rstudio.studio.client.rmarkdown.model.NotebookQueueUnit;
 import org.rstudio.studio.client.workbench.views.source.editors.text.Scope;
 import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Range;
@@ -24,6 +25,7 @@ import com.google.gwt.event.shared.GwtEvent;
 
 public class SendToChunkConsoleEvent
              extends GwtEvent<SendToChunkConsoleEvent.Handler>
+             implements DocumentScopedEvent
 {
    public interface Handler extends EventHandler
    {
@@ -53,6 +55,7 @@ public class SendToChunkConsoleEvent
       }
    }
 
+   @Override
    public String getDocId()
    {
       return docId_;
@@ -18,6 +18,7 @@ package org.rstudio.studio.client.server.remote;
 import java.util.ArrayList;
 
 import org.rstudio.core.client.Debug;
+import org.rstudio.core.client.LongTaskWatchdog;
 import org.rstudio.core.client.command.CommandCallbacksChangedEvent;
 import org.rstudio.core.client.events.ExecuteAppCommandEvent;
 import org.rstudio.core.client.events.HighlightEvent;
@@ -294,7 +295,12 @@ public class ClientEventDispatcher
                     i++)
                {
                   ClientEvent currentEvent = pendingEvents_.remove(0);
+
+                  // dispatchEvent() handles any exceptions itself
+                  LongTaskWatchdog.Task task =
+                        LongTaskWatchdog.get().begin("event " + currentEvent.getType());
                   dispatchEvent(currentEvent);
+                  task.end();
                }
                return pendingEvents_.size() > 0;
             }
@@ -206,6 +206,7 @@ import org.rstudio.studio.client.workbench.views.environment.model.RObject;
 import org.rstudio.studio.client.workbench.views.files.model.DirectoryListing;
 import org.rstudio.studio.client.workbench.views.files.model.FileUploadToken;
 import org.rstudio.studio.client.workbench.views.help.model.HelpInfo;
+import org.rstudio.studio.client.workbench.views.help.model.HelpTopicIndexUpdate;
 import org.rstudio.studio.client.workbench.views.history.model.HistoryEntry;
 import org.rstudio.studio.client.workbench.views.jobs.model.JobLaunchSpec;
 import org.rstudio.studio.client.workbench.views.jobs.model.JobOutput;
@@ -231,6 +232,7 @@ import org.rstudio.studio.client.workbench.views.source.model.CppCapabilities;
 import org.rstudio.studio.client.workbench.views.source.model.CppCompletionResult;
 import org.rstudio.studio.client.workbench.views.source.model.CppDiagnostic;
 import org.rstudio.studio.client.workbench.views.source.model.CppSourceLocation;
+import org.rstudio.studio.client.workbench.views.source.model.DocumentDelta;
 import org.rstudio.studio.client.workbench.views.source.model.RdShellResult;
 import org.rstudio.studio.client.workbench.views.source.model.RnwChunkOptions;
 import org.rstudio.studio.client.workbench.views.source.model.SourceDocument;
@@ -791,6 +793,7 @@ public class RemoteServer implements Server
                                             boolean autoInvoked,
                                             int cursorRow,
                                             int cursorColumn,
+                                            DocumentDelta delta,
                                             ServerRequestCallback<AssistantGenerateCompletionsResponse> requestCallback)
    {
       JSONArray params = new JSONArrayBuilder()
@@ -800,6 +803,10 @@ public class RemoteServer implements Server
             .add(autoInvoked)
             .add(cursorRow)
             .add(cursorColumn)
+            .add(delta == null ? "" : delta.getReplacement())
+            .add(delta == null ? 0 : delta.getOffset())
+            .add(delta == null ? 0 : delta.getLength())
+            .add(delta == null || delta.isEmpty() ? "" : delta.getHash())
             .get();
 
       sendRequest(RPC_SCOPE, "assistant_generate_completions", params, requestCallback);
@@ -1675,6 +1682,14 @@ public class RemoteServer implements Server
       sendRequest(RPC_SCOPE, "suggest_topics", prefix, requestCallback);
    }
 
+   public void getHelpTopicIndex(JsArrayString knownPackages,
+                                 ServerRequestCallback<HelpTopicIndexUpdate> requestCallback)
+   {
+      JSONArray params = new JSONArray();
+      params.set(0, new JSONArray(knownPackages));
+      sendRequest(RPC_SCOPE, "get_help_topic_index", params, requestCallback);
+   }
+
    public void getHelp(String topic,
                        String packageName,
                        int type,
@@ -3494,6 +3509,9 @@ public class RemoteServer implements Server
 
    RpcRequest getEvents(
                   int lastEventId,
+                  int lingerMs,
+                  int maxBatchEvents,
+                  int maxBatchBytes,
                   ServerRequestCallback<JsArray<ClientEvent>> requestCallback,
                   RetryHandler retryHandler)
    {
@@ -3506,6 +3524,9 @@ public class RemoteServer implements Server
 
       JSONArray params = new JSONArray();
       params.set(0, new JSONNumber(lastEventId));
+      params.set(1, new JSONNumber(lingerMs));
+      params.set(2, new JSONNumber(maxBatchEvents));
+      params.set(3, new JSONNumber(maxBatchBytes));
       return sendRequest(EVENTS_SCOPE,
                          "get_events",
                          params,
@@ -6538,11 +6559,19 @@ public class RemoteServer implements Server
    public void connectionListObjects(
                               ConnectionId connectionId,
                               ConnectionObjectSpecifier container,
+                              String filter,
+                              int offset,
+                              int limit,
+                              boolean refresh,
                               ServerRequestCallback<JsArray<DatabaseObject>> callback)
    {
       JSONArray params = new JSONArray();
       params.set(0, new JSONObject(connectionId));
       params.set(1, new JSONArray(container.asJsArray()));
+      params.set(2, new JSONString(StringUtil.notNull(filter)));
+      params.set(3, new JSONNumber(offset));
+      params.set(4, new JSONNumber(limit));
+      params.set(5, JSONBoolean.getInstance(refresh));
       sendRequest(RPC_SCOPE, CONNECTION_LIST_OBJECTS, params, callback);
    }
 
@@ -21,14 +21,17 @@ import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.Window.ClosingEvent;
 import com.google.gwt.user.client.Window.ClosingHandler;
 
+import org.rstudio.core.client.ClientMetrics;
 import org.rstudio.core.client.Debug;
 import org.rstudio.core.client.jsonrpc.RpcError;
 import org.rstudio.core.client.jsonrpc.RpcRequest;
 import org.rstudio.core.client.jsonrpc.RpcRequestCallback;
 import org.rstudio.core.client.jsonrpc.RpcResponse;
 import org.rstudio.studio.client.application.events.*;
+import org.rstudio.studio.client.common.compile.CompileOutput;
 import org.rstudio.studio.client.server.ServerError;
 import org.rstudio.studio.client.server.ServerRequestCallback;
+import org.rstudio.studio.client.workbench.views.console.model.ConsoleText;
 
 import java.util.HashMap;
 
@@ -62,6 +65,9 @@ class RemoteServerEventListener
       isListening_ = false;
       sessionWasQuit_ = false;
       errorLogged_ = false;
+      lingerMs_ = kMinLingerMs;
+
+      ClientMetrics.get().registerGauge("events.lingerMs", () -> lingerMs_);
 
       listenTimer_ = new Timer() {
          @Override
@@ -295,6 +301,11 @@ class RemoteServerEventListener
                // only process events if we are still listening
                if (isListening_ && (events != null))
                {
+                  ClientMetrics.get().record("events.batchSize", events.length());
+                  adaptLinger(events);
+
+                  ClientMetrics.Timing drain =
+                        ClientMetrics.get().startTiming("events.drain");
                   for (int i=0; i<events.length(); i++)
                   {
                      // we can stop listening in the middle of dispatching
@@ -308,7 +319,9 @@ class RemoteServerEventListener
                      ClientEvent event = events.get(i);
                      dispatchEvent(event);
                      lastEventId_ = event.getId();
+                     ClientMetrics.get().increment("events.dispatched");
                   }   
+                  drain.stop();
                }
             }
             // catch all here to make sure that in all cases we call
@@ -411,9 +424,48 @@ class RemoteServerEventListener
          watchdog_.schedule(kWatchdogIntervalMs);
       
       // send request
-      activeRequest_ = server_.getEvents(lastEventId_, 
+      ClientMetrics.get().increment("events.polls");
+      activeRequest_ = server_.getEvents(lastEventId_,
+                                         lingerMs_,
+                                         kMaxBatchEvents,
+                                         kMaxBatchBytes,
                                          activeRequestCallback_,
-                                         retryHandler);                             
+                                         retryHandler);
+   }
+
+   // adjust how long the server lingers for more events before responding
+   // to a poll: when events arrive in bursts (e.g. a loop printing output)
+   // lingering longer delivers them in fewer, larger batches (and so with
+   // fewer polls and layouts); once events trickle in again we return to the
+   // default, so that interactive output is not delayed
+   //
+   // the server merges consecutive console (and build) output into a single
+   // event, so bursts of output are detected by their size rather than by
+   // the number of events
+   private void adaptLinger(JsArray<ClientEvent> events)
+   {
+      int batchSize = events.length();
+      int outputChars = 0;
+      for (int i = 0; i < batchSize; i++)
+         outputChars += getOutputLength(events.get(i));
+
+      ClientMetrics.get().record("events.batchOutputChars", outputChars);
+
+      if (batchSize >= kBurstBatchSize || outputChars >= kBurstOutputChars)
+         lingerMs_ = Math.min(lingerMs_ * 2, kMaxLingerMs);
+      else if (batchSize <= kQuietBatchSize && outputChars <= kQuietOutputChars)
+         lingerMs_ = Math.max(lingerMs_ / 2, kMinLingerMs);
+   }
+
+   private static int getOutputLength(ClientEvent event)
+   {
+      String type = event.getType();
+      String output = null;
+      if (type == ClientEvent.ConsoleOutput || type == ClientEvent.ConsoleError)
+         output = event.<ConsoleText>getData().text;
+      else if (type == ClientEvent.BuildOutput)
+         output = event.<CompileOutput>getData().getOutput();
+      return output == null ? 0 : output.length();
    }
    
    
@@ -514,6 +566,16 @@ class RemoteServerEventListener
    private final int kWatchdogIntervalMs = 2000;
    private final int kSecondListenBounceMs = 250;
    private final int kRevivalIntervalMs = 5000;
+
+   // batching preferences sent with each poll (see adaptLinger)
+   private final int kMinLingerMs = 10;
+   private final int kMaxLingerMs = 160;
+   private final int kBurstBatchSize = 25;
+   private final int kQuietBatchSize = 2;
+   private final int kBurstOutputChars = 2048;
+   private final int kQuietOutputChars = 256;
+   private final int kMaxBatchEvents = 1000;
+   private final int kMaxBatchBytes = 256 * 1024;
    private Timer listenTimer_;
 
    private final Timer revivalTimer_ = new Timer() {
@@ -537,6 +599,7 @@ class RemoteServerEventListener
    private int listenErrorCount_;
    private boolean sessionWasQuit_;
    private boolean errorLogged_;
+   private int lingerMs_;
    
    private RpcRequest activeRequest_;
    private ServerRequestCallback<JsArray<ClientEvent>> activeRequestCallback_;
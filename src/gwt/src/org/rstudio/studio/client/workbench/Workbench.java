@@ -15,9 +15,9 @@
 package org.rstudio.studio.client.workbench;
 
 import org.rstudio.core.client.BrowseCap;
+import org.rstudio.core.client.DebouncedCommand;
 import org.rstudio.core.client.Size;
 import org.rstudio.core.client.StringUtil;
-import org.rstudio.core.client.TimeBufferedCommand;
 import org.rstudio.core.client.command.AppCommand;
 import org.rstudio.core.client.command.CommandBinder;
 import org.rstudio.core.client.command.Handler;
@@ -199,16 +199,15 @@ public class Workbench implements BusyEvent.Handler,
       eventBus.addHandler(DeferredInitCompletedEvent.TYPE, this);
       eventBus.addHandler(ReportShortcutBindingEvent.TYPE, this);
 
-      // We don't want to send setWorkbenchMetrics more than once per 1/2-second
-      metricsChangedCommand_ = new TimeBufferedCommand(500)
+      // metrics changes are debounced (rather than throttled) so that
+      // dragging a splitter re-renders the plot once it comes to rest,
+      // rather than repeatedly while it's being dragged
+      metricsChangedCommand_ = new DebouncedCommand(500)
       {
          @Override
-         protected void performAction(boolean shouldSchedulePassive)
+         protected void execute()
          {
-            assert !shouldSchedulePassive;
-
-            server_.setWorkbenchMetrics(lastWorkbenchMetrics_,
-                                        new VoidServerRequestCallback());
+            sendWorkbenchMetrics();
          }
       };
    }
@@ -315,6 +314,33 @@ public class Workbench implements BusyEvent.Handler,
       metricsChangedCommand_.nudge();
    }
 
+   private void sendWorkbenchMetrics()
+   {
+      // keep at most one request in flight; if the metrics change while it
+      // is, send the latest metrics once it completes
+      if (metricsRequestPending_)
+      {
+         metricsChangedWhilePending_ = true;
+         return;
+      }
+
+      metricsRequestPending_ = true;
+      server_.setWorkbenchMetrics(lastWorkbenchMetrics_,
+                                  new VoidServerRequestCallback()
+      {
+         @Override
+         protected void onCompleted()
+         {
+            metricsRequestPending_ = false;
+            if (metricsChangedWhilePending_)
+            {
+               metricsChangedWhilePending_ = false;
+               sendWorkbenchMetrics();
+            }
+         }
+      });
+   }
+
    public void onQuotaStatus(QuotaStatusEvent event)
    {
       QuotaStatus quotaStatus = event.getQuotaStatus();
@@ -780,8 +806,10 @@ public class Workbench implements BusyEvent.Handler,
    private final ProjectOpener projectOpener_;
    private final ConsoleDispatcher consoleDispatcher_;
    private final Provider<GitState> pGitState_;
-   private final TimeBufferedCommand metricsChangedCommand_;
+   private final DebouncedCommand metricsChangedCommand_;
    private WorkbenchMetrics lastWorkbenchMetrics_;
+   private boolean metricsRequestPending_ = false;
+   private boolean metricsChangedWhilePending_ = false;
    private final WorkbenchNewSession newSession_;
    private boolean nearQuotaWarningShown_ = false;
    
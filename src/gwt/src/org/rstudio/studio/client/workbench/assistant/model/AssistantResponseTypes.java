@@ -177,6 +177,12 @@ public class AssistantResponseTypes
       // These aren't part of a normal assistant completions request; we append
       // this extra information to report whether the assistant is enabled for this document.
       public Boolean enabled;
+
+      // The document's hash after the unsaved changes sent with the request
+      // were applied (empty if there were none), and whether they couldn't be
+      // applied because the server's copy of the document has changed.
+      public String documentHash;
+      public Boolean stale;
    }
 
    @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Object")
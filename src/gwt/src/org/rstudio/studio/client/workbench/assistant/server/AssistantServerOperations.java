@@ -26,6 +26,7 @@ import org.rstudio.studio.client.workbench.assistant.model.AssistantResponseType
 import org.rstudio.studio.client.workbench.assistant.model.AssistantResponseTypes.AssistantStatusResponse;
 import org.rstudio.studio.client.workbench.assistant.model.AssistantTypes.AssistantCompletion;
 import org.rstudio.studio.client.workbench.assistant.model.AssistantTypes.AssistantCompletionCommand;
+import org.rstudio.studio.client.workbench.views.source.model.DocumentDelta;
 
 public interface AssistantServerOperations
 {
@@ -47,12 +48,15 @@ public interface AssistantServerOperations
    public void assistantDidShowCompletion(AssistantCompletion command,
                                           ServerRequestCallback<VoidResponse> requestCallback);
 
+   // The delta describes unsaved changes to the document, to be applied before
+   // generating completions (see DocUpdateSentinel.getPendingDelta()).
    public void assistantGenerateCompletions(String documentId,
                                             String documentPath,
                                             boolean isUntitled,
                                             boolean autoInvoked,
                                             int cursorRow,
                                             int cursorColumn,
+                                            DocumentDelta delta,
                                             ServerRequestCallback<AssistantGenerateCompletionsResponse> requestCallback);
 
    public void assistantNextEditSuggestions(String documentId,
@@ -3314,6 +3314,12 @@ public interface CmdConstants extends Constants {
     @DefaultStringValue("Show internal request log") // $NON-NLS-1$
     String showRequestLogDesc();
     
+    // traceInputLatency
+    @DefaultStringValue("Trace _Input Latency") // $NON-NLS-1$
+    String traceInputLatencyMenuLabel();
+    @DefaultStringValue("Record keystroke latency (shown in the request log)") // $NON-NLS-1$
+    String traceInputLatencyDesc();
+    
     // diagnosticsReport
     @DefaultStringValue("_Write Diagnostics Report") // $NON-NLS-1$
     String diagnosticsReportMenuLabel();
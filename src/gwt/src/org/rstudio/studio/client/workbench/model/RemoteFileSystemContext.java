@@ -27,6 +27,7 @@ import org.rstudio.studio.client.server.ServerError;
 import org.rstudio.studio.client.server.ServerRequestCallback;
 import org.rstudio.studio.client.server.VoidResponse;
 import org.rstudio.studio.client.workbench.views.files.model.DirectoryListing;
+import org.rstudio.studio.client.workbench.views.files.model.DirectoryListingCache;
 import org.rstudio.studio.client.workbench.views.files.model.FilesServerOperations;
 
 import com.google.gwt.core.client.JsArray;
@@ -38,10 +39,12 @@ public class RemoteFileSystemContext extends PosixFileSystemContext
    public RemoteFileSystemContext(FilesServerOperations server,
                                   FileTypeRegistry fileTypeRegistry,
                                   GlobalDisplay globalDisplay,
-                                  Session session)
+                                  Session session,
+                                  DirectoryListingCache listingCache)
    {
       super();
       server_ = server;
+      listingCache_ = listingCache;
       fileTypeRegistry_ = fileTypeRegistry;
       globalDisplay_ = globalDisplay;
       session_ = session;
@@ -87,10 +90,14 @@ public class RemoteFileSystemContext extends PosixFileSystemContext
       final String newPath = combine(workingDir_, relativeOrAbsolutePath);
 
       final FileSystemItem newPathEntry = FileSystemItem.createDir(newPath);
-      
-      final ArrayList<FileSystemItem> fsi = new ArrayList<>();
 
-      server_.listFiles(
+      // show the cached listing (if any) right away, and re-validate it
+      final DirectoryListing cached = listingCache_.get(newPathEntry, false);
+      if (cached != null)
+         navigateTo(newPath, cached);
+
+      pendingPath_ = newPath;
+      listingCache_.listFiles(
             newPathEntry,
             false, // since this is used for the file dialog don't 
                    // cause the call to reset the server monitoring state
@@ -100,6 +107,10 @@ public class RemoteFileSystemContext extends PosixFileSystemContext
                @Override
                public void onError(ServerError error)
                {
+                  // ignore responses for directories we've since left
+                  if (newPath != pendingPath_)
+                     return;
+
                   if (fallbackPath != null)
                   {
                      // try fallback if supplied
@@ -112,18 +123,34 @@ public class RemoteFileSystemContext extends PosixFileSystemContext
                @Override
                public void onResponseReceived(final DirectoryListing response)
                { 
-                  final JsArray<FileSystemItem> files = response.getFiles();
-                  for (int i = 0; i < files.length(); i++)
-                     fsi.add(files.get(i));
-                  
-                  workingDir_ = newPath;
-                  contents_ = fsi.toArray(new FileSystemItem[0]);
-                  
-                  if (callbacks_ != null)
-                     callbacks_.onNavigated();
+                  if (newPath != pendingPath_)
+                     return;
+
+                  if (!DirectoryListingCache.isSameListing(cached, response))
+                     navigateTo(newPath, response);
                }
             });
    }
+
+   public void prefetch(String path)
+   {
+      listingCache_.prefetch(FileSystemItem.createDir(combine(workingDir_, path)),
+                             false);
+   }
+
+   private void navigateTo(String path, DirectoryListing listing)
+   {
+      final ArrayList<FileSystemItem> fsi = new ArrayList<>();
+      final JsArray<FileSystemItem> files = listing.getFiles();
+      for (int i = 0; i < files.length(); i++)
+         fsi.add(files.get(i));
+
+      workingDir_ = path;
+      contents_ = fsi.toArray(new FileSystemItem[0]);
+
+      if (callbacks_ != null)
+         callbacks_.onNavigated();
+   }
    
    public void refresh()
    {
@@ -155,6 +182,7 @@ public class RemoteFileSystemContext extends PosixFileSystemContext
                @Override
                public void onResponseReceived(VoidResponse response)
                {
+                  listingCache_.invalidate(baseDir);
                   if (baseDir == workingDir_)
                   {
                      progress.onCompleted();
@@ -174,4 +202,8 @@ public class RemoteFileSystemContext extends PosixFileSystemContext
    private final FileTypeRegistry fileTypeRegistry_;
    private final GlobalDisplay globalDisplay_;
    private final Session session_;
+   private final DirectoryListingCache listingCache_;
+
+   // the directory most recently navigated to (whose listing may be pending)
+   private String pendingPath_;
 }
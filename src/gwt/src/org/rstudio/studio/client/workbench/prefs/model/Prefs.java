@@ -144,6 +144,19 @@ public abstract class Prefs
       }
       
       public T getValue()
+      {
+         // Many prefs are read on hot paths (e.g. on each keystroke), so the
+         // resolved value is cached until this pref is written, or until the
+         // set of layers is replaced.
+         if (resolvedGeneration_ == generation_)
+            return resolvedValue_;
+
+         resolvedValue_ = resolveValue();
+         resolvedGeneration_ = generation_;
+         return resolvedValue_;
+      }
+
+      private T resolveValue()
       {
          // Work backwards through all layers, starting with the most specific
          // and working towards the most general.
@@ -157,6 +170,14 @@ public abstract class Prefs
          return defaultValue_;
       }
 
+      // Discard the cached resolved value; called whenever this pref is
+      // written to (or removed from) any layer.
+      private void invalidate()
+      {
+         resolvedGeneration_ = -1;
+         resolvedValue_ = null;
+      }
+
       public T getGlobalValue()
       {
          // Skip the project layer if it exists by starting at the user layer.
@@ -204,6 +225,9 @@ public abstract class Prefs
             }
          }
 
+         if (wasUnset)
+            invalidate();
+
          if (fireEvents && wasUnset)
             ValueChangeEvent.fire(this, getValue());
       }
@@ -245,6 +269,7 @@ public abstract class Prefs
          if (projValues != null && projValues.hasKey(name_))
          {
             projValues.unset(name_);
+            invalidate();
             if (fireEvents)
                ValueChangeEvent.fire(this, getValue());
          }
@@ -273,6 +298,7 @@ public abstract class Prefs
             return;
 
          doSetValue(root, name_, value);
+         invalidate();
          if (fireEvents)
             ValueChangeEvent.fire(this, getValue());
          
@@ -292,6 +318,9 @@ public abstract class Prefs
       private final String description_;
       private final T defaultValue_;
       private final HandlerManager handlerManager_ = new HandlerManager(this);
+
+      private T resolvedValue_;
+      private int resolvedGeneration_ = -1;
    }
 
    public class BooleanValue extends JsonValue<Boolean>
@@ -576,8 +605,21 @@ public abstract class Prefs
    protected void updatePrefs(JsArray<PrefLayer> layers)
    {
       layers_ = layers;
+      invalidateValues();
+   }
+
+   // Discard all cached resolved pref values. Writes made through a PrefValue
+   // invalidate that value automatically; this is only needed when the layers
+   // are replaced or modified directly.
+   public void invalidateValues()
+   {
+      generation_++;
    }
    
    private JsArray<PrefLayer> layers_;
+
+   // Incremented whenever the pref layers are replaced; resolved values cached
+   // from an earlier generation are stale.
+   private int generation_ = 0;
    private final HashMap<String, PrefValue<?>> values_ = new HashMap<>();
 }
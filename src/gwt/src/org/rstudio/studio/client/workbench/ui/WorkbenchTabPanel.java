@@ -17,6 +17,7 @@ package org.rstudio.studio.client.workbench.ui;
 
 import java.util.ArrayList;
 
+import org.rstudio.core.client.ClientMetrics;
 import org.rstudio.core.client.Debug;
 import org.rstudio.core.client.ElementIds;
 import org.rstudio.core.client.HandlerRegistrations;
@@ -170,8 +171,11 @@ class WorkbenchTabPanel
          if (clearing_)
             return;
 
+         ClientMetrics.Timing timing =
+               ClientMetrics.get().startTiming("layout.tabSwitch");
          WorkbenchTab pane = tabs_.get(selectionEvent.getSelectedItem().intValue());
          pane.onSelected();
+         timing.stopOnNextFrame();
       }));
 
       int selectedIndex = tabPanel_.getSelectedIndex();
@@ -15,6 +15,7 @@ package org.rstudio.studio.client.workbench.views.chat;
 import org.rstudio.studio.client.application.ApplicationUncaughtExceptionHandler;
 import org.rstudio.studio.client.common.satellite.Satellite;
 import org.rstudio.studio.client.common.satellite.SatelliteApplication;
+import org.rstudio.studio.client.server.remote.ClientEvent;
 import org.rstudio.studio.client.workbench.commands.Commands;
 import org.rstudio.studio.client.workbench.prefs.model.UserPrefs;
 import org.rstudio.studio.client.workbench.views.source.editors.text.themes.AceThemes;
@@ -38,4 +39,15 @@ public class ChatSatellite extends SatelliteApplication
    {
       super(NAME, view, satellite, pAceThemes, pUserPrefs, exHandler, commands);
    }
+
+   @Override
+   protected String[] getClientEventTypes()
+   {
+      return new String[] {
+         ClientEvent.ChatBackendExit,
+         ClientEvent.ChatCheckForUpdates,
+         ClientEvent.ConsolePrompt,
+         ClientEvent.ConsoleReadCompleted
+      };
+   }
 }
@@ -0,0 +1,148 @@
+/*
+ * ConnectionObjectCache.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.connections.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gwt.core.client.Duration;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * Caches the objects listed for the nodes of each connection's object browser,
+ * so that nodes can be collapsed and expanded again (and connections explored
+ * again) without listing their objects from the session each time. Entries
+ * expire after a few minutes, and are discarded altogether when a connection
+ * is refreshed.
+ */
+@Singleton
+public class ConnectionObjectCache
+{
+   public static class Entry
+   {
+      private Entry(List<DatabaseObject> objects, boolean complete)
+      {
+         objects_ = new ArrayList<>(objects);
+         complete_ = complete;
+         time_ = Duration.currentTimeMillis();
+      }
+
+      // the objects listed so far (the first few pages of the node)
+      public List<DatabaseObject> getObjects()
+      {
+         return objects_;
+      }
+
+      // whether all of the node's objects have been listed
+      public boolean isComplete()
+      {
+         return complete_;
+      }
+
+      private final List<DatabaseObject> objects_;
+      private final boolean complete_;
+      private final double time_;
+   }
+
+   @Inject
+   public ConnectionObjectCache()
+   {
+   }
+
+   public Entry get(ConnectionId connectionId,
+                    ConnectionObjectSpecifier object,
+                    String filter)
+   {
+      Map<String, Entry> entries = entries_.get(connectionId.asString());
+      if (entries == null)
+         return null;
+
+      String key = key(object, filter);
+      Entry entry = entries.get(key);
+      if (entry != null &&
+          Duration.currentTimeMillis() - entry.time_ > EXPIRATION_MS)
+      {
+         entries.remove(key);
+         return null;
+      }
+      return entry;
+   }
+
+   /**
+    * The generation of the given connection's entries; this changes whenever
+    * the connection is invalidated, so that requests that were already in
+    * flight at that time don't re-populate the cache with stale objects.
+    */
+   public int getGeneration(ConnectionId connectionId)
+   {
+      Integer generation = generations_.get(connectionId.asString());
+      return generation == null ? 0 : generation;
+   }
+
+   public void put(int generation,
+                   ConnectionId connectionId,
+                   ConnectionObjectSpecifier object,
+                   String filter,
+                   List<DatabaseObject> objects,
+                   boolean complete)
+   {
+      if (generation != getGeneration(connectionId))
+         return;
+
+      String id = connectionId.asString();
+      Map<String, Entry> entries = entries_.get(id);
+      if (entries == null)
+      {
+         entries = new LinkedHashMap<>();
+         entries_.put(id, entries);
+      }
+
+      // re-insert so that the entry is treated as the most recent
+      String key = key(object, filter);
+      entries.remove(key);
+      entries.put(key, new Entry(objects, complete));
+
+      // evict the oldest entries (typically those for previous filters)
+      Iterator<String> keys = entries.keySet().iterator();
+      while (entries.size() > MAX_ENTRIES && keys.hasNext())
+      {
+         keys.next();
+         keys.remove();
+      }
+   }
+
+   public void invalidate(ConnectionId connectionId)
+   {
+      String id = connectionId.asString();
+      entries_.remove(id);
+      generations_.put(id, getGeneration(connectionId) + 1);
+   }
+
+   private static String key(ConnectionObjectSpecifier object, String filter)
+   {
+      return object.asString() + "\n" + (filter == null ? "" : filter);
+   }
+
+   private final Map<String, Map<String, Entry>> entries_ = new HashMap<>();
+   private final Map<String, Integer> generations_ = new HashMap<>();
+
+   private static final int EXPIRATION_MS = 5 * 60 * 1000;
+   private static final int MAX_ENTRIES = 500;
+}
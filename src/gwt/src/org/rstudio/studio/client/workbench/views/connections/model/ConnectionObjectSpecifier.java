@@ -48,5 +48,13 @@ public class ConnectionObjectSpecifier
       return JsArrayUtil.toJsArray(containers_);
    }
    
+   public String asString()
+   {
+      StringBuilder builder = new StringBuilder();
+      for (ConnectionPathEntry entry : containers_)
+         builder.append(entry.getType()).append('=').append(entry.getName()).append('\n');
+      return builder.toString();
+   }
+   
    private final ArrayList<ConnectionPathEntry> containers_;
 }
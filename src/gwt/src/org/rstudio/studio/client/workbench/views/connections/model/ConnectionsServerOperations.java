@@ -33,8 +33,19 @@ public interface ConnectionsServerOperations extends CryptoServerOperations
                                 String action,
                                 ServerRequestCallback<VoidResponse> callback);
    
+   /**
+    * Lists the objects contained in the given object, optionally filtered to
+    * those whose names contain the given text. At most 'limit' objects are
+    * returned, starting at 'offset'; a negative limit returns all objects.
+    * When 'refresh' is false, the session may re-use objects it has already
+    * listed for this object (e.g. when fetching its next page).
+    */
    void connectionListObjects(ConnectionId connectionId,
                               ConnectionObjectSpecifier object,
+                              String filter,
+                              int offset,
+                              int limit,
+                              boolean refresh,
                               ServerRequestCallback<JsArray<DatabaseObject>> callback);
    
    void connectionListFields(ConnectionId connectionId,
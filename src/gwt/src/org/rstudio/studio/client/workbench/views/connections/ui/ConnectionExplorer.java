@@ -133,12 +133,12 @@ public class ConnectionExplorer extends Composite implements RequiresResize
    
    public void updateObjectBrowser()
    {
-      updateObjectBrowser("");
+      objectBrowser_.update(connection_, "", false);
    }
    
    public void updateObjectBrowser(String hint)
    {   
-      objectBrowser_.update(connection_, hint);
+      objectBrowser_.update(connection_, hint, true);
    }
    
    public void setFilterText(String text)
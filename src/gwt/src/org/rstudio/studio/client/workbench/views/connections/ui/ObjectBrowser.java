@@ -61,7 +61,7 @@ public class ObjectBrowser extends Composite implements RequiresResize
       objectsModel_ = null;
    }
    
-   public void update(Connection connection, String hint)
+   public void update(Connection connection, String hint, boolean refresh)
    { 
       // create tables model and widget
       objectsModel_ = new ObjectBrowserModel();
@@ -72,6 +72,7 @@ public class ObjectBrowser extends Composite implements RequiresResize
       // update the table then restore expanded nodes
       objectsModel_.update(
          connection ,      // connection 
+         refresh,          // discard previously listed objects
          null,             // expanded nodes (none for refresh)
          () -> 
          {
@@ -80,7 +81,8 @@ public class ObjectBrowser extends Composite implements RequiresResize
          }, null);
 
       // create new widget
-      objects_ = new CellTree(objectsModel_, null, RES, MESSAGES, 512);
+      objects_ = new CellTree(objectsModel_, null, RES, MESSAGES,
+                              ObjectBrowserModel.PAGE_SIZE);
       
       // create the top level list of objects
       objects_.getElement().getStyle().setBorderStyle(BorderStyle.NONE);
@@ -192,12 +194,11 @@ public class ObjectBrowser extends Composite implements RequiresResize
    
    public void setFilterText(String text)
    {
-      objectsModel_.setFilterText(text);
-      
       // defer execution of the matched element filter so the celltree can
       // render
-      Scheduler.get().scheduleDeferred(() ->
-         hideUnmatchedElements(objects_.getElement()));
+      objectsModel_.setFilterText(text, () ->
+         Scheduler.get().scheduleDeferred(() ->
+            hideUnmatchedElements(objects_.getElement())));
    }
    
    /**
@@ -17,12 +17,11 @@ package org.rstudio.studio.client.workbench.views.connections.ui;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Set;
 
 import com.google.gwt.core.client.GWT;
-import org.rstudio.core.client.CommandWithArg;
 import org.rstudio.core.client.Debug;
-import org.rstudio.core.client.JsArrayUtil;
 import org.rstudio.core.client.SafeHtmlUtil;
 import org.rstudio.core.client.StringUtil;
 import org.rstudio.core.client.js.JsObject;
@@ -31,9 +30,12 @@ import org.rstudio.studio.client.RStudioGinjector;
 import org.rstudio.studio.client.application.events.EventBus;
 import org.rstudio.studio.client.common.SimpleRequestCallback;
 import org.rstudio.studio.client.server.ServerError;
+import org.rstudio.studio.client.server.ServerRequestCallback;
 import org.rstudio.studio.client.workbench.views.connections.ConnectionsConstants;
 import org.rstudio.studio.client.workbench.views.connections.events.ViewConnectionDatasetEvent;
 import org.rstudio.studio.client.workbench.views.connections.model.Connection;
+import org.rstudio.studio.client.workbench.views.connections.model.ConnectionId;
+import org.rstudio.studio.client.workbench.views.connections.model.ConnectionObjectCache;
 import org.rstudio.studio.client.workbench.views.connections.model.ConnectionObjectSpecifier;
 import org.rstudio.studio.client.workbench.views.connections.model.ConnectionObjectType;
 import org.rstudio.studio.client.workbench.views.connections.model.ConnectionsServerOperations;
@@ -49,9 +51,11 @@ import com.google.gwt.dom.client.Element;
 import com.google.gwt.dom.client.NativeEvent;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 import com.google.gwt.user.client.Command;
+import com.google.gwt.user.client.Timer;
 import com.google.gwt.view.client.AsyncDataProvider;
 import com.google.gwt.view.client.HasData;
 import com.google.gwt.view.client.NoSelectionModel;
+import com.google.gwt.view.client.Range;
 import com.google.gwt.view.client.TreeViewModel;
 import com.google.inject.Inject;
 
@@ -64,18 +68,25 @@ public class ObjectBrowserModel implements TreeViewModel
    
    @Inject
    public void initialize(ConnectionsServerOperations server,
+                          ConnectionObjectCache cache,
                           EventBus eventBus)
    {
       server_ = server;
+      cache_ = cache;
       eventBus_ = eventBus;
    }
   
    
    public void update(Connection connection,
+                      boolean refresh,
                       Set<DatabaseObject> expandedNodes,
                       Command onTableUpdateCompleted,
                       Command onNodeExpansionCompleted)
    {
+      // when refreshing, discard the objects listed for the connection earlier
+      if (refresh)
+         cache_.invalidate(connection.getId());
+      
       connection_ = connection;
       expandedNodeRefreshQueue_ = expandedNodes;
       onTableUpdateCompleted_ = onTableUpdateCompleted;
@@ -87,15 +98,29 @@ public class ObjectBrowserModel implements TreeViewModel
    public void clear()
    {
       connection_ = null;
+      prefetchQueue_.clear();
+      filterTimer_.cancel();
       if (objectProvider_ != null)
          objectProvider_.clear();
    }
    
-   public void setFilterText(String filterText)
+   /**
+    * Filters the objects shown to those whose names contain the given text.
+    * @param filterText The text to filter on
+    * @param onFilterApplied Invoked once the filter has been applied, and
+    *    again whenever matching objects are listed from the session later
+    */
+   public void setFilterText(String filterText, Command onFilterApplied)
    {
       filter_ = filterText;
+      onFilterApplied_ = onFilterApplied;
       objectProvider_.applyFilter(filterText);
-    }
+      onFilterApplied.execute();
+      
+      // nodes whose objects have only been partially listed need to ask the
+      // session for the rest of their matches; wait for a pause in typing
+      filterTimer_.schedule(FILTER_DELAY_MS);
+   }
    
    @Override
    public <T> NodeInfo<?> getNodeInfo(T value)
@@ -199,6 +224,88 @@ public class ObjectBrowserModel implements TreeViewModel
       }
    }
    
+   private void listFilteredObjects()
+   {
+      if (connection_ == null || objectProvider_ == null)
+         return;
+      
+      objectProvider_.listFilteredObjects();
+      for (ObjectProvider provider : objectProviders_.values())
+         provider.listFilteredObjects();
+   }
+   
+   private void prefetch(List<DatabaseObject> objects)
+   {
+      // only prefetch nodes that contain a handful of containers (e.g. a
+      // single catalog, or a few schemas); there's no telling which of a
+      // larger set of containers the user will expand
+      ArrayList<DatabaseObject> containers = new ArrayList<>();
+      for (DatabaseObject object : objects)
+      {
+         if (connection_.isDataType(object.getType()) || isLeaf(object))
+            continue;
+         
+         containers.add(object);
+         if (containers.size() > PREFETCH_LIMIT)
+            return;
+      }
+      prefetchQueue_.addAll(containers);
+   }
+   
+   private void prefetchNext()
+   {
+      // prefetch one node at a time, and only while nothing the user has
+      // asked for is waiting on the session
+      if (connection_ == null || prefetching_ || pendingRequests_ > 0)
+         return;
+      
+      while (!prefetchQueue_.isEmpty())
+      {
+         final DatabaseObject object = prefetchQueue_.remove(0);
+         final ConnectionId connectionId = connection_.getId();
+         final ConnectionObjectSpecifier specifier = object.createSpecifier();
+         if (cache_.get(connectionId, specifier, "") != null)
+            continue;
+         
+         final int generation = cache_.getGeneration(connectionId);
+         prefetching_ = true;
+         server_.connectionListObjects(
+            connectionId,
+            specifier,
+            "",
+            0,
+            PAGE_SIZE + 1,
+            true,
+            new ServerRequestCallback<JsArray<DatabaseObject>>() {
+               @Override
+               public void onResponseReceived(JsArray<DatabaseObject> page)
+               {
+                  prefetching_ = false;
+                  
+                  ArrayList<DatabaseObject> objects = new ArrayList<>();
+                  for (int i = 0; i < page.length() && i < PAGE_SIZE; i++)
+                  {
+                     page.get(i).setParent(object);
+                     objects.add(page.get(i));
+                  }
+                  cache_.put(generation, connectionId, specifier, "",
+                             objects, page.length() <= PAGE_SIZE);
+                  
+                  prefetchNext();
+               }
+               
+               @Override
+               public void onError(ServerError error)
+               {
+                  // prefetching is opportunistic; give up on any errors
+                  prefetching_ = false;
+                  prefetchQueue_.clear();
+               }
+            });
+         return;
+      }
+   }
+   
    private class ObjectProvider extends AsyncDataProvider<DatabaseObject>
    {
       public ObjectProvider()
@@ -213,7 +320,8 @@ public class ObjectBrowserModel implements TreeViewModel
 
       public void clear()
       {
-         prefetchedObjectList_ = null;
+         objects_ = null;
+         filteredObjects_ = null;
          fieldProviders_.clear();
          clearData();
       }
@@ -225,15 +333,12 @@ public class ObjectBrowserModel implements TreeViewModel
         
          // prefetch the objects so there is no gap between clearing the table
          // and redrawing the nodes
-         listObjects(new CommandWithArg<JsArray<DatabaseObject>>() {
-            @Override
-            public void execute(JsArray<DatabaseObject> objects)
+         listObjects("", () ->
+         {
+            for (HasData<DatabaseObject> display : getDataDisplays())
             {
-               for (HasData<DatabaseObject> display : getDataDisplays())
-               {
-                 display.setVisibleRangeAndClearData(display.getVisibleRange(), 
-                                                     true);
-               }
+              display.setVisibleRangeAndClearData(display.getVisibleRange(), 
+                                                  true);
             }
          });
       }
@@ -246,7 +351,8 @@ public class ObjectBrowserModel implements TreeViewModel
       public boolean applyFilter(String filter)
       {
          // ignore if not fetched yet
-         if (prefetchedObjectList_ == null)
+         List<DatabaseObject> objects = getObjects();
+         if (objects == null)
             return false;
 
          boolean anyMatched = false;
@@ -254,10 +360,9 @@ public class ObjectBrowserModel implements TreeViewModel
          // don't be case sensitive
          String lowerFilter = filter.toLowerCase();
          
-         for (int i = 0; i < prefetchedObjectList_.length(); i++)
+         for (DatabaseObject object : objects)
          {
             // retrieve name of object for matching
-            DatabaseObject object = prefetchedObjectList_.get(i);
             String name = object.getName();
             if (name == null)
                continue;
@@ -281,33 +386,57 @@ public class ObjectBrowserModel implements TreeViewModel
          }
          
          // redraw
-         updateData(prefetchedObjectList_);
+         updateData();
 
          // indicate whether any of the child nodes matched
          return anyMatched;
       }
       
+      /**
+       * Lists the objects matching the current filter from the session, if
+       * only some of this node's objects have been listed (so they can't
+       * simply be filtered here).
+       */
+      public void listFilteredObjects()
+      {
+         if (!isFilteringInSession() || StringUtil.equals(filter_, filteredBy_))
+            return;
+
+         listObjects(filter_, () ->
+         {
+            applyFilter(filter_);
+            if (onFilterApplied_ != null)
+               onFilterApplied_.execute();
+         });
+      }
+      
       @Override
       protected void onRangeChanged(final HasData<DatabaseObject> display)
       {
         if (connection_ == null)
         {
            clearData();
+           return;
         }
-        else if (prefetchedObjectList_ != null)
+        
+        if (objects_ == null)
+        {
+           listObjects("", () -> updateData());
+           return;
+        }
+        
+        // list the next page of objects if the tree wants to show more than
+        // we have (i.e. the user clicked 'Show more')
+        Range range = display.getVisibleRange();
+        List<DatabaseObject> objects = getObjects();
+        if (objects != null && !isComplete() &&
+            range.getStart() + range.getLength() > objects.size())
         {
-           JsArray<DatabaseObject> objects = prefetchedObjectList_;
-           updateData(objects);
+           listMoreObjects();
         }
         else
         {
-           listObjects(new CommandWithArg<JsArray<DatabaseObject>>() {
-               @Override
-               public void execute(JsArray<DatabaseObject> objects)
-               {
-                  updateData(objects);
-               }
-           });
+           updateData();
         }
       } 
       
@@ -315,55 +444,148 @@ public class ObjectBrowserModel implements TreeViewModel
       {
          updateRowCount(0, true);
          updateRowData(0, new ArrayList<>());
-         prefetchedObjectList_ = null; 
+         objects_ = null;
          fireUpdateCompleted();
       }
       
-      private void updateData(JsArray<DatabaseObject> objects)
+      private void updateData()
       {
-         updateRowCount(objects.length(), true);
-         ArrayList<DatabaseObject> data = JsArrayUtil.toArrayList(objects);
-         updateRowData(0, data);
+         List<DatabaseObject> objects = getObjects();
+         if (objects == null)
+            objects = new ArrayList<>();
+         
+         // while more objects remain to be listed, report an extra row so that
+         // the tree offers to show more
+         boolean complete = isComplete();
+         updateRowCount(objects.size() + (complete ? 0 : 1), complete);
+         updateRowData(0, objects);
          fireUpdateCompleted();
       }
       
-      private void listObjects(final CommandWithArg<JsArray<DatabaseObject>> onCompleted)
+      // the objects currently shown for this node: either its own objects,
+      // or, while filtering a node that's only partially listed, the objects
+      // the session found matching the filter
+      private List<DatabaseObject> getObjects()
+      {
+         return isFilteringInSession() ? filteredObjects_ : objects_;
+      }
+      
+      private boolean isComplete()
+      {
+         return isFilteringInSession() ? filteredComplete_ : complete_;
+      }
+      
+      private boolean isFilteringInSession()
+      {
+         return objects_ != null && !complete_ && !StringUtil.isNullOrEmpty(filter_);
+      }
+      
+      private ConnectionObjectSpecifier createSpecifier()
+      {
+         return parent_ == null ?
+               new ConnectionObjectSpecifier() :
+               parent_.createSpecifier();
+      }
+      
+      private void listObjects(String filter, Command onCompleted)
       {
-         objectListContinuations_.add(onCompleted);
-         if (objectListContinuations_.size() > 1)
+         // use the objects listed earlier for this node, if we have them
+         ConnectionObjectCache.Entry entry =
+               cache_.get(connection_.getId(), createSpecifier(), filter);
+         if (entry != null)
          {
-            // if we're currently waiting for objects to come back, just leave this one on the stack
+            for (DatabaseObject object : entry.getObjects())
+               object.setParent(parent_);
+            setObjects(filter, entry.getObjects(), entry.isComplete());
+            onCompleted.execute();
+            onObjectsListed(filter, 0);
             return;
          }
          
-         // create the specifier
-         ConnectionObjectSpecifier specifier = null;
-         if (parent_ == null)
-            specifier = new ConnectionObjectSpecifier();
-         else
-            specifier = parent_.createSpecifier();
+         listObjects(filter, 0, onCompleted);
+      }
+      
+      private void listMoreObjects()
+      {
+         List<DatabaseObject> objects = getObjects();
+         listObjects(isFilteringInSession() ? filteredBy_ : "",
+                     objects.size(),
+                     () -> updateData());
+      }
+      
+      private void listObjects(final String filter,
+                               final int offset,
+                               final Command onCompleted)
+      {
+         // if we're currently waiting for these objects to come back, just
+         // leave this continuation on the stack; any other request in flight
+         // is superseded by this one
+         String request = filter + "\n" + offset;
+         if (StringUtil.equals(request, pendingRequest_))
+         {
+            continuations_.add(onCompleted);
+            return;
+         }
+         pendingRequest_ = request;
+         continuations_.clear();
+         continuations_.add(onCompleted);
          
+         final int requestId = ++requestId_;
+         final ConnectionId connectionId = connection_.getId();
+         final ConnectionObjectSpecifier specifier = createSpecifier();
+         final int generation = cache_.getGeneration(connectionId);
+         
+         // list one object more than we'll show, to learn whether any more
+         // objects remain; only the first unfiltered page needs the session
+         // to list the objects again, since later pages (and filters) can
+         // re-use the objects it listed for that page
+         pendingRequests_++;
          server_.connectionListObjects(
-            connection_.getId(), 
+            connectionId, 
             specifier,
+            filter,
+            offset,
+            PAGE_SIZE + 1,
+            offset == 0 && filter.isEmpty(),
             new SimpleRequestCallback<JsArray<DatabaseObject>>() {
                @Override
-               public void onResponseReceived(JsArray<DatabaseObject> objects)
+               public void onResponseReceived(JsArray<DatabaseObject> page)
                {
-                  for (int i = 0; i < objects.length(); i++)
-                     objects.get(i).setParent(parent_);
+                  pendingRequests_--;
+                  if (requestId != requestId_)
+                  {
+                     prefetchNext();
+                     return;
+                  }
+                  pendingRequest_ = null;
+                  
+                  ArrayList<DatabaseObject> objects = new ArrayList<>();
+                  List<DatabaseObject> listed = filter.isEmpty() ?
+                        objects_ : filteredObjects_;
+                  if (offset > 0 && listed != null)
+                     objects.addAll(listed.subList(0, Math.min(offset, listed.size())));
+                  for (int i = 0; i < page.length() && i < PAGE_SIZE; i++)
+                  {
+                     page.get(i).setParent(parent_);
+                     objects.add(page.get(i));
+                  }
                   
                   // save object list for later manipulation
-                  prefetchedObjectList_ = objects;
+                  boolean complete = page.length() <= PAGE_SIZE;
+                  setObjects(filter, objects, complete);
+                  cache_.put(generation, connectionId, specifier, filter,
+                             objects, complete);
                   
                   // execute each continuation, w/ try/catch so that any that throw exceptions
                   // won't prevent execution of further continuations (nor leave us with a stack
                   // of uncompleted continuations)
-                  for (CommandWithArg<JsArray<DatabaseObject>> cmd: objectListContinuations_)
+                  ArrayList<Command> continuations = new ArrayList<>(continuations_);
+                  continuations_.clear();
+                  for (Command cmd : continuations)
                   {
                      try
                      {
-                        cmd.execute(objects);
+                        cmd.execute();
                      }
                      catch (Exception e)
                      {
@@ -371,21 +593,52 @@ public class ObjectBrowserModel implements TreeViewModel
                      }
                   }
                   
-                  // clear completed continuations
-                  objectListContinuations_.clear();
-                  dequeNodeExpansion(parent_);
+                  onObjectsListed(filter, offset);
                }
                
                @Override
                public void onError(ServerError error)
                {
+                  pendingRequests_--;
+                  if (requestId != requestId_)
+                     return;
+                  
                   super.onError(error);
-                  objectListContinuations_.clear();
+                  pendingRequest_ = null;
+                  continuations_.clear();
                   clearData();
                }
             });
       }
       
+      private void setObjects(String filter,
+                              List<DatabaseObject> objects,
+                              boolean complete)
+      {
+         if (filter.isEmpty())
+         {
+            objects_ = objects;
+            complete_ = complete;
+         }
+         else
+         {
+            filteredObjects_ = objects;
+            filteredComplete_ = complete;
+            filteredBy_ = filter;
+         }
+      }
+      
+      private void onObjectsListed(String filter, int offset)
+      {
+         dequeNodeExpansion(parent_);
+         
+         // a freshly listed node's containers are the nodes most likely to
+         // be expanded next
+         if (filter.isEmpty() && offset == 0)
+            prefetch(objects_);
+         prefetchNext();
+      }
+      
       private void fireUpdateCompleted()
       {
          if (onTableUpdateCompleted_ != null)
@@ -409,7 +662,17 @@ public class ObjectBrowserModel implements TreeViewModel
       }
       
       private final DatabaseObject parent_;
-      private JsArray<DatabaseObject> prefetchedObjectList_ = null;
+      private final ArrayList<Command> continuations_ = new ArrayList<>();
+      
+      private List<DatabaseObject> objects_ = null;
+      private boolean complete_ = true;
+      
+      private List<DatabaseObject> filteredObjects_ = null;
+      private boolean filteredComplete_ = true;
+      private String filteredBy_ = null;
+      
+      private String pendingRequest_ = null;
+      private int requestId_ = 0;
    }
    
    private class FieldProvider extends AsyncDataProvider<Field>
@@ -550,12 +813,31 @@ public class ObjectBrowserModel implements TreeViewModel
    private ConnectionsServerOperations server_;
    private EventBus eventBus_;
 
-   private final ArrayList<CommandWithArg<JsArray<DatabaseObject>>> objectListContinuations_ =
-      new ArrayList<>();
+   private ConnectionObjectCache cache_;
+   private Command onFilterApplied_ = null;
+   private int pendingRequests_ = 0;
+   private boolean prefetching_ = false;
+   private final ArrayList<DatabaseObject> prefetchQueue_ = new ArrayList<>();
+   
+   private final Timer filterTimer_ = new Timer()
+   {
+      @Override
+      public void run()
+      {
+         listFilteredObjects();
+      }
+   };
    
    private static NoSelectionModel<DatabaseObject> noObjectSelectionModel_ = new NoSelectionModel<>();
    private static NoSelectionModel<Field> noFieldSelectionModel_ = new NoSelectionModel<>();
    
+   // the number of objects listed for a node at a time; the tree shows a
+   // 'Show more' link when more remain
+   public static final int PAGE_SIZE = 512;
+   
+   private static final int PREFETCH_LIMIT = 5;
+   private static final int FILTER_DELAY_MS = 300;
+   
    static final ObjectBrowser.Resources RES = ObjectBrowser.RES;
    private static final ConnectionsConstants constants_ = GWT.create(ConnectionsConstants.class);
 }
@@ -15,6 +15,7 @@
 package org.rstudio.studio.client.workbench.views.console.shell.assist;
 
 import org.rstudio.core.client.HandlerRegistrations;
+import org.rstudio.core.client.InputLatencyTracer;
 import org.rstudio.core.client.Invalidation;
 import org.rstudio.core.client.JsVector;
 import org.rstudio.core.client.Rectangle;
@@ -396,7 +397,10 @@ public class RCompletionManager implements CompletionManager
    {
       suggestTimer_.cancel();
       
-      if (sigTipManager_.previewKeyDown(event))
+      InputLatencyTracer.Span span = InputLatencyTracer.get().startSpan("signatureToolTip");
+      boolean handled = sigTipManager_.previewKeyDown(event);
+      span.end();
+      if (handled)
          return true;
       
       if (isDisabled())
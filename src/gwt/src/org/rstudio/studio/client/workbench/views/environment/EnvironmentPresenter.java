@@ -90,6 +90,7 @@ import org.rstudio.studio.client.workbench.views.source.Source;
 import org.rstudio.studio.client.workbench.views.source.SourceColumn;
 import org.rstudio.studio.client.workbench.views.source.SourceColumnManager;
 import org.rstudio.studio.client.workbench.views.source.editors.EditingTarget;
+import org.rstudio.studio.client.workbench.views.source.editors.PlaceholderEditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.text.TextEditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Position;
 import org.rstudio.studio.client.workbench.views.source.events.CodeBrowserFinishedEvent;
@@ -884,6 +885,7 @@ public class EnvironmentPresenter extends BasePresenter
       {
          for (EditingTarget editingTarget : column.getEditors())
          {
+            editingTarget = hydrateIfContains(column, editingTarget, currentBrowseSource_);
             if (!(editingTarget instanceof TextEditingTarget))
                continue;
             
@@ -902,11 +904,20 @@ public class EnvironmentPresenter extends BasePresenter
          }
       }
       
-      // Next, look for a fuzzy match.
+      // Next, look for a fuzzy match on the function's first line.
+      int newlineIndex = currentBrowseSource_.indexOf('\n');
+      if (newlineIndex == -1)
+         return null;
+
+      String firstLine = currentBrowseSource_.substring(0, newlineIndex);
+      if (firstLine.indexOf("function") == -1)
+         return null;
+
       for (SourceColumn column : manager.getColumnList())
       {
          for (EditingTarget editingTarget : column.getEditors())
          {
+            editingTarget = hydrateIfContains(column, editingTarget, firstLine);
             if (!(editingTarget instanceof TextEditingTarget))
                continue;
             
@@ -915,17 +926,12 @@ public class EnvironmentPresenter extends BasePresenter
                continue;
             
             String editorCode = target.getDocDisplay().getCode();
-            int newlineIndex = currentBrowseSource_.indexOf('\n');
-            String firstLine = currentBrowseSource_.substring(0, newlineIndex);
-            if (firstLine.indexOf("function") != -1)
+            int index = editorCode.indexOf(firstLine);
+            if (index != -1)
             {
-               int index = editorCode.indexOf(firstLine);
-               if (index != -1)
-               {
-                  codeIndex.set(index);
-                  isApproximateBrowsePosition_ = true;
-                  return target;
-               }
+               codeIndex.set(index);
+               isApproximateBrowsePosition_ = true;
+               return target;
             }
          }
       }
@@ -934,6 +940,24 @@ public class EnvironmentPresenter extends BasePresenter
       
    }
 
+   // source tabs restored at startup have no editor until they're first
+   // shown; only build one for a saved document that contains the given code
+   // (untitled documents are never matched)
+   private EditingTarget hydrateIfContains(SourceColumn column,
+                                           EditingTarget target,
+                                           String code)
+   {
+      if (!(target instanceof PlaceholderEditingTarget) ||
+          StringUtil.isNullOrEmpty(target.getPath()))
+         return target;
+
+      String contents = ((PlaceholderEditingTarget) target).getDocument().getContents();
+      if (contents == null || contents.indexOf(code) == -1)
+         return target;
+
+      return column.hydrate(target);
+   }
+
    private boolean openBrowsePointUsingOpenTab(boolean debugging,
                                                boolean sourceChanged)
    {
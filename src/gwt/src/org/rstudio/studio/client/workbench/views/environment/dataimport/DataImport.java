@@ -15,6 +15,10 @@
 
 package org.rstudio.studio.client.workbench.views.environment.dataimport;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.rstudio.core.client.Debug;
 import org.rstudio.core.client.Size;
 import org.rstudio.core.client.dom.Clipboard;
@@ -95,6 +99,12 @@ public class DataImport extends Composite
    private JavaScriptObject localFiles_;
 
    private int assembleCount_ = 0;
+   private int previewCount_ = 0;
+   private boolean previewPending_ = false;
+   
+   // recent previews, keyed by the options that affect how data is read
+   private final Map<String, DataImportPreviewResponse> previewCache_ = new LinkedHashMap<>();
+   private static final int MAX_CACHED_PREVIEWS = 5;
    
    interface DataImportUiBinder extends UiBinder<Widget, DataImport>
    {
@@ -228,6 +238,7 @@ public class DataImport extends Composite
    {
       // Invalidate cached files, click update to refresh stale files
       cleanPreviewResources();
+      previewCache_.clear();
       
       if (dataImportFileChooser_.getText() != importOptions_.getImportLocation())
       {
@@ -549,6 +560,26 @@ public class DataImport extends Composite
             
             previewImportOptions.setMaxRows(maxRows_);
             
+            // changes that don't affect how the data is read (e.g. the name of
+            // the data set, or which columns are skipped) re-use the preview
+            // we already have, as do changes back to recently previewed options
+            final int previewIndex = ++previewCount_;
+            final String previewKey = previewImportOptions.getPreviewKey();
+            DataImportPreviewResponse cachedResponse = previewCache_.get(previewKey);
+            if (cachedResponse != null)
+            {
+               // this supersedes any preview still being retrieved, whose
+               // response will be ignored, so clear its progress
+               if (previewPending_)
+               {
+                  previewPending_ = false;
+                  progressIndicator_.clearProgress();
+               }
+
+               showPreview(cachedResponse);
+               return;
+            }
+            
             progressIndicator_.onProgress(constants_.retrievingPreviewDataEllipses(), new Operation()
             {
                @Override
@@ -574,12 +605,20 @@ public class DataImport extends Composite
                }
             });
             
+            previewPending_ = true;
             server_.previewDataImportAsync(previewImportOptions, maxCols_, maxFactors_,
                   new ServerRequestCallback<DataImportPreviewResponse>()
             {
                @Override
                public void onResponseReceived(DataImportPreviewResponse response)
                {
+                  // ignore previews superseded by a newer one; the progress
+                  // indicator belongs to the newer request
+                  if (previewIndex != previewCount_)
+                     return;
+                  
+                  previewPending_ = false;
+                  
                   if (response == null || response.getErrorMessage() != null)
                   {
                      if (response != null)
@@ -593,29 +632,8 @@ public class DataImport extends Composite
                      return;
                   }
                   
-                  // Set the column definitions to allow subsequent calls to assemble
-                  // generate preview code based on data.
-                  importOptions_.setBaseColumnDefinitions(response);
-                  
-                  lastSuccessfulResponse_ = response;
-                  
-                  dataImportOptionsUi_.setPreviewResponse(response);
-
-                  if (response.getLocalFiles() != null)
-                  {
-                     localFiles_ = response.getLocalFiles();
-                  }
-                  
-                  gridViewer_.setOption("status",
-                          response.getParsingErrors() > 0 ?
-                                  constants_.previewingFirstEntriesMultiple(toLocaleString(maxRows_),
-                                          Integer.toString(response.getParsingErrors())) :
-                                  constants_.previewingFirstEntriesNone(toLocaleString(maxRows_))
-                        );
-                  
-                  assignColumnDefinitions(response, importOptions_.getColumnDefinitions());
-                  
-                  setGridViewerData(response);
+                  cachePreview(previewKey, response);
+                  showPreview(response);
                   
                   progressIndicator_.onCompleted();
                }
@@ -624,6 +642,10 @@ public class DataImport extends Composite
                public void onError(ServerError error)
                {
                   Debug.logError(error);
+                  if (previewIndex != previewCount_)
+                     return;
+                  
+                  previewPending_ = false;
                   cleanPreviewResources();
                   gridViewer_.setData(null);
                   progressIndicator_.onError(error.getMessage());
@@ -635,6 +657,46 @@ public class DataImport extends Composite
       assembleDataImport(previewDataImportOperation);
    }
    
+   private void showPreview(DataImportPreviewResponse response)
+   {
+      // Set the column definitions to allow subsequent calls to assemble
+      // generate preview code based on data.
+      importOptions_.setBaseColumnDefinitions(response);
+      
+      lastSuccessfulResponse_ = response;
+      
+      dataImportOptionsUi_.setPreviewResponse(response);
+
+      if (response.getLocalFiles() != null)
+      {
+         localFiles_ = response.getLocalFiles();
+      }
+      
+      gridViewer_.setOption("status",
+              response.getParsingErrors() > 0 ?
+                      constants_.previewingFirstEntriesMultiple(toLocaleString(maxRows_),
+                              Integer.toString(response.getParsingErrors())) :
+                      constants_.previewingFirstEntriesNone(toLocaleString(maxRows_))
+            );
+      
+      assignColumnDefinitions(response, importOptions_.getColumnDefinitions());
+      
+      setGridViewerData(response);
+   }
+   
+   private void cachePreview(String previewKey, DataImportPreviewResponse response)
+   {
+      previewCache_.remove(previewKey);
+      previewCache_.put(previewKey, response);
+      
+      Iterator<String> keys = previewCache_.keySet().iterator();
+      while (previewCache_.size() > MAX_CACHED_PREVIEWS && keys.hasNext())
+      {
+         keys.next();
+         keys.remove();
+      }
+   }
+   
    private void setCodeAreaDefaults()
    {
       codeArea_.getEditor().getSession().setEditorMode(
@@ -707,6 +769,11 @@ public class DataImport extends Composite
          
       Object.keys(response.columns).forEach(function(key) {
          var col = response.columns[key];
+         
+         // clear any definitions assigned when this response was shown before
+         delete col.col_type_assigned;
+         delete col.col_disabled;
+         
          if (definitions[col.col_name]) {
             col.col_type_assigned = definitions[col.col_name].assignedType;
             if (col.col_type_assigned == "skip")
@@ -155,6 +155,50 @@ public class DataImportOptions extends JavaScriptObject
       });
    }-*/;
    
+   /**
+    * Returns a key identifying the options that affect how the data is
+    * previewed; changes to other options (e.g. the name of the data set, or
+    * which columns are skipped) don't require the data to be read again.
+    * This mirrors how 'preview_data_import' treats column definitions.
+    */
+   public final native String getPreviewKey() /*-{
+      var mode = this.mode;
+      var options = {};
+      var this_ = this;
+      Object.keys(this).forEach(function(key) {
+         options[key] = this_[key];
+      });
+      
+      delete options.dataName;
+      delete options.openDataViewer;
+      delete options.columnsOnly;
+      delete options.localFiles;
+      
+      // only columns with an assigned type affect how the data is read
+      delete options.columnDefinitions;
+      if (this.columnDefinitions) {
+         var definitions = {};
+         Object.keys(this.columnDefinitions).forEach(function(key) {
+            var definition = this_.columnDefinitions[key];
+            var assignedType = definition.assignedType;
+            if (mode === "text" && (assignedType === "skip" || assignedType === "only"))
+               assignedType = null;
+            else if (mode === "xls" && assignedType === "skip")
+               assignedType = "character";
+            
+            if (assignedType) {
+               definitions[key] = {
+                  assignedType: assignedType,
+                  parseString: definition.parseString
+               };
+            }
+         });
+         options.columnDefinitions = definitions;
+      }
+      
+      return JSON.stringify(options);
+   }-*/;
+   
    public final native void setLocalFiles(JavaScriptObject localFiles) /*-{
       this.localFiles = localFiles;
    }-*/;
@@ -73,6 +73,7 @@ import org.rstudio.studio.client.workbench.views.files.events.DirectoryNavigateE
 import org.rstudio.studio.client.workbench.views.files.events.FileChangeEvent;
 import org.rstudio.studio.client.workbench.views.files.events.ShowFolderEvent;
 import org.rstudio.studio.client.workbench.views.files.model.DirectoryListing;
+import org.rstudio.studio.client.workbench.views.files.model.DirectoryListingCache;
 import org.rstudio.studio.client.workbench.views.files.model.FileChange;
 import org.rstudio.studio.client.workbench.views.files.model.FilesServerOperations;
 import org.rstudio.studio.client.workbench.views.files.model.PendingFileUpload;
@@ -179,7 +180,8 @@ public class Files
                 ConsoleDispatcher consoleDispatcher,
                 WorkbenchContext workbenchContext,
                 PaneManager paneManager,
-                DataImportPresenter dataImportPresenter)
+                DataImportPresenter dataImportPresenter,
+                DirectoryListingCache listingCache)
    {
       super(view);
       view_ = view;
@@ -199,6 +201,7 @@ public class Files
       pPrefs_ = pPrefs;
       paneManager_ = paneManager;
       dataImportPresenter_ = dataImportPresenter;
+      listingCache_ = listingCache;
 
       ((Binder)GWT.create(Binder.class)).bind(commands, this);
 
@@ -1299,13 +1302,57 @@ public class Files
       new ServerDataSource<DirectoryListing>()
       {
          public void requestData(
-               ServerRequestCallback<DirectoryListing> requestCallback)
+               final ServerRequestCallback<DirectoryListing> requestCallback)
          {
+            // respect user pref for showing hidden
+            boolean showHidden = pPrefs_.get().showHiddenFiles().getValue();
 
-            server_.listFiles(currentPath_,
+            // responses are ignored once we've navigated elsewhere (the
+            // view shows whichever listing it receives)
+            final FileSystemItem path = currentPath_;
+
+            // show the cached listing (if any) right away, and re-validate it
+            DirectoryListing cached = listingCache_.get(path, showHidden);
+            if (cached != null)
+               showListing(path, cached, requestCallback);
+
+            listingCache_.listFiles(path,
                   true, // pass true to enable monitoring for all calls to list_files
-                  pPrefs_.get().showHiddenFiles().getValue(), // respect user pref for showing hidden
-                  requestCallback);
+                  showHidden,
+                  new ServerRequestCallback<DirectoryListing>()
+                  {
+                     @Override
+                     public void onResponseReceived(DirectoryListing listing)
+                     {
+                        if (path != currentPath_)
+                           return;
+
+                        // skip the fresh listing if it's what's already shown
+                        if (shownListingPath_ == path &&
+                            DirectoryListingCache.isSameListing(shownListing_, listing))
+                        {
+                           return;
+                        }
+
+                        showListing(path, listing, requestCallback);
+                     }
+
+                     @Override
+                     public void onError(ServerError error)
+                     {
+                        if (path == currentPath_)
+                           requestCallback.onError(error);
+                     }
+                  });
+         }
+
+         private void showListing(FileSystemItem path,
+                                  DirectoryListing listing,
+                                  ServerRequestCallback<DirectoryListing> requestCallback)
+         {
+            shownListingPath_ = path;
+            shownListing_ = listing;
+            requestCallback.onResponseReceived(listing);
          }
       };
 
@@ -1317,8 +1364,13 @@ public class Files
    private final EventBus eventBus_;
    private final GlobalDisplay globalDisplay_;
    private final RemoteFileSystemContext fileSystemContext_;
+   private final DirectoryListingCache listingCache_;
    private final Session session_;
    private FileSystemItem currentPath_ = FileSystemItem.home();
+
+   // the listing last shown in the view, and the path it was requested for
+   private DirectoryListing shownListing_ = null;
+   private FileSystemItem shownListingPath_ = null;
    private FileSystemItem workingPath_;
    private boolean hasNavigatedToDirectory_ = false;
    private final Provider<FilesCopy> pFilesCopy_;
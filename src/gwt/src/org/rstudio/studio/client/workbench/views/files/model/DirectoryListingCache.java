@@ -0,0 +1,240 @@
+/*
+ * DirectoryListingCache.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.files.model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.rstudio.core.client.files.FileSystemItem;
+import org.rstudio.studio.client.application.events.EventBus;
+import org.rstudio.studio.client.server.ServerError;
+import org.rstudio.studio.client.server.ServerRequestCallback;
+import org.rstudio.studio.client.workbench.views.files.events.FileChangeEvent;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.JsArray;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * Caches the directory listings fetched by the Files pane and the file
+ * dialogs, so that a directory visited recently can be shown immediately
+ * (while the listing is re-validated) rather than after a round trip to the
+ * session. Entries expire after a few minutes, and are discarded when a file
+ * change is reported within the directory.
+ */
+@Singleton
+public class DirectoryListingCache
+{
+   private static class Entry
+   {
+      Entry(DirectoryListing listing)
+      {
+         listing_ = listing;
+         time_ = Duration.currentTimeMillis();
+      }
+
+      private final DirectoryListing listing_;
+      private final double time_;
+   }
+
+   @Inject
+   public DirectoryListingCache(FilesServerOperations server, EventBus events)
+   {
+      server_ = server;
+
+      events.addHandler(FileChangeEvent.TYPE, event ->
+      {
+         FileSystemItem file = event.getFileChange().getFile();
+         if (file == null)
+            return;
+
+         FileSystemItem parent = file.getParentPath();
+         if (parent != null)
+            invalidate(parent.getPath());
+
+         // the contents of a removed (or replaced) directory are gone too
+         if (file.isDirectory())
+            invalidate(file.getPath());
+      });
+   }
+
+   /**
+    * Returns the cached listing of the given directory, or null if there's
+    * no (unexpired) listing.
+    */
+   public DirectoryListing get(FileSystemItem directory, boolean showHidden)
+   {
+      String key = key(directory.getPath(), showHidden);
+      Entry entry = entries_.get(key);
+      if (entry == null)
+         return null;
+
+      if (Duration.currentTimeMillis() - entry.time_ > EXPIRATION_MS)
+      {
+         entries_.remove(key);
+         return null;
+      }
+      return entry.listing_;
+   }
+
+   /**
+    * Lists the given directory, caching the listing.
+    */
+   public void listFiles(final FileSystemItem directory,
+                         boolean monitor,
+                         final boolean showHidden,
+                         final ServerRequestCallback<DirectoryListing> requestCallback)
+   {
+      final int generation = generation_;
+      server_.listFiles(directory, monitor, showHidden,
+                        new ServerRequestCallback<DirectoryListing>()
+      {
+         @Override
+         public void onResponseReceived(DirectoryListing listing)
+         {
+            // don't cache a listing that was requested before the directory
+            // was invalidated
+            if (generation == generation_)
+               put(directory.getPath(), showHidden, listing);
+            requestCallback.onResponseReceived(listing);
+         }
+
+         @Override
+         public void onError(ServerError error)
+         {
+            entries_.remove(key(directory.getPath(), showHidden));
+            requestCallback.onError(error);
+         }
+      });
+   }
+
+   /**
+    * Lists the given directory in the background, if its listing isn't
+    * already cached. Only one directory is prefetched at a time; if another
+    * prefetch is requested in the meantime, the latest one is run next.
+    */
+   public void prefetch(FileSystemItem directory, boolean showHidden)
+   {
+      if (get(directory, showHidden) != null)
+         return;
+
+      if (prefetching_)
+      {
+         nextPrefetch_ = directory;
+         nextPrefetchShowHidden_ = showHidden;
+         return;
+      }
+
+      prefetching_ = true;
+      listFiles(directory, false, showHidden,
+                new ServerRequestCallback<DirectoryListing>()
+      {
+         @Override
+         public void onResponseReceived(DirectoryListing listing)
+         {
+            onPrefetchCompleted();
+         }
+
+         @Override
+         public void onError(ServerError error)
+         {
+            onPrefetchCompleted();
+         }
+      });
+   }
+
+   public void invalidate(String path)
+   {
+      entries_.remove(key(path, false));
+      entries_.remove(key(path, true));
+      generation_++;
+   }
+
+   /**
+    * Whether the two listings have the same files (so that a re-validated
+    * listing needn't be displayed again).
+    */
+   public static boolean isSameListing(DirectoryListing a, DirectoryListing b)
+   {
+      if (a == null || b == null)
+         return false;
+
+      if (a.isParentBrowseable() != b.isParentBrowseable())
+         return false;
+
+      JsArray<FileSystemItem> aFiles = a.getFiles();
+      JsArray<FileSystemItem> bFiles = b.getFiles();
+      if (aFiles.length() != bFiles.length())
+         return false;
+
+      for (int i = 0; i < aFiles.length(); i++)
+      {
+         FileSystemItem aFile = aFiles.get(i);
+         FileSystemItem bFile = bFiles.get(i);
+         if (aFile.getPath() != bFile.getPath() ||
+             aFile.isDirectory() != bFile.isDirectory() ||
+             aFile.getLength() != bFile.getLength() ||
+             aFile.getLastModifiedNative() != bFile.getLastModifiedNative())
+         {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   private void put(String path, boolean showHidden, DirectoryListing listing)
+   {
+      // re-insert so that the entry is treated as the most recent
+      String key = key(path, showHidden);
+      entries_.remove(key);
+      entries_.put(key, new Entry(listing));
+
+      Iterator<String> keys = entries_.keySet().iterator();
+      while (entries_.size() > MAX_ENTRIES && keys.hasNext())
+      {
+         keys.next();
+         keys.remove();
+      }
+   }
+
+   private void onPrefetchCompleted()
+   {
+      prefetching_ = false;
+      if (nextPrefetch_ != null)
+      {
+         FileSystemItem next = nextPrefetch_;
+         nextPrefetch_ = null;
+         prefetch(next, nextPrefetchShowHidden_);
+      }
+   }
+
+   private static String key(String path, boolean showHidden)
+   {
+      return (showHidden ? "1" : "0") + path;
+   }
+
+   private final FilesServerOperations server_;
+   private final Map<String, Entry> entries_ = new LinkedHashMap<>();
+   private int generation_ = 0;
+
+   private boolean prefetching_ = false;
+   private FileSystemItem nextPrefetch_;
+   private boolean nextPrefetchShowHidden_;
+
+   private static final int EXPIRATION_MS = 5 * 60 * 1000;
+   private static final int MAX_ENTRIES = 200;
+}
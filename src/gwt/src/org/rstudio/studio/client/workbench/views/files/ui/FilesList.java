@@ -452,9 +452,6 @@ public class FilesList extends Composite
       containingPath_ = containingPath;
       parentPath_ = containingPath_.getParentPath();
 
-      // set page size (+1 for parent path)
-      filesDataGrid_.setPageSize(files.length() + 1);
-
       // get underlying list
       List<FileSystemItem> fileList = dataProvider_.getList();
       fileList.clear();
@@ -514,7 +511,6 @@ public class FilesList extends Composite
             if (row == -1)
             {
                files.add(file);
-               filesDataGrid_.setPageSize(files.size() + 1);
 
                // re-apply the active sort so the new file lands in its
                // sorted position rather than at the bottom of the list.
@@ -46,5 +46,12 @@ public class HelpPopoutSatellite extends SatelliteApplication
       initialize(name_, view, satellite, pAceThemes, pUserPrefs, exHandler, commands);
    }
 
+   @Override
+   protected String[] getClientEventTypes()
+   {
+      // help popouts only display content; they don't handle server events
+      return new String[] {};
+   }
+
    private final String name_;
 }
@@ -22,6 +22,9 @@ public interface HelpServerOperations
    void suggestTopics(String prefix,
                       ServerRequestCallback<JsArrayString> requestCallback);
 
+   void getHelpTopicIndex(JsArrayString knownPackages,
+                          ServerRequestCallback<HelpTopicIndexUpdate> requestCallback);
+
    void getHelp(String topic, 
                 String packageName,
                 int type,
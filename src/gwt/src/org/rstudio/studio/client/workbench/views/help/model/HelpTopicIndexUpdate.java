@@ -0,0 +1,51 @@
+/*
+ * HelpTopicIndexUpdate.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.help.model;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.JsArrayString;
+
+public class HelpTopicIndexUpdate extends JavaScriptObject
+{
+   public static class PackageTopics extends JavaScriptObject
+   {
+      protected PackageTopics()
+      {
+      }
+
+      public final native String getPath() /*-{
+         return this.path;
+      }-*/;
+
+      public final native JsArrayString getTopics() /*-{
+         return this.topics || [];
+      }-*/;
+   }
+
+   protected HelpTopicIndexUpdate()
+   {
+   }
+
+   // the paths of all attached packages
+   public final native JsArrayString getPaths() /*-{
+      return this.paths || [];
+   }-*/;
+
+   // the topics of packages that weren't already indexed
+   public final native JsArray<PackageTopics> getPackages() /*-{
+      return this.packages || [];
+   }-*/;
+}
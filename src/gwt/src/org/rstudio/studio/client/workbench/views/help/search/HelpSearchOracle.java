@@ -22,18 +22,45 @@ import org.rstudio.studio.client.server.ServerRequestCallback;
 import org.rstudio.studio.client.workbench.views.help.model.HelpServerOperations;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class HelpSearchOracle extends SuggestOracle
 {
    @Inject
-   public HelpSearchOracle(HelpServerOperations server)
+   public HelpSearchOracle(HelpServerOperations server, HelpTopicIndex index)
    {
       server_ = server;
+      index_ = index;
    }
 
    @Override
    public void requestSuggestions(final Request request, 
                                   final Callback callback)
+   {
+      lastRequest_ = request;
+
+      // answer from the local topic index when we have one, even if it's
+      // being brought up to date; re-answer once it has been
+      if (index_.isReady())
+         respond(request, callback, index_.getSuggestions(request.getQuery(), request.getLimit()));
+
+      if (index_.isUpToDate())
+         return;
+
+      index_.update(succeeded ->
+      {
+         if (request != lastRequest_)
+            return;
+
+         if (succeeded)
+            respond(request, callback, index_.getSuggestions(request.getQuery(), request.getLimit()));
+         else if (!index_.isReady())
+            requestSuggestionsFromServer(request, callback);
+      });
+   }
+
+   private void requestSuggestionsFromServer(final Request request,
+                                             final Callback callback)
    {
       String query = request.getQuery();
       server_.suggestTopics(query,
@@ -48,14 +75,22 @@ public class HelpSearchOracle extends SuggestOracle
          {
             int maxCount = Math.min(suggestions.length(), request.getLimit());
 
-            ArrayList<SearchSuggestion> results = new ArrayList<>();
+            ArrayList<String> results = new ArrayList<>();
             for (int i = 0; i< maxCount; i++)
-               results.add(new SearchSuggestion(suggestions.get(i)));
+               results.add(suggestions.get(i));
             
-            callback.onSuggestionsReady(request, new Response(results));
+            respond(request, callback, results);
          }
       });
    }
+
+   private void respond(Request request, Callback callback, List<String> topics)
+   {
+      ArrayList<SearchSuggestion> results = new ArrayList<>();
+      for (String topic : topics)
+         results.add(new SearchSuggestion(topic));
+      callback.onSuggestionsReady(request, new Response(results));
+   }
    
    private class SearchSuggestion implements Suggestion
    {
@@ -78,4 +113,6 @@ public class HelpSearchOracle extends SuggestOracle
    }
 
    private final HelpServerOperations server_;
+   private final HelpTopicIndex index_;
+   private Request lastRequest_;
 }
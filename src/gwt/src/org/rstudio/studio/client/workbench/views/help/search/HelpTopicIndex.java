@@ -0,0 +1,220 @@
+/*
+ * HelpTopicIndex.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.help.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.rstudio.core.client.CommandWithArg;
+import org.rstudio.core.client.StringUtil;
+import org.rstudio.core.client.js.JsUtil;
+import org.rstudio.studio.client.application.events.EventBus;
+import org.rstudio.studio.client.server.ServerError;
+import org.rstudio.studio.client.server.ServerRequestCallback;
+import org.rstudio.studio.client.workbench.codesearch.CodeSearchOracle;
+import org.rstudio.studio.client.workbench.views.help.model.HelpServerOperations;
+import org.rstudio.studio.client.workbench.views.help.model.HelpTopicIndexUpdate;
+import org.rstudio.studio.client.workbench.views.packages.events.PackageStateChangedEvent;
+import org.rstudio.studio.client.workbench.views.packages.events.PackageStatusChangedEvent;
+
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.JsArrayString;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * An index of the help topics of the attached packages, used to suggest help
+ * topics without a round trip to the session for each keystroke. The index
+ * is fetched when first used, and then updated (fetching the topics of newly
+ * attached packages only) whenever packages are attached, detached, installed
+ * or removed.
+ *
+ * Matching mirrors that done by the session for 'suggest_topics': topics
+ * must start with the first character of the query (ignoring leading '.'s),
+ * and contain the rest of the query as a case-insensitive subsequence.
+ */
+@Singleton
+public class HelpTopicIndex
+{
+   @Inject
+   public HelpTopicIndex(HelpServerOperations server, EventBus events)
+   {
+      server_ = server;
+
+      events.addHandler(PackageStatusChangedEvent.TYPE, event -> stale_ = true);
+      events.addHandler(PackageStateChangedEvent.TYPE, event -> stale_ = true);
+   }
+
+   // whether the index has been fetched (though it may be out of date)
+   public boolean isReady()
+   {
+      return ready_;
+   }
+
+   public boolean isUpToDate()
+   {
+      return ready_ && !stale_;
+   }
+
+   /**
+    * Brings the index up to date, if necessary.
+    * @param onUpdated Invoked with true once the index is up to date, or
+    *    with false if the index couldn't be fetched
+    */
+   public void update(final CommandWithArg<Boolean> onUpdated)
+   {
+      if (isUpToDate())
+      {
+         onUpdated.execute(true);
+         return;
+      }
+
+      pending_.add(onUpdated);
+      if (pending_.size() > 1)
+         return;
+
+      stale_ = false;
+      JsArrayString known = JsUtil.toJsArrayString(topics_.keySet());
+      server_.getHelpTopicIndex(known,
+                                new ServerRequestCallback<HelpTopicIndexUpdate>()
+      {
+         @Override
+         public void onResponseReceived(HelpTopicIndexUpdate update)
+         {
+            applyUpdate(update);
+            ready_ = true;
+            complete(true);
+         }
+
+         @Override
+         public void onError(ServerError error)
+         {
+            stale_ = true;
+            complete(false);
+         }
+      });
+   }
+
+   /**
+    * Returns up to 'limit' topics matching the query, best matches first.
+    */
+   public List<String> getSuggestions(String query, int limit)
+   {
+      List<String> candidates;
+      if (StringUtil.isNullOrEmpty(query))
+         candidates = allTopics_;
+      else
+         candidates = topicsByInitial_.get(query.charAt(0));
+
+      if (candidates == null)
+         return new ArrayList<>();
+
+      String queryLower = StringUtil.notNull(query).toLowerCase();
+      final Map<String, Integer> scores = new HashMap<>();
+      List<String> matches = new ArrayList<>();
+      for (String topic : candidates)
+      {
+         String topicLower = topic.toLowerCase();
+         if (!StringUtil.isSubsequence(topicLower, queryLower))
+            continue;
+
+         matches.add(topic);
+         scores.put(topic, CodeSearchOracle.scoreMatch(topicLower, queryLower, false));
+      }
+
+      Collections.sort(matches, (lhs, rhs) ->
+      {
+         int result = scores.get(lhs) - scores.get(rhs);
+         return result != 0 ? result : lhs.length() - rhs.length();
+      });
+
+      return matches.size() > limit ? matches.subList(0, limit) : matches;
+   }
+
+   private void applyUpdate(HelpTopicIndexUpdate update)
+   {
+      // drop the topics of packages that are no longer attached
+      Set<String> paths = new HashSet<>();
+      for (String path : JsUtil.asIterable(update.getPaths()))
+         paths.add(path);
+      topics_.keySet().retainAll(paths);
+
+      // add the topics of newly attached packages
+      JsArray<HelpTopicIndexUpdate.PackageTopics> packages = update.getPackages();
+      for (int i = 0; i < packages.length(); i++)
+         topics_.put(packages.get(i).getPath(), packages.get(i).getTopics());
+
+      // bucket the (unique) topics by their first character, ignoring leading
+      // '.'s; topics starting with '.' are also found via '.' itself
+      Set<String> seen = new HashSet<>();
+      allTopics_ = new ArrayList<>();
+      topicsByInitial_ = new HashMap<>();
+      for (JsArrayString topics : topics_.values())
+      {
+         for (int i = 0; i < topics.length(); i++)
+         {
+            String topic = topics.get(i);
+            if (StringUtil.isNullOrEmpty(topic) || !seen.add(topic))
+               continue;
+
+            allTopics_.add(topic);
+
+            int index = 0;
+            while (index < topic.length() && topic.charAt(index) == '.')
+               index++;
+            if (index < topic.length())
+               addTopic(topic.charAt(index), topic);
+            if (index > 0)
+               addTopic('.', topic);
+         }
+      }
+   }
+
+   private void addTopic(char initial, String topic)
+   {
+      List<String> topics = topicsByInitial_.get(initial);
+      if (topics == null)
+      {
+         topics = new ArrayList<>();
+         topicsByInitial_.put(initial, topics);
+      }
+      topics.add(topic);
+   }
+
+   private void complete(boolean succeeded)
+   {
+      List<CommandWithArg<Boolean>> pending = new ArrayList<>(pending_);
+      pending_.clear();
+      for (CommandWithArg<Boolean> command : pending)
+         command.execute(succeeded);
+   }
+
+   private final HelpServerOperations server_;
+
+   // the topics of each attached package, keyed by package path
+   private final Map<String, JsArrayString> topics_ = new HashMap<>();
+
+   private List<String> allTopics_ = new ArrayList<>();
+   private Map<Character, List<String>> topicsByInitial_ = new HashMap<>();
+
+   private final List<CommandWithArg<Boolean>> pending_ = new ArrayList<>();
+   private boolean ready_ = false;
+   private boolean stale_ = false;
+}
@@ -81,17 +81,22 @@ public class FindOutputCodec
 
    @Override
    protected int addBreak(TableRowElement row)
+   {
+      TableRowElement tr = getHeaderRow(row.getAttribute(DATA_FILE));
+      row.getParentElement().insertBefore(tr, row);
+      return 1;
+   }
+
+   public TableRowElement getHeaderRow(String text)
    {
       TableRowElement tr = Document.get().createTRElement();
       tr.setClassName(styles_.headerRow());
 
       TableCellElement td = Document.get().createTDElement();
       td.setColSpan(2);
-      td.setInnerText(row.getAttribute(DATA_FILE));
+      td.setInnerText(text);
       tr.appendChild(td);
-
-      row.getParentElement().insertBefore(tr, row);
-      return 1;
+      return tr;
    }
 
    @Override
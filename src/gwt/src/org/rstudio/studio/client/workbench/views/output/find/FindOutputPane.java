@@ -16,14 +16,13 @@ package org.rstudio.studio.client.workbench.views.output.find;
 
 import com.google.gwt.aria.client.Roles;
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.dom.client.NativeEvent;
-import com.google.gwt.dom.client.TableRowElement;
 import com.google.gwt.event.dom.client.*;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 import com.google.gwt.user.client.ui.Label;
-import com.google.gwt.user.client.ui.ScrollPanel;
 import com.google.gwt.user.client.ui.SimplePanel;
 import com.google.gwt.user.client.ui.TextBox;
 import com.google.gwt.user.client.ui.Widget;
@@ -32,12 +31,12 @@ import org.rstudio.core.client.CodeNavigationTarget;
 import org.rstudio.core.client.DebouncedCommand;
 import org.rstudio.core.client.ElementIds;
 import org.rstudio.core.client.StringUtil;
-import org.rstudio.core.client.dom.DomUtils;
 import org.rstudio.core.client.events.EnsureVisibleEvent;
 import org.rstudio.core.client.events.SelectionCommitEvent;
 import org.rstudio.core.client.theme.res.ThemeStyles;
 import org.rstudio.core.client.widget.*;
 import org.rstudio.core.client.widget.events.SelectionChangedEvent;
+import org.rstudio.studio.client.application.events.ChangeFontSizeEvent;
 import org.rstudio.studio.client.application.events.EventBus;
 import org.rstudio.studio.client.workbench.commands.Commands;
 import org.rstudio.studio.client.workbench.ui.WorkbenchPane;
@@ -163,14 +162,16 @@ public class FindOutputPane extends WorkbenchPane
       FindOutputResources resources = GWT.create(FindOutputResources.class);
       resources.styles().ensureInjected();
 
-      table_ = new FastSelectTable<>(
+      table_ = new FindResultsTable(
             new FindOutputCodec(resources),
-            resources.styles().selectedRow(),
-            true,
-            false,
+            resources,
             constants_.findInFilesResultsTitle());
+      table_.setSize("100%", "100%");
       FontSizer.applyNormalFontSize(table_);
-      table_.addStyleName(resources.styles().findOutput());
+
+      // re-measure the table's rows once the new font size has been applied
+      eventBus_.addHandler(ChangeFontSizeEvent.TYPE, event ->
+         Scheduler.get().scheduleDeferred(() -> table_.onFontSizeChanged()));
       table_.addClickHandler(new ClickHandler()
       {
          @Override
@@ -206,9 +207,7 @@ public class FindOutputPane extends WorkbenchPane
       container_.setSize("100%", "100%");
       statusPanel_ = new StatusPanel();
       statusPanel_.setSize("100%", "100%");
-      scrollPanel_ = new ScrollPanel(table_);
-      scrollPanel_.setSize("100%", "100%");
-      container_.setWidget(scrollPanel_);
+      container_.setWidget(table_);
       return container_;
    }
 
@@ -242,12 +241,12 @@ public class FindOutputPane extends WorkbenchPane
       {
          matchCount_ += matchesToAdd;
 
-         if (matchCount_ > 0 && container_.getWidget() != scrollPanel_)
-            container_.setWidget(scrollPanel_);
+         if (matchCount_ > 0 && container_.getWidget() != table_)
+            container_.setWidget(table_);
 
          if (!replaceMode_ || regexPreviewMode_)
             context_.addMatches(findResults.subList(0, matchesToAdd));
-         table_.addItems(findResults.subList(0, matchesToAdd), false);
+         table_.addItems(findResults.subList(0, matchesToAdd));
       }
 
       if (matchCount_ >= MAX_COUNT)
@@ -305,8 +304,7 @@ public class FindOutputPane extends WorkbenchPane
       if (!regexPreviewMode_)
       {
          table_.focus();
-         ArrayList<Integer> indices = table_.getSelectedRowIndexes();
-         if (indices.isEmpty())
+         if (!table_.hasSelection())
             table_.selectNextRow();
       }
    }
@@ -335,13 +333,7 @@ public class FindOutputPane extends WorkbenchPane
    @Override
    public void ensureSelectedRowIsVisible()
    {
-      ArrayList<TableRowElement> rows = table_.getSelectedRows();
-      if (rows.size() > 0)
-      {
-         DomUtils.ensureVisibleVert(scrollPanel_.getElement(),
-                                    rows.get(0),
-                                    20);
-      }
+      table_.ensureSelectedRowIsVisible();
    }
 
    @Override
@@ -356,9 +348,7 @@ public class FindOutputPane extends WorkbenchPane
       if (overflow_)
          return;
       overflow_ = true;
-      ArrayList<FindResult> items = new ArrayList<>();
-      items.add(null);
-      table_.addItems(items, false);
+      table_.setOverflow(true);
    }
 
    @Override
@@ -588,9 +578,9 @@ public class FindOutputPane extends WorkbenchPane
 
    private void fireSelectionCommitted()
    {
-      ArrayList<CodeNavigationTarget> values = table_.getSelectedValues();
-      if (values.size() == 1)
-         SelectionCommitEvent.fire(this, values.get(0));
+      CodeNavigationTarget value = table_.getSelectedValue();
+      if (value != null)
+         SelectionCommitEvent.fire(this, value);
    }
 
    private class StatusPanel extends HorizontalCenterPanel
@@ -609,7 +599,7 @@ public class FindOutputPane extends WorkbenchPane
       private final Label label_;
    }
 
-   private FastSelectTable<FindResult, CodeNavigationTarget, Object> table_;
+   private FindResultsTable table_;
    private FindResultContext context_;
    private final Commands commands_;
    private final EventBus eventBus_;
@@ -617,7 +607,6 @@ public class FindOutputPane extends WorkbenchPane
    private ToolbarButton stopSearch_;
    private ToolbarButton refreshButton_;
    private SimplePanel container_;
-   private ScrollPanel scrollPanel_;
    private StatusPanel statusPanel_;
    private boolean overflow_ = false;
    private int matchCount_;
@@ -638,6 +627,6 @@ public class FindOutputPane extends WorkbenchPane
    private DebouncedCommand displayPreview_;
 
    // This must be the same as MAX_COUNT in SessionFind.cpp
-   private static final int MAX_COUNT = 1000;
+   private static final int MAX_COUNT = 100000;
    private static final OutputConstants constants_ = GWT.create(OutputConstants.class);
 }
@@ -166,10 +166,6 @@ public class FindResultContext
          File file = getFile(fr.getFile());
 
          file.addMatch(fr.getLine(), 0, fr.getLineValue());
-
-         int index = data_.getList().indexOf(file);
-         if (index >= 0) // not that we are expecting otherwise...
-            data_.getList().set(index, file);
          findResults_.add(fr.clone());
       }
 
@@ -0,0 +1,565 @@
+/*
+ * FindResultsTable.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.output.find;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.rstudio.core.client.ClassIds;
+import org.rstudio.core.client.CodeNavigationTarget;
+import org.rstudio.core.client.FilePosition;
+import org.rstudio.core.client.StringUtil;
+import org.rstudio.core.client.dom.DomUtils;
+import org.rstudio.core.client.dom.NativeWindow;
+import org.rstudio.core.client.widget.events.SelectionChangedEvent;
+import org.rstudio.studio.client.workbench.views.output.find.FindOutputResources.Styles;
+import org.rstudio.studio.client.workbench.views.output.find.model.FindResult;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NativeEvent;
+import com.google.gwt.dom.client.Style.Cursor;
+import com.google.gwt.dom.client.Style.Position;
+import com.google.gwt.dom.client.Style.Unit;
+import com.google.gwt.dom.client.TableElement;
+import com.google.gwt.dom.client.TableRowElement;
+import com.google.gwt.dom.client.TableSectionElement;
+import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.ClickHandler;
+import com.google.gwt.event.dom.client.HasClickHandlers;
+import com.google.gwt.event.dom.client.HasKeyDownHandlers;
+import com.google.gwt.event.dom.client.KeyCodes;
+import com.google.gwt.event.dom.client.KeyDownEvent;
+import com.google.gwt.event.dom.client.KeyDownHandler;
+import com.google.gwt.event.dom.client.MouseDownEvent;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.ui.Composite;
+import com.google.gwt.user.client.ui.FlowPanel;
+import com.google.gwt.user.client.ui.ScrollPanel;
+
+// A list of Find in Files results, grouped by file under collapsible headers.
+// Only the rows in view (plus some overscan) are present in the DOM, so the
+// list can hold any number of results: the table is absolutely positioned
+// within a spacer sized to the full list, and re-rendered as it scrolls.
+// Every row is given the same height, measured from the rendered rows (and
+// re-measured when the font size changes).
+public class FindResultsTable extends Composite
+      implements HasClickHandlers, HasKeyDownHandlers
+{
+   private static class Group
+   {
+      public Group(String file)
+      {
+         file_ = file;
+         header_ = new Row(this, null);
+      }
+
+      private final String file_;
+      private final Row header_;
+      private final List<Row> rows_ = new ArrayList<>();
+      private boolean collapsed_ = false;
+   }
+
+   private static class Row
+   {
+      public Row(Group group, FindResult result)
+      {
+         group_ = group;
+         result_ = result;
+      }
+
+      public boolean isHeader()
+      {
+         return result_ == null;
+      }
+
+      private final Group group_;
+      private final FindResult result_;
+   }
+
+   public FindResultsTable(FindOutputCodec codec,
+                           FindOutputResources resources,
+                           String title)
+   {
+      codec_ = codec;
+      styles_ = resources.styles();
+
+      table_ = Document.get().createTableElement();
+      table_.setTabIndex(0);
+      table_.setCellPadding(0);
+      table_.setCellSpacing(0);
+      table_.setBorder(0);
+      table_.setClassName(ClassIds.FAST_SELECT_TABLE + "_" + ClassIds.idSafeString(title));
+      table_.addClassName(styles_.findOutput());
+      table_.getStyle().setCursor(Cursor.DEFAULT);
+      table_.getStyle().setPosition(Position.ABSOLUTE);
+      table_.getStyle().setProperty("height", "auto");
+      tbody_ = Document.get().createTBodyElement();
+      table_.appendChild(tbody_);
+
+      spacer_ = new FlowPanel();
+      spacer_.getElement().getStyle().setPosition(Position.RELATIVE);
+      spacer_.getElement().appendChild(table_);
+
+      scrollPanel_ = new ScrollPanel(spacer_);
+      scrollPanel_.setSize("100%", "100%");
+      scrollPanel_.addScrollHandler(event -> onScroll());
+      initWidget(scrollPanel_);
+
+      addDomHandler(event -> onMouseDown(event), MouseDownEvent.getType());
+      addDomHandler(event -> onKeyDown(event), KeyDownEvent.getType());
+   }
+
+   @Override
+   public HandlerRegistration addClickHandler(ClickHandler handler)
+   {
+      return addDomHandler(handler, ClickEvent.getType());
+   }
+
+   @Override
+   public HandlerRegistration addKeyDownHandler(KeyDownHandler handler)
+   {
+      return addDomHandler(handler, KeyDownEvent.getType());
+   }
+
+   public HandlerRegistration addSelectionChangedHandler(
+         SelectionChangedEvent.Handler handler)
+   {
+      return addHandler(handler, SelectionChangedEvent.TYPE);
+   }
+
+   public void addItems(List<FindResult> results)
+   {
+      Group previous = groups_.isEmpty() ? null : lastGroup();
+      int previousCount = previous == null ? 0 : previous.rows_.size();
+
+      for (FindResult result : results)
+      {
+         // results arrive grouped by file; start a new group whenever the
+         // file changes
+         if (groups_.isEmpty() || !StringUtil.equals(lastGroup().file_, result.getFile()))
+         {
+            Group group = new Group(result.getFile());
+            groups_.add(group);
+            rows_.add(group.header_);
+         }
+
+         Group group = lastGroup();
+         Row row = new Row(group, result);
+         group.rows_.add(row);
+         if (!group.collapsed_)
+            rows_.add(row);
+      }
+
+      resultCount_ += results.size();
+
+      // results are only ever appended, so the rows already rendered are
+      // unchanged apart from the result count in the last file's header
+      if (previous != null && previous.rows_.size() != previousCount)
+         updateHeader(previous);
+      invalidate(false);
+   }
+
+   public void setOverflow(boolean overflow)
+   {
+      overflow_ = overflow;
+      invalidate(true);
+   }
+
+   public void clear()
+   {
+      groups_.clear();
+      rows_.clear();
+      resultCount_ = 0;
+      selectedIndex_ = -1;
+      overflow_ = false;
+      scrollPanel_.setVerticalScrollPosition(0);
+      invalidate(true);
+   }
+
+   public int getResultCount()
+   {
+      return resultCount_;
+   }
+
+   public int getFileCount()
+   {
+      return groups_.size();
+   }
+
+   // row heights follow the font size, so re-measure them once it changes
+   public void onFontSizeChanged()
+   {
+      rowHeightMeasured_ = false;
+      invalidate(true);
+   }
+
+   // the number of rows currently in the DOM (for diagnostics)
+   public int getRenderedRowCount()
+   {
+      return tbody_.getRows().getLength();
+   }
+
+   public void focus()
+   {
+      table_.focus();
+   }
+
+   public boolean hasSelection()
+   {
+      return selectedIndex_ >= 0;
+   }
+
+   public void selectNextRow()
+   {
+      // the first row is always a file header; start with its first result
+      if (selectedIndex_ < 0)
+         setSelectedIndex(1);
+      else
+         moveSelection(1);
+   }
+
+   public void selectPreviousRow()
+   {
+      moveSelection(-1);
+   }
+
+   public CodeNavigationTarget getSelectedValue()
+   {
+      if (selectedIndex_ < 0)
+         return null;
+
+      Row row = rows_.get(selectedIndex_);
+      if (row.isHeader())
+         return null;
+
+      return new CodeNavigationTarget(row.result_.getFile(),
+                                      FilePosition.create(row.result_.getLine(), 1));
+   }
+
+   public void ensureSelectedRowIsVisible()
+   {
+      if (selectedIndex_ < 0)
+         return;
+
+      ensureRowHeight();
+      int top = selectedIndex_ * rowHeight_;
+      int bottom = top + rowHeight_;
+      int scrollTop = scrollPanel_.getVerticalScrollPosition();
+      int height = scrollPanel_.getOffsetHeight();
+
+      int padding = Math.min(20, Math.max(0, (height - rowHeight_) / 2));
+      if (top - padding < scrollTop)
+         scrollPanel_.setVerticalScrollPosition(Math.max(0, top - padding));
+      else if (bottom + padding > scrollTop + height)
+         scrollPanel_.setVerticalScrollPosition(bottom + padding - height);
+   }
+
+   public void toggleSelectedGroup()
+   {
+      if (selectedIndex_ >= 0)
+         setCollapsed(rows_.get(selectedIndex_).group_, !rows_.get(selectedIndex_).group_.collapsed_);
+   }
+
+   private Group lastGroup()
+   {
+      return groups_.get(groups_.size() - 1);
+   }
+
+   private void setCollapsed(Group group, boolean collapsed)
+   {
+      if (group.collapsed_ == collapsed)
+         return;
+
+      int headerIndex = rows_.indexOf(group.header_);
+      int count = group.rows_.size();
+      group.collapsed_ = collapsed;
+
+      if (collapsed)
+      {
+         rows_.subList(headerIndex + 1, headerIndex + 1 + count).clear();
+
+         // selection within the group moves to its header
+         if (selectedIndex_ > headerIndex + count)
+            selectedIndex_ -= count;
+         else if (selectedIndex_ > headerIndex)
+            selectedIndex_ = headerIndex;
+      }
+      else
+      {
+         rows_.addAll(headerIndex + 1, group.rows_);
+         if (selectedIndex_ > headerIndex)
+            selectedIndex_ += count;
+      }
+
+      invalidate(true);
+   }
+
+   private void setSelectedIndex(int index)
+   {
+      if (rows_.isEmpty())
+         return;
+
+      index = Math.max(0, Math.min(rows_.size() - 1, index));
+      if (index == selectedIndex_)
+         return;
+
+      setRowSelected(selectedIndex_, false);
+      selectedIndex_ = index;
+      setRowSelected(selectedIndex_, true);
+
+      Scheduler.get().scheduleDeferred(() -> fireEvent(new SelectionChangedEvent()));
+   }
+
+   private void moveSelection(int delta)
+   {
+      setSelectedIndex(selectedIndex_ < 0 ? 0 : selectedIndex_ + delta);
+   }
+
+   private void setRowSelected(int index, boolean selected)
+   {
+      if (index < renderedFirst_ || index >= renderedLast_)
+         return;
+
+      TableRowElement tr = tbody_.getRows().getItem(index - renderedFirst_);
+      if (selected)
+         tr.addClassName(styles_.selectedRow());
+      else
+         tr.removeClassName(styles_.selectedRow());
+   }
+
+   private void onMouseDown(MouseDownEvent event)
+   {
+      if (event.getNativeButton() != NativeEvent.BUTTON_LEFT)
+         return;
+
+      event.preventDefault();
+      NativeWindow.get().focus();
+      DomUtils.setActive(table_);
+
+      Element target = event.getNativeEvent().getEventTarget().cast();
+      Element rowEl = DomUtils.findParentElement(target, true, el -> el.hasAttribute(DATA_ROW));
+      if (rowEl == null)
+         return;
+
+      int index = StringUtil.parseInt(rowEl.getAttribute(DATA_ROW), -1);
+      if (index < 0 || index >= rows_.size())
+         return;
+
+      setSelectedIndex(index);
+      if (rows_.get(index).isHeader())
+         toggleSelectedGroup();
+   }
+
+   private void onKeyDown(KeyDownEvent event)
+   {
+      ensureRowHeight();
+      int pageSize = Math.max(1, scrollPanel_.getOffsetHeight() / rowHeight_ - 1);
+      Row selected = selectedIndex_ < 0 ? null : rows_.get(selectedIndex_);
+
+      switch (event.getNativeKeyCode())
+      {
+      case KeyCodes.KEY_UP:
+         moveSelection(-1);
+         break;
+      case KeyCodes.KEY_DOWN:
+         moveSelection(1);
+         break;
+      case KeyCodes.KEY_PAGEUP:
+         moveSelection(-pageSize);
+         break;
+      case KeyCodes.KEY_PAGEDOWN:
+         moveSelection(pageSize);
+         break;
+      case KeyCodes.KEY_HOME:
+         setSelectedIndex(0);
+         break;
+      case KeyCodes.KEY_END:
+         setSelectedIndex(rows_.size() - 1);
+         break;
+      case KeyCodes.KEY_LEFT:
+         if (selected != null)
+         {
+            if (selected.isHeader())
+               setCollapsed(selected.group_, true);
+            else
+               setSelectedIndex(rows_.indexOf(selected.group_.header_));
+         }
+         break;
+      case KeyCodes.KEY_RIGHT:
+         if (selected != null && selected.isHeader())
+            setCollapsed(selected.group_, false);
+         break;
+      case KeyCodes.KEY_ENTER:
+         if (selected != null && selected.isHeader())
+            toggleSelectedGroup();
+         break;
+      default:
+         return;
+      }
+   }
+
+   private void onScroll()
+   {
+      ensureRowHeight();
+      int scrollTop = scrollPanel_.getVerticalScrollPosition();
+      int first = scrollTop / rowHeight_;
+      int last = (scrollTop + scrollPanel_.getOffsetHeight()) / rowHeight_ + 1;
+
+      // re-render once the rows in view are no longer all in the DOM
+      if (first < renderedFirst_ || (last > renderedLast_ && renderedLast_ < getRowCount()))
+         invalidate(false);
+   }
+
+   private int getRowCount()
+   {
+      return rows_.size() + (overflow_ ? 1 : 0);
+   }
+
+   // Schedules a render; this coalesces the many updates received while a
+   // search is streaming results into a single render per event loop.
+   private void invalidate(boolean rowsChanged)
+   {
+      rowsChanged_ |= rowsChanged;
+      if (renderPending_)
+         return;
+
+      renderPending_ = true;
+      Scheduler.get().scheduleFinally(() ->
+      {
+         renderPending_ = false;
+         render();
+      });
+   }
+
+   private void render()
+   {
+      int rowCount = getRowCount();
+      spacer_.getElement().getStyle().setHeight(rowCount * rowHeight_, Unit.PX);
+
+      int scrollTop = scrollPanel_.getVerticalScrollPosition();
+      int height = scrollPanel_.getOffsetHeight();
+      int first = Math.max(0, scrollTop / rowHeight_ - OVERSCAN);
+      int last = Math.min(rowCount, (scrollTop + height) / rowHeight_ + 1 + OVERSCAN);
+
+      // when results are only appended below the rendered rows, there is
+      // nothing to re-render
+      if (!rowsChanged_ && first == renderedFirst_ && last == renderedLast_)
+         return;
+      rowsChanged_ = false;
+
+      TableSectionElement tbody = Document.get().createTBodyElement();
+      for (int i = first; i < last; i++)
+      {
+         TableRowElement tr = createRow(i);
+         tr.setAttribute(DATA_ROW, Integer.toString(i));
+         if (i == selectedIndex_)
+            tr.addClassName(styles_.selectedRow());
+
+         // rows are left at their natural height until it has been measured
+         if (rowHeightMeasured_)
+            tr.getStyle().setHeight(rowHeight_, Unit.PX);
+         tbody.appendChild(tr);
+      }
+
+      table_.replaceChild(tbody, tbody_);
+      tbody_ = tbody;
+      table_.getStyle().setTop(first * rowHeight_, Unit.PX);
+
+      renderedFirst_ = first;
+      renderedLast_ = last;
+
+      ensureRowHeight();
+   }
+
+   // Measures the row height from the rendered rows, if it hasn't been
+   // measured since the font size last changed. File headers use a smaller
+   // font than results, so the tallest row sets the height of every row.
+   private void ensureRowHeight()
+   {
+      if (rowHeightMeasured_)
+         return;
+
+      int height = 0;
+      for (int i = 0, n = tbody_.getRows().getLength(); i < n; i++)
+         height = Math.max(height, tbody_.getRows().getItem(i).getOffsetHeight());
+
+      // nothing to measure while there are no rows, or the table is hidden
+      if (height == 0)
+         return;
+
+      rowHeightMeasured_ = true;
+      rowHeight_ = height;
+      invalidate(true);
+   }
+
+   private void updateHeader(Group group)
+   {
+      // the group is at (or near) the end of the list
+      int index = rows_.lastIndexOf(group.header_);
+      if (index < renderedFirst_ || index >= renderedLast_)
+         return;
+
+      TableRowElement tr = tbody_.getRows().getItem(index - renderedFirst_);
+      tr.getCells().getItem(0).setInnerText(getHeaderText(group));
+   }
+
+   private String getHeaderText(Group group)
+   {
+      return (group.collapsed_ ? "\u25B8 " : "\u25BE ") +
+             group.file_ +
+             " (" + group.rows_.size() + ")";
+   }
+
+   private TableRowElement createRow(int index)
+   {
+      if (index >= rows_.size())
+         return codec_.getRowForItem(null);
+
+      Row row = rows_.get(index);
+      if (!row.isHeader())
+         return codec_.getRowForItem(row.result_);
+
+      return codec_.getHeaderRow(getHeaderText(row.group_));
+   }
+
+   private final FindOutputCodec codec_;
+   private final Styles styles_;
+   private final ScrollPanel scrollPanel_;
+   private final FlowPanel spacer_;
+   private final TableElement table_;
+   private TableSectionElement tbody_;
+
+   private final List<Group> groups_ = new ArrayList<>();
+   private final List<Row> rows_ = new ArrayList<>();
+   private int resultCount_ = 0;
+   private int selectedIndex_ = -1;
+   private boolean overflow_ = false;
+
+   private int renderedFirst_ = 0;
+   private int renderedLast_ = 0;
+   private boolean renderPending_ = false;
+   private boolean rowsChanged_ = false;
+
+   // the minimum row height in FindOutput.css, until rows are measured
+   private int rowHeight_ = 20;
+   private boolean rowHeightMeasured_ = false;
+
+   private static final String DATA_ROW = "data-row";
+
+   // the number of rows rendered above and below those in view
+   private static final int OVERSCAN = 50;
+}
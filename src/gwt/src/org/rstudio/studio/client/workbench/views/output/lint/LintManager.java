@@ -17,6 +17,7 @@ package org.rstudio.studio.client.workbench.views.output.lint;
 import java.util.List;
 
 import org.rstudio.core.client.Debug;
+import org.rstudio.core.client.InputLatencyTracer;
 import org.rstudio.core.client.Invalidation;
 import org.rstudio.core.client.StringUtil;
 import org.rstudio.studio.client.RStudioGinjector;
@@ -153,12 +154,16 @@ public class LintManager
                @Override
                public void execute()
                {
+                  InputLatencyTracer.Span span = InputLatencyTracer.get().startSpan("lint");
+
                   // only remove spelling markers at cursor position
                   docDisplay_.removeSpellingMarkersAtCursorPosition();
                   showMarkers_ = false;
                   excludeCurrentStatement_ = true;
                   explicit_ = false;
                   timer_.schedule(defaultLintDelayMs());
+
+                  span.end();
                }
             });
          }
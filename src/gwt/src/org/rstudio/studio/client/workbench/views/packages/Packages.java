@@ -78,6 +78,7 @@ import org.rstudio.studio.client.workbench.views.packages.model.PackageInstallCo
 import org.rstudio.studio.client.workbench.views.packages.model.PackageInstallOptions;
 import org.rstudio.studio.client.workbench.views.packages.model.PackageInstallRequest;
 import org.rstudio.studio.client.workbench.views.packages.model.PackageLibraryUtils;
+import org.rstudio.studio.client.workbench.views.packages.model.PackageListIndex;
 import org.rstudio.studio.client.workbench.views.packages.model.PackageLibraryUtils.PackageLibraryType;
 import org.rstudio.studio.client.workbench.views.packages.model.PackageState;
 import org.rstudio.studio.client.workbench.views.packages.model.PackageStatus;
@@ -118,6 +119,10 @@ public class Packages
                           GlobalDisplay globalDisplay,
                           OperationWithInput<PackageInstallRequest> operation);
 
+      // updates the listed packages (e.g. after filtering) without
+      // otherwise changing the package state
+      void setPackageList(List<PackageInfo> packages);
+
       void setPackageStatus(PackageStatus status);
 
       void setObserver(PackagesDisplayObserver observer);
@@ -819,7 +824,10 @@ public class Packages
    public void onPackageFilterChanged(String filter)
    {
       packageFilter_ = filter.toLowerCase();
-      setViewPackageList();
+
+      // only the rows have changed, so there's no need to rebuild the table
+      if (projectContext_ != null)
+         view_.setPackageList(packageIndex_.filter(packageFilter_));
    }
 
    public void onPackageStatusChanged(PackageStatusChangedEvent event)
@@ -828,14 +836,10 @@ public class Packages
       view_.setPackageStatus(status);
 
       // also update the list of allPackages_
-      for (int i = 0; i<allPackages_.size(); i++)
+      for (PackageInfo packageInfo : packageIndex_.getPackages(status.getName()))
       {
-         PackageInfo packageInfo = allPackages_.get(i);
-         if (packageInfo.getName() == status.getName() &&
-             packageInfo.getLibrary() == status.getLibrary())
-         {
+         if (packageInfo.getLibrary() == status.getLibrary())
             packageInfo.setAttached(status.isAttached());
-         }
       }
    }
 
@@ -848,50 +852,10 @@ public class Packages
       if (projectContext_ == null)
          return;
 
-      ArrayList<PackageInfo> packages = null;
-
-      // apply filter (if any)
-      if (packageFilter_.length() > 0)
-      {
-         packages = new ArrayList<>();
-
-         // first do prefix search
-         for (PackageInfo pkgInfo : allPackages_)
-         {
-            if (pkgInfo.getName().toLowerCase().startsWith(packageFilter_))
-               packages.add(pkgInfo);
-         }
-
-         // then do contains search on name & desc
-         for (PackageInfo pkgInfo : allPackages_)
-         {
-            if (pkgInfo.getName().toLowerCase().contains(packageFilter_) ||
-                pkgInfo.getDesc().toLowerCase().contains(packageFilter_))
-            {
-               if (!packages.contains(pkgInfo))
-                  packages.add(pkgInfo);
-            }
-         }
-
-         // sort results by library (to preserve grouping)
-         Collections.sort(packages, new Comparator<PackageInfo>()
-               {
-                  @Override
-                  public int compare(PackageInfo o1, PackageInfo o2)
-                  {
-                     return PackageLibraryUtils.typeOfLibrary(
-                                   session_, o1.getLibrary()).compareTo(
-                             PackageLibraryUtils.typeOfLibrary(
-                                   session_, o2.getLibrary()));
-                  }
-               });
-      }
-      else
-      {
-         packages = allPackages_;
-      }
-
-      view_.setPackageState(projectContext_, packages, vulns_, activeRepository_);
+      view_.setPackageState(projectContext_,
+                            packageIndex_.filter(packageFilter_),
+                            vulns_,
+                            activeRepository_);
    }
 
    private void checkPackageStatusOnNextConsolePrompt(
@@ -1274,11 +1238,19 @@ public class Packages
          }
       }
 
+      packageIndex_ = new PackageListIndex(allPackages_, this::libraryTypeOf);
+
       projectContext_ = newState.getProjectContext();
       view_.setProgress(false);
       setViewPackageList();
    }
 
+   // the package list is grouped by the type of each package's library
+   private PackageLibraryType libraryTypeOf(PackageInfo packageInfo)
+   {
+      return PackageLibraryUtils.typeOfLibrary(session_, packageInfo.getLibrary());
+   }
+
    private void getPackageNamesFromActions(
          JsArray<PackratPackageAction> actions,
          Set<String> pkgNames)
@@ -1295,6 +1267,8 @@ public class Packages
    private final PackratServerOperations packratServer_;
    private final RenvServerOperations renvServer_;
    private ArrayList<PackageInfo> allPackages_ = new ArrayList<>();
+   private PackageListIndex packageIndex_ =
+         new PackageListIndex(new ArrayList<>(), this::libraryTypeOf);
    // starts empty (never null) so the table can render before vulnerability
    // data arrives asynchronously; replaced wholesale by onPackageVulnerabilitiesReady
    private RepositoryPackageVulnerabilityListMap vulns_ = Js.uncheckedCast(JsPropertyMap.of());
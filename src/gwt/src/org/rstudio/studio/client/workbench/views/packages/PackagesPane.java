@@ -15,7 +15,9 @@
 package org.rstudio.studio.client.workbench.views.packages;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.rstudio.core.client.Debug;
 import org.rstudio.core.client.ElementIds;
@@ -156,6 +158,7 @@ public class PackagesPane extends WorkbenchPane implements Packages.Display
       vulns_ = vulns;
 
       packagesDataProvider_.setList(packages);
+      indexPackageRows();
       createPackagesTable();
 
       // manage visibility of repository button
@@ -229,58 +232,55 @@ public class PackagesPane extends WorkbenchPane implements Packages.Display
                                operation).showModal();
    }
    
+   @Override
+   public void setPackageList(List<PackageInfo> packages)
+   {
+      if (packagesTable_ == null)
+         return;
+
+      packagesDataProvider_.setList(packages);
+      indexPackageRows();
+
+      // the table shows all rows on a single page
+      packagesTable_.setPageSize(packages.size());
+      packagesTable_.setVisibleRange(0, packages.size());
+   }
+
    @Override
    public void setPackageStatus(PackageStatus status)
    {
-      int row = packageRow(status.getName(), status.getLibrary());
-      
-      if (row != -1)
+      List<Integer> rows = packageRows_.get(status.getName());
+      if (rows == null)
+         return;
+
+      // update the status of the package in the given library, and reconcile
+      // that of any duplicates (in case the same package is installed into
+      // multiple libraries)
+      List<PackageInfo> packages = packagesDataProvider_.getList();
+      for (int row : rows)
       {
-         List<PackageInfo> packages = packagesDataProvider_.getList();
          PackageInfo packageInfo = packages.get(row);
-         packageInfo.setAttached(status.isAttached());
+         packageInfo.setAttached(status.isAttached() &&
+                                 packageInfo.getLibrary() == status.getLibrary());
          packages.set(row, packageInfo);
       }
-      
-      // go through any duplicates to reconcile their status
-      // (in case the same package is installed into multiple libraries)
-      List<PackageInfo> packages = packagesDataProvider_.getList();
-      for (int i = 0; i < packages.size(); i++)
-      {
-         if (i == row)
-         {
-            continue;
-         }
-         else if (packages.get(i).getName() == status.getName())
-         {
-            PackageInfo packageInfo = packages.get(i);
-            packageInfo.setAttached(false);
-            packages.set(i, packageInfo);
-         }
-      }
    }
-   
-   private int packageRow(String packageName, String packageLib)
+
+   private void indexPackageRows()
    {
-      // if we haven't retrieved packages yet then return not found
-      if (packagesDataProvider_ == null)
-         return -1;
-      
+      packageRows_.clear();
       List<PackageInfo> packages = packagesDataProvider_.getList();
-      
-      // figure out which row of the table includes this package
-      int row = -1;
-      for (int i=0; i<packages.size(); i++)
+      for (int i = 0; i < packages.size(); i++)
       {
-         PackageInfo packageInfo = packages.get(i);
-         if (packageInfo.getName() == packageName &&
-             packageInfo.getLibrary() == packageLib)
+         String name = packages.get(i).getName();
+         List<Integer> rows = packageRows_.get(name);
+         if (rows == null)
          {
-            row = i;
-            break;
+            rows = new ArrayList<>(1);
+            packageRows_.put(name, rows);
          }
+         rows.add(i);
       }
-      return row;
    }
 
    private void selectRepository(PackageManagerRepository ppmRepo)
@@ -1092,6 +1092,9 @@ public class PackagesPane extends WorkbenchPane implements Packages.Display
 
    private RStudioDataGrid<PackageInfo> packagesTable_;
    private ListDataProvider<PackageInfo> packagesDataProvider_;
+
+   // the rows listing each package, keyed by package name
+   private final Map<String, List<Integer>> packageRows_ = new HashMap<>();
    private ToolbarButton repositoryButton_;
    private SearchWidget searchWidget_;
    private PackagesDisplayObserver observer_;
@@ -0,0 +1,161 @@
+/*
+ * PackageListIndex.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.packages.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.rstudio.core.client.StringUtil;
+
+/**
+ * A search index over the installed packages, used to filter the package
+ * list as the user types without lowercasing every name and description (and
+ * re-sorting the result by library) on each keystroke. When the filter is
+ * extended, only the packages that matched the previous filter are searched.
+ *
+ * The packages must already be sorted by library; the filtered list keeps
+ * that grouping, and within each library lists the packages whose names start
+ * with the filter before those that otherwise contain it.
+ */
+public class PackageListIndex
+{
+   public interface LibraryGroup
+   {
+      // a value that differs between (and only between) libraries
+      Object groupOf(PackageInfo packageInfo);
+   }
+
+   private static class Entry
+   {
+      Entry(PackageInfo packageInfo, int group)
+      {
+         packageInfo_ = packageInfo;
+         name_ = StringUtil.notNull(packageInfo.getName()).toLowerCase();
+         desc_ = StringUtil.notNull(packageInfo.getDesc()).toLowerCase();
+         group_ = group;
+      }
+
+      boolean matches(String filter)
+      {
+         return name_.contains(filter) || desc_.contains(filter);
+      }
+
+      private final PackageInfo packageInfo_;
+      private final String name_;
+      private final String desc_;
+      private final int group_;
+   }
+
+   public PackageListIndex(List<PackageInfo> packages, LibraryGroup libraries)
+   {
+      packages_ = packages;
+      entries_ = new ArrayList<>(packages.size());
+
+      Object lastGroup = null;
+      int group = -1;
+      for (PackageInfo packageInfo : packages)
+      {
+         Object libraryGroup = libraries.groupOf(packageInfo);
+         if (group == -1 || !libraryGroup.equals(lastGroup))
+         {
+            lastGroup = libraryGroup;
+            group++;
+         }
+         entries_.add(new Entry(packageInfo, group));
+
+         String name = packageInfo.getName();
+         List<PackageInfo> named = packagesByName_.get(name);
+         if (named == null)
+         {
+            named = new ArrayList<>(1);
+            packagesByName_.put(name, named);
+         }
+         named.add(packageInfo);
+      }
+   }
+
+   /**
+    * Returns the packages matching the given (lowercase) filter.
+    */
+   public List<PackageInfo> filter(String filter)
+   {
+      if (StringUtil.isNullOrEmpty(filter))
+      {
+         lastFilter_ = null;
+         lastMatches_ = null;
+         return packages_;
+      }
+
+      // a longer filter can only match a subset of the packages that matched
+      // a filter it extends
+      List<Entry> candidates = entries_;
+      if (lastFilter_ != null && filter.startsWith(lastFilter_))
+         candidates = lastMatches_;
+
+      List<Entry> matches = new ArrayList<>();
+      for (Entry entry : candidates)
+      {
+         if (entry.matches(filter))
+            matches.add(entry);
+      }
+
+      lastFilter_ = filter;
+      lastMatches_ = matches;
+
+      // within each library, list prefix matches first
+      List<PackageInfo> packages = new ArrayList<>(matches.size());
+      int start = 0;
+      while (start < matches.size())
+      {
+         int end = start;
+         int group = matches.get(start).group_;
+         while (end < matches.size() && matches.get(end).group_ == group)
+            end++;
+
+         for (int i = start; i < end; i++)
+         {
+            if (matches.get(i).name_.startsWith(filter))
+               packages.add(matches.get(i).packageInfo_);
+         }
+         for (int i = start; i < end; i++)
+         {
+            if (!matches.get(i).name_.startsWith(filter))
+               packages.add(matches.get(i).packageInfo_);
+         }
+
+         start = end;
+      }
+
+      return packages;
+   }
+
+   /**
+    * Returns the installed copies (one per library) of the named package.
+    */
+   public List<PackageInfo> getPackages(String name)
+   {
+      List<PackageInfo> packages = packagesByName_.get(name);
+      return packages == null ? new ArrayList<>() : packages;
+   }
+
+   private final List<PackageInfo> packages_;
+   private final List<Entry> entries_;
+   private final Map<String, List<PackageInfo>> packagesByName_ = new HashMap<>();
+
+   private String lastFilter_;
+   private List<Entry> lastMatches_;
+}
@@ -46,6 +46,7 @@ import org.rstudio.studio.client.workbench.views.console.events.ConsolePromptEve
 import org.rstudio.studio.client.workbench.views.plots.events.LocatorEvent;
 import org.rstudio.studio.client.workbench.views.plots.events.PlotsChangedEvent;
 import org.rstudio.studio.client.workbench.views.plots.events.PlotsZoomSizeChangedEvent;
+import org.rstudio.studio.client.workbench.views.plots.model.PlotImageCache;
 import org.rstudio.studio.client.workbench.views.plots.model.PlotsServerOperations;
 import org.rstudio.studio.client.workbench.views.plots.model.PlotsState;
 import org.rstudio.studio.client.workbench.views.plots.model.SavePlotAsPdfOptions;
@@ -168,6 +169,26 @@ public class Plots extends BasePresenter implements PlotsChangedEvent.Handler,
       view_.setProgress(false);
       manipulatorManager_.setProgress(false);
 
+      // moving through the history, or adding a plot at its end, leaves
+      // each index with the same plot. redrawing the current plot (e.g. when
+      // it's added to or resized) only affects that plot; anything else
+      // (e.g. removing plots) may change which plot is at each index
+      int index = plotsState.getPlotIndex();
+      int count = plotsState.getPlotCount();
+      boolean navigated = count == plotCount_ && index != stateIndex_;
+      boolean appended = count == plotCount_ + 1 && index == count - 1;
+      boolean redrawn = count == plotCount_ && index == stateIndex_;
+      if (redrawn)
+         imageCache_.invalidate(index);
+      else if (!navigated && !appended)
+         imageCache_.clear();
+
+      stateIndex_ = index;
+      plotIndex_ = index;
+      plotCount_ = count;
+
+      final int showIndex = ++showIndex_;
+
       // if this is the empty plot then clear the display
       // NOTE: we currently return a zero byte PNG as our "empty.png" from
       // the server. this is shown as a blank pane by Webkit, however
@@ -175,12 +196,26 @@ public class Plots extends BasePresenter implements PlotsChangedEvent.Handler,
       // pane. therefore, we put in this workaround.
       if (plotsState.getFilename().startsWith("empty."))
       {
-         view_.showEmptyPlot();
+         graphicsUrl_ = null;
+         showPlot(null);
       }
       else
       {
-         String url = server_.getGraphicsUrl(plotsState.getFilename());
-         view_.showPlot(url);
+         graphicsUrl_ = server_.getGraphicsUrl(plotsState.getFilename());
+
+         // fetch the rendered image once, caching it so that it can be shown
+         // right away if we navigate back to this plot at this size
+         imageCache_.load(index,
+                          plotsState.getWidth(),
+                          plotsState.getHeight(),
+                          BrowseCap.devicePixelRatio(),
+                          graphicsUrl_,
+                          url ->
+         {
+            // ignore images superseded by a newer plot state or navigation
+            if (showIndex == showIndex_)
+               showPlot(url);
+         });
       }
 
       // activate the plots tab if requested
@@ -209,17 +244,54 @@ public class Plots extends BasePresenter implements PlotsChangedEvent.Handler,
    void onNextPlot()
    {
       view_.bringToFront();
-      setChangePlotProgress();
+      showCachedPlot(plotIndex_ + 1);
       server_.nextPlot(new PlotRequestCallback());
    }
 
    void onPreviousPlot()
    {
       view_.bringToFront();
-      setChangePlotProgress();
+      showCachedPlot(plotIndex_ - 1);
       server_.previousPlot(new PlotRequestCallback());
    }
 
+   // shows the cached image of the given plot (at the current size) while the
+   // session re-renders it, or shows progress if there isn't one
+   private void showCachedPlot(int index)
+   {
+      String url = null;
+      if (plotSize_ != null && index >= 0 && index < plotCount_)
+      {
+         // track the index we're moving to, so that further navigation before
+         // the session responds looks up the right plots
+         plotIndex_ = index;
+         url = imageCache_.get(index,
+                               plotSize_.width,
+                               plotSize_.height,
+                               BrowseCap.devicePixelRatio());
+      }
+
+      if (url != null)
+      {
+         showIndex_++;
+         showPlot(url);
+      }
+      else
+      {
+         setChangePlotProgress();
+      }
+   }
+
+   // shows the image at the given URL, or the empty plot if it's null
+   private void showPlot(String url)
+   {
+      imageCache_.setShownUrl(url);
+      if (url == null)
+         view_.showEmptyPlot();
+      else
+         view_.showPlot(url);
+   }
+
    void onRemovePlot()
    {
       // delete plot gesture indicates we are done with locator
@@ -532,7 +604,10 @@ public class Plots extends BasePresenter implements PlotsChangedEvent.Handler,
 
    private void locate()
    {
-      locator_.locate(view_.getPlotUrl(), getPlotSize());
+      // the pane may still be loading (or showing a cached copy of) the
+      // current plot, so identify it by its graphics URL
+      locator_.locate(graphicsUrl_ != null ? graphicsUrl_ : view_.getPlotUrl(),
+                      getPlotSize());
    }
 
    public void onConsolePrompt(ConsolePromptEvent event)
@@ -602,5 +677,18 @@ public class Plots extends BasePresenter implements PlotsChangedEvent.Handler,
 
    // size of most recently rendered plot
    Size plotSize_ = null;
+
+   // index of the active plot, and number of plots, in the plot history
+   private int plotIndex_ = 0;
+   private int plotCount_ = 0;
+
+   // the plot index last reported by the session (plotIndex_ also tracks
+   // navigation that the session hasn't responded to yet), the graphics URL
+   // of the current plot, and a counter identifying the latest image shown
+   private int stateIndex_ = -1;
+   private String graphicsUrl_ = null;
+   private int showIndex_ = 0;
+
+   private final PlotImageCache imageCache_ = new PlotImageCache();
    private static final PlotsConstants constants_ = com.google.gwt.core.client.GWT.create(PlotsConstants.class);
 }
@@ -0,0 +1,256 @@
+/*
+ * PlotImageCache.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.plots.model;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.rstudio.core.client.CommandWithArg;
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Caches the images rendered for the plots in the plot history, keyed by plot
+ * index, size and device pixel ratio, so that navigating back to a plot that
+ * was recently viewed at the current size can show it right away, while the
+ * session re-renders it. Images are held as blobs (served to the plot frame
+ * via object URLs); the least recently used are evicted once the cache
+ * exceeds its byte budget. Images are fetched once, as they're shown: the
+ * pane displays the cached copy rather than fetching the image again.
+ */
+public class PlotImageCache
+{
+   private static class Entry
+   {
+      Entry(String url, double bytes)
+      {
+         url_ = url;
+         bytes_ = bytes;
+      }
+
+      private final String url_;
+      private final double bytes_;
+   }
+
+   public PlotImageCache()
+   {
+      this(DEFAULT_BUDGET_BYTES);
+   }
+
+   public PlotImageCache(double budgetBytes)
+   {
+      budgetBytes_ = budgetBytes;
+   }
+
+   /**
+    * Returns a URL for the cached image of the given plot at the given size,
+    * or null if no such image is cached.
+    */
+   public String get(int index, int width, int height, double pixelRatio)
+   {
+      String key = key(index, width, height, pixelRatio);
+      Entry entry = entries_.remove(key);
+      if (entry == null)
+         return null;
+
+      // re-insert so that the entry is treated as the most recent
+      entries_.put(key, entry);
+      return entry.url_;
+   }
+
+   /**
+    * Fetches the image at the given URL, caches it as the image of the given
+    * plot at the given size, and passes a URL for the cached image to the
+    * callback. If the image can't be cached, the original URL is passed
+    * instead.
+    */
+   public void load(final int index,
+                    final int width,
+                    final int height,
+                    final double pixelRatio,
+                    final String url,
+                    final CommandWithArg<String> onLoaded)
+   {
+      if (!isSupported())
+      {
+         onLoaded.execute(url);
+         return;
+      }
+
+      final int generation = generation_;
+      fetchBlob(url, blob ->
+      {
+         // don't cache images fetched before the cache was cleared, since
+         // they may no longer belong to the plot at this index
+         if (blob == null || generation != generation_)
+         {
+            onLoaded.execute(url);
+            return;
+         }
+
+         String key = key(index, width, height, pixelRatio);
+         put(key, blob);
+
+         Entry entry = entries_.get(key);
+         onLoaded.execute(entry != null ? entry.url_ : url);
+      });
+   }
+
+   /**
+    * Records the URL shown in the plots pane. The pane may reload it (e.g. on
+    * refresh), so a cached image isn't released while it's shown.
+    */
+   public void setShownUrl(String url)
+   {
+      String previous = shownUrl_;
+      shownUrl_ = url;
+      if (previous != null && !previous.equals(url) && released_.remove(previous))
+         revokeObjectUrl(previous);
+   }
+
+   // discards the cached images of the given plot, at all sizes (e.g. when
+   // it has been redrawn)
+   public void invalidate(int index)
+   {
+      String prefix = index + ":";
+      Iterator<Map.Entry<String, Entry>> it = entries_.entrySet().iterator();
+      while (it.hasNext())
+      {
+         Map.Entry<String, Entry> entry = it.next();
+         if (entry.getKey().startsWith(prefix))
+         {
+            it.remove();
+            totalBytes_ -= entry.getValue().bytes_;
+            release(entry.getValue().url_);
+         }
+      }
+      generation_++;
+   }
+
+   // discards all cached images (e.g. when plots are removed from the
+   // history, changing the indices of the plots that remain)
+   public void clear()
+   {
+      for (Entry entry : entries_.values())
+         release(entry.url_);
+      entries_.clear();
+      totalBytes_ = 0;
+      generation_++;
+   }
+
+   public int size()
+   {
+      return entries_.size();
+   }
+
+   public double getTotalBytes()
+   {
+      return totalBytes_;
+   }
+
+   private void put(String key, JavaScriptObject blob)
+   {
+      double bytes = blobSize(blob);
+      if (bytes > budgetBytes_)
+         return;
+
+      remove(key);
+      Entry entry = new Entry(createObjectUrl(blob), bytes);
+      entries_.put(key, entry);
+      totalBytes_ += bytes;
+
+      // evict the least recently used images until we're within budget
+      Iterator<Map.Entry<String, Entry>> it = entries_.entrySet().iterator();
+      while (totalBytes_ > budgetBytes_ && it.hasNext())
+      {
+         Entry evicted = it.next().getValue();
+         it.remove();
+         totalBytes_ -= evicted.bytes_;
+         release(evicted.url_);
+      }
+   }
+
+   private void remove(String key)
+   {
+      Entry entry = entries_.remove(key);
+      if (entry != null)
+      {
+         totalBytes_ -= entry.bytes_;
+         release(entry.url_);
+      }
+   }
+
+   // revokes an image's object URL, or defers doing so while it's shown
+   private void release(String url)
+   {
+      if (url.equals(shownUrl_))
+         released_.add(url);
+      else
+         revokeObjectUrl(url);
+   }
+
+   private static String key(int index, int width, int height, double pixelRatio)
+   {
+      return index + ":" + width + "x" + height + "@" + pixelRatio;
+   }
+
+   private interface BlobCallback
+   {
+      void execute(JavaScriptObject blob);
+   }
+
+   private static final native boolean isSupported() /*-{
+      return typeof $wnd.fetch === "function" &&
+             $wnd.URL != null &&
+             typeof $wnd.URL.createObjectURL === "function";
+   }-*/;
+
+   private static final native void fetchBlob(String url,
+                                              BlobCallback callback) /*-{
+      var done = $entry(function(blob) {
+         callback.@org.rstudio.studio.client.workbench.views.plots.model.PlotImageCache.BlobCallback::execute(*)(blob);
+      });
+
+      $wnd.fetch(url, { credentials: "same-origin" })
+         .then(function(response) {
+            return response.ok ? response.blob() : null;
+         })
+         .then(done, function() { done(null); });
+   }-*/;
+
+   private static final native double blobSize(JavaScriptObject blob) /*-{
+      return blob.size;
+   }-*/;
+
+   private static final native String createObjectUrl(JavaScriptObject blob) /*-{
+      return $wnd.URL.createObjectURL(blob);
+   }-*/;
+
+   private static final native void revokeObjectUrl(String url) /*-{
+      $wnd.URL.revokeObjectURL(url);
+   }-*/;
+
+   private final Map<String, Entry> entries_ = new LinkedHashMap<>();
+   private final Set<String> released_ = new HashSet<>();
+   private String shownUrl_ = null;
+   private final double budgetBytes_;
+   private double totalBytes_ = 0;
+   private int generation_ = 0;
+
+   private static final double DEFAULT_BUDGET_BYTES = 32 * 1024 * 1024;
+}
@@ -16,7 +16,9 @@ package org.rstudio.studio.client.workbench.views.source;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 
@@ -30,6 +32,7 @@ import org.rstudio.core.client.Mutable;
 import org.rstudio.core.client.ResultCallback;
 import org.rstudio.core.client.SerializedCommand;
 import org.rstudio.core.client.SerializedCommandQueue;
+import org.rstudio.core.client.Stopwatch;
 import org.rstudio.core.client.StringUtil;
 import org.rstudio.core.client.command.AppCommand;
 import org.rstudio.core.client.command.CommandBinder;
@@ -561,6 +564,11 @@ public class Source implements InsertSourceEvent.Handler,
          }
       };
 
+      // restored tabs are only activated once the initial selection has been
+      // made, so that just the editor of each column's selected tab is built
+      columnManager_.setDocsRestored();
+      columnManager_.beforeShow(true);
+
       AceEditorNative.syncUiPrefs(userPrefs_);
       // As tabs were added before, manageCommands() was suppressed due to
       // initialized_ being false, so we need to run it explicitly
@@ -733,6 +741,12 @@ public class Source implements InsertSourceEvent.Handler,
       final JsArray<SourceDocument> docs =
             session.getSessionInfo().getSourceDocuments();
 
+      // track how long restoring each kind of document takes, so that slow
+      // startups with many open documents can be diagnosed
+      Stopwatch stopwatch = new Stopwatch(false);
+      Map<String, Long> restoreTimes = new LinkedHashMap<>();
+      Map<String, Integer> restoreCounts = new LinkedHashMap<>();
+
       for (int i = 0; i < docs.length(); i++)
       {
          // restore the docs assigned to this source window
@@ -755,6 +769,7 @@ public class Source implements InsertSourceEvent.Handler,
             // we don't want to allow one failure to prevent all docs from
             // opening
             EditingTarget sourceEditor = null;
+            long start = stopwatch.mark("restore");
             try
             {
                // determine the correct display if the doc belongs to this window,
@@ -774,14 +789,35 @@ public class Source implements InsertSourceEvent.Handler,
                Debug.logException(e);
             }
 
+            String type = StringUtil.notNull(doc.getType());
+            long elapsed = stopwatch.mark("restore") - start;
+            restoreTimes.put(type, restoreTimes.getOrDefault(type, 0L) + elapsed);
+            restoreCounts.put(type, restoreCounts.getOrDefault(type, 0) + 1);
+
             // if we couldn't add the tab for this doc, just continue to the
             // next one
             if (sourceEditor == null)
                continue;
          }
       }
-      columnManager_.setDocsRestored();
-      columnManager_.beforeShow(true);
+
+      long total = stopwatch.mark("restore");
+      if (total >= SLOW_RESTORE_THRESHOLD_MS)
+      {
+         StringBuilder message = new StringBuilder();
+         message.append("Restored source documents in ").append(total).append(" ms");
+         for (Map.Entry<String, Long> entry : restoreTimes.entrySet())
+         {
+            message.append("; ")
+                   .append(entry.getKey())
+                   .append(": ")
+                   .append(restoreCounts.get(entry.getKey()))
+                   .append(" in ")
+                   .append(entry.getValue())
+                   .append(" ms");
+         }
+         Debug.log(message.toString());
+      }
    }
 
    private void openEditPublishedDocs()
@@ -3433,6 +3469,9 @@ public class Source implements InsertSourceEvent.Handler,
    public final static int OPEN_INTERACTIVE = 0;
    public final static int OPEN_REPLAY      = 1;
 
+   // restoring documents slower than this is logged with a per-type breakdown
+   private static final long SLOW_RESTORE_THRESHOLD_MS = 1000;
+
    private static final ViewsSourceConstants constants_ = GWT.create(ViewsSourceConstants.class);
    private static final CoreClientConstants coreConstants_ = GWT.create(CoreClientConstants.class);
    private static final PackagesConstants packageConstants_ = GWT.create(PackagesConstants.class);
@@ -20,6 +20,7 @@ import java.util.HashSet;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.rstudio.core.client.ClientMetrics;
 import org.rstudio.core.client.Debug;
 import org.rstudio.core.client.HandlerRegistrations;
 import org.rstudio.core.client.JsArrayUtil;
@@ -63,6 +64,7 @@ import org.rstudio.studio.client.workbench.prefs.model.UserPrefs;
 import org.rstudio.studio.client.workbench.ui.unsaved.UnsavedChangesDialog;
 import org.rstudio.studio.client.workbench.views.source.editors.EditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.EditingTargetSource;
+import org.rstudio.studio.client.workbench.views.source.editors.PlaceholderEditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.codebrowser.CodeBrowserEditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.text.TextEditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.text.events.FileTypeChangedEvent;
@@ -176,12 +178,11 @@ public class SourceColumn implements BeforeShowEvent.Handler,
 
    public ArrayList<EditingTarget> getDirtyEditors(String excludeDocId)
    {
-      EditingTarget excludeTarget =
-         StringUtil.isNullOrEmpty(excludeDocId) ? null : getDoc(excludeDocId);
       ArrayList<EditingTarget> dirtyEditors = new ArrayList<>();
       for (EditingTarget target : editors_)
       {
-         if (target == excludeTarget)
+         if (!StringUtil.isNullOrEmpty(excludeDocId) &&
+             StringUtil.equals(target.getId(), excludeDocId))
             continue;
          if (target.dirtyState().getValue())
             dirtyEditors.add(target);
@@ -221,12 +222,12 @@ public class SourceColumn implements BeforeShowEvent.Handler,
 
    public void closeTab(Widget child, boolean interactive)
    {
-      display_.closeTab(child, interactive);
+      display_.closeTab(getTabWidget(child), interactive);
    }
 
    public void closeTab(Widget child, boolean interactive, Command onClosed)
    {
-      display_.closeTab(child, interactive, onClosed);
+      display_.closeTab(getTabWidget(child), interactive, onClosed);
    }
 
    public int getTabCount()
@@ -246,7 +247,7 @@ public class SourceColumn implements BeforeShowEvent.Handler,
 
    public void selectTab(Widget widget)
    {
-      display_.selectTab(widget);
+      display_.selectTab(getTabWidget(widget));
    }
 
    public void showOverflowPopout()
@@ -263,6 +264,25 @@ public class SourceColumn implements BeforeShowEvent.Handler,
       display_.showUnsavedChangesDialog(title, dirtyTargets, saveOperation, onCancelled);
    }
 
+   // Called once all documents have been restored at startup and the initial
+   // selection (if any) has been made. Tabs selected before this point were
+   // not activated, so that only the editor of the tab that ends up selected
+   // is built; activate it now. Without an initial selection, that's the
+   // last tab, as it would have been had each restored tab been selected in
+   // turn.
+   public void onDocsRestored()
+   {
+      int count = display_.getTabCount();
+      if (count == 0)
+         return;
+
+      int index = initiallySelected_ ? display_.getActiveTabIndex() : count - 1;
+      display_.selectTab(index);
+
+      if (initiallySelected_ && activeEditor_ != null)
+         activeEditor_.onInitiallyLoaded();
+   }
+
    // select the tab containing the given document at startup; the document is
    // resolved to its logical index in editors_, which is what selectTab()
    // operates on (tab reordering only permutes tabOrder_ and the tab-bar DOM),
@@ -283,20 +303,15 @@ public class SourceColumn implements BeforeShowEvent.Handler,
       initialSelect(display_.getActiveTabIndex());
    }
 
+   // the tab is activated (and receives onInitiallyLoaded()) once restore
+   // completes; see onDocsRestored
    private void initialSelect(int index)
    {
-      if (index < 0)
+      if (index < 0 || index >= display_.getTabCount())
          return;
-      if (display_.getTabCount() > index)
-      {
-         display_.selectTab(index);
-      }
-      if (display_.getTabCount() > 0 &&
-          display_.getActiveTabIndex() >= 0 &&
-          index <= (editors_.size() - 1))
-      {
-         editors_.get(index).onInitiallyLoaded();
-      }
+
+      display_.selectTab(index);
+      initiallySelected_ = true;
    }
 
    /**
@@ -351,16 +366,20 @@ public class SourceColumn implements BeforeShowEvent.Handler,
           activeEditor_.onDeactivate();
 
        // set and active editor
-       activeEditor_ = target;
+       activeEditor_ = hydrate(target);
        if (activeEditor_ != null)
        {
           activeEditor_.onActivate();
-          display_.selectTab(activeEditor_.asWidget());
+          selectTab(activeEditor_.asWidget());
        }
    }
 
    void setActiveEditor()
    {
+       // restored tabs are activated once restore completes
+       if (!manager_.getDocsRestored())
+          return;
+
        if (activeEditor_ == null &&
            display_.getActiveTabIndex() >= 0 &&
            editors_.size() > display_.getActiveTabIndex())
@@ -390,6 +409,8 @@ public class SourceColumn implements BeforeShowEvent.Handler,
 
    public void setActiveEditor(EditingTarget target)
    {
+      target = hydrate(target);
+
       // This should never happen
       if (!editors_.contains(target))
       {
@@ -469,12 +490,14 @@ public class SourceColumn implements BeforeShowEvent.Handler,
       return false;
    }
 
+   // callers looking up a document generally go on to use its editor, so
+   // tabs still holding a placeholder are built on lookup
    public EditingTarget getDoc(String docId)
    {
       for (EditingTarget target : editors_)
       {
          if (StringUtil.equals(docId, target.getId()))
-            return target;
+            return hydrate(target);
       }
       return null;
    }
@@ -484,14 +507,76 @@ public class SourceColumn implements BeforeShowEvent.Handler,
       for (EditingTarget target : editors_)
       {
          if (StringUtil.equals(path, target.getPath()))
-            return target;
+            return hydrate(target);
       }
       return null;
    }
 
-   private Widget createWidget(EditingTarget target)
+   /**
+    * Builds the editor for a tab restored as a placeholder (see addTab) and
+    * swaps it into the tab in the placeholder's place.
+    *
+    * @return The editing target for the given target's document; targets
+    *    that aren't placeholders are returned unchanged.
+    */
+   public EditingTarget hydrate(EditingTarget target)
+   {
+      if (!(target instanceof PlaceholderEditingTarget))
+         return target;
+
+      PlaceholderEditingTarget placeholder = (PlaceholderEditingTarget) target;
+      if (placeholder.getTarget() != null)
+         return placeholder.getTarget();
+
+      ClientMetrics.Timing timing = ClientMetrics.get().startTiming("source.hydrate");
+
+      SourceDocument doc = placeholder.getDocument();
+      EditingTarget editor = createTarget(doc);
+      placeholder.setTarget(editor);
+
+      int idx = editors_.indexOf(placeholder);
+      if (idx != -1)
+      {
+         // the placeholder's widget remains the tab's widget, with the
+         // editor shown inside it
+         Widget widget = placeholder.asWidget();
+         editors_.set(idx, editor);
+         tabWidgets_.put(editor.asWidget(), widget);
+
+         HandlerRegistrations registrations = tabRegistrations_.remove(placeholder);
+         if (registrations != null)
+            registrations.removeHandler();
+         registerTabHandlers(editor, widget);
+
+         if (activeEditor_ == placeholder)
+            activeEditor_ = editor;
+      }
+
+      applyReadOnly(editor, doc);
+
+      timing.stop();
+      return editor;
+   }
+
+   // maps an editor's widget to the widget of the tab that contains it, which
+   // differs for editors built in place of a placeholder (see hydrate)
+   private Widget getTabWidget(Widget widget)
    {
-      return target.asWidget();
+      Widget tabWidget = tabWidgets_.get(widget);
+      return tabWidget != null ? tabWidget : widget;
+   }
+
+   private EditingTarget createTarget(SourceDocument doc)
+   {
+      return editingTargetSource_.getEditingTarget(
+            this,
+            doc,
+            fileContext_,
+            (EditingTarget et) ->
+            {
+               String prefix = et.getDefaultNamePrefix();
+               return getNextDefaultName(prefix);
+            });
    }
 
    public EditingTarget addTab(SourceDocument doc, int mode)
@@ -509,17 +594,28 @@ public class SourceColumn implements BeforeShowEvent.Handler,
 
    public EditingTarget addTab(SourceDocument doc, Integer position, int mode)
    {
-      final EditingTarget target = editingTargetSource_.getEditingTarget(
-            this,
-            doc,
-            fileContext_,
-            (EditingTarget et) ->
-            {
-               String prefix = et.getDefaultNamePrefix();
-               return getNextDefaultName(prefix);
-            });
+      // while documents are being restored at startup, don't switch to each
+      // tab as it's added: doing so activates (and then deactivates) every
+      // restored editor, when only the tab that ends up selected is visible.
+      // the selection is made once restore completes (see onDocsRestored)
+      boolean switchToTab = manager_.getDocsRestored();
+
+      // likewise, restored text documents start out as placeholders, and
+      // their editors are only built once they're needed (see hydrate)
+      final EditingTarget target;
+      FileType type = EditingTargetSource.getTypeFromDocument(
+            RStudioGinjector.INSTANCE.getFileTypeRegistry(), doc);
+      if (!switchToTab && PlaceholderEditingTarget.canRestore(doc, type))
+      {
+         target = new PlaceholderEditingTarget();
+         target.initialize(this, doc, fileContext_, type, null);
+      }
+      else
+      {
+         target = createTarget(doc);
+      }
 
-      final Widget widget = createWidget(target);
+      final Widget widget = target.asWidget();
 
       if (position == null)
       {
@@ -547,14 +643,34 @@ public class SourceColumn implements BeforeShowEvent.Handler,
                       target.getName().getValue(),
                       target.getTabTooltip(), // used as tooltip, if non-null
                       position,
-                      true);
+                      switchToTab);
       fireDocTabsChanged();
 
-      // these handlers capture the tab widget, so they must be detached when
-      // the tab is removed from this column (see closeTabIndex) -- otherwise
-      // asynchronous work on the target (e.g. the visual editor marking the
-      // document dirty after its markdown conversion completes) can fire them
-      // with a widget that is no longer in the panel
+      registerTabHandlers(target, widget);
+
+      events_.fireEvent(new SourceDocAddedEvent(doc, mode, name_));
+
+      applyReadOnly(target, doc);
+
+      // adding a tab may enable commands that are only available when
+      // multiple documents are open; if this is the second document, go check
+      if (editors_.size() == 2)
+         manageMultiTabCommands(true);
+
+      // if the target had an editing session active, attempt to resume it
+      if (doc.getCollabParams() != null)
+         target.beginCollabSession(doc.getCollabParams());
+
+      return target;
+   }
+
+   // these handlers capture the tab widget, so they must be detached when
+   // the tab is removed from this column (see closeTabIndex) -- otherwise
+   // asynchronous work on the target (e.g. the visual editor marking the
+   // document dirty after its markdown conversion completes) can fire them
+   // with a widget that is no longer in the panel
+   private void registerTabHandlers(final EditingTarget target, final Widget widget)
+   {
       HandlerRegistrations registrations = new HandlerRegistrations();
       tabRegistrations_.put(target, registrations);
 
@@ -575,25 +691,15 @@ public class SourceColumn implements BeforeShowEvent.Handler,
       registrations.add(target.addEnsureVisibleHandler(event -> display_.selectTab(widget)));
 
       registrations.add(target.addCloseHandler(voidCloseEvent -> closeTab(widget, false)));
+   }
 
-      events_.fireEvent(new SourceDocAddedEvent(doc, mode, name_));
-
+   private void applyReadOnly(EditingTarget target, SourceDocument doc)
+   {
       if (target instanceof TextEditingTarget && doc.isReadOnly())
       {
          ((TextEditingTarget) target).setIntendedAsReadOnly(
             JsUtil.toList(doc.getReadOnlyAlternatives()));
       }
-
-      // adding a tab may enable commands that are only available when
-      // multiple documents are open; if this is the second document, go check
-      if (editors_.size() == 2)
-         manageMultiTabCommands(true);
-
-      // if the target had an editing session active, attempt to resume it
-      if (doc.getCollabParams() != null)
-         target.beginCollabSession(doc.getCollabParams());
-
-      return target;
    }
 
    public void closeDoc(String docId)
@@ -678,7 +784,7 @@ public class SourceColumn implements BeforeShowEvent.Handler,
          return activeEditor_;
       if (display_.getActiveTabIndex() > -1 &&
          editors_.size() > display_.getActiveTabIndex())
-         return editors_.get(display_.getActiveTabIndex());
+         return hydrate(editors_.get(display_.getActiveTabIndex()));
       return null;
    }
 
@@ -1187,6 +1293,13 @@ public class SourceColumn implements BeforeShowEvent.Handler,
 
    public void onSelection(SelectionEvent<Integer> event)
    {
+      // tabs selected while documents are restored are activated once
+      // restore completes (see onDocsRestored)
+      if (!manager_.getDocsRestored())
+         return;
+
+      ClientMetrics.get().startTiming("source.tabSwitch").stopOnNextFrame();
+
       if (activeEditor_ != null)
          activeEditor_.onDeactivate();
 
@@ -1194,7 +1307,7 @@ public class SourceColumn implements BeforeShowEvent.Handler,
 
       if (event.getSelectedItem() >= 0)
       {
-         activeEditor_ = editors_.get(event.getSelectedItem());
+         activeEditor_ = hydrate(editors_.get(event.getSelectedItem()));
          activeEditor_.onActivate();
          manager_.setActive(name_);
 
@@ -1378,6 +1491,7 @@ public class SourceColumn implements BeforeShowEvent.Handler,
       HandlerRegistrations registrations = tabRegistrations_.remove(target);
       if (registrations != null)
          registrations.removeHandler();
+      tabWidgets_.remove(target.asWidget());
 
       tabOrder_.remove(Integer.valueOf(idx));
       for (int i = 0; i < tabOrder_.size(); i++)
@@ -1422,6 +1536,7 @@ public class SourceColumn implements BeforeShowEvent.Handler,
    private Commands commands_;
 
    private boolean initialized_ = false;
+   private boolean initiallySelected_ = false;
    private boolean suspendDocumentClose_ = false;
 
    // If positive, a new tab is about to be created
@@ -1434,6 +1549,7 @@ public class SourceColumn implements BeforeShowEvent.Handler,
    private final ArrayList<EditingTarget> editors_ = new ArrayList<>();
    private final ArrayList<Integer> tabOrder_ = new ArrayList<>();
    private final HashMap<EditingTarget, HandlerRegistrations> tabRegistrations_ = new HashMap<>();
+   private final HashMap<Widget, Widget> tabWidgets_ = new HashMap<>();
    private HashSet<AppCommand> activeCommands_ = new HashSet<>();
 
    private RemoteFileSystemContext fileContext_;
@@ -552,6 +552,17 @@ public class SourceColumnManager implements CommandPaletteEntrySource,
    public void setDocsRestored()
    {
       docsRestored_ = true;
+
+      // activating a column's tab makes that column active, so finish with
+      // the column that should end up active
+      SourceColumn active = activeColumn_;
+      for (SourceColumn column : new ArrayList<>(columnList_))
+      {
+         if (column != active)
+            column.onDocsRestored();
+      }
+      if (active != null)
+         active.onDocsRestored();
    }
 
    public void setOpeningForSourceNavigation(boolean value)
@@ -972,16 +983,11 @@ public class SourceColumnManager implements CommandPaletteEntrySource,
    {
       for (SourceColumn column : columnList_)
       {
-         for (EditingTarget target : column.getEditors())
+         EditingTarget target = column.getDoc(id);
+         if (target instanceof TextEditingTarget)
          {
-            if (target instanceof TextEditingTarget)
-            {
-               if (StringUtil.equals(target.getId(), id))
-               {
-                  ((TextEditingTarget) target).getEditorContext();
-                  return true;
-               }
-            }
+            ((TextEditingTarget) target).getEditorContext();
+            return true;
          }
       }
       
@@ -1826,7 +1832,7 @@ public class SourceColumnManager implements CommandPaletteEntrySource,
       {
          final CPSEditingTargetCommand command = (EditingTarget target, Command continuation) ->
          {
-            if (!StringUtil.isNullOrEmpty(excludeDocId) && target == column.getDoc(excludeDocId))
+            if (!StringUtil.isNullOrEmpty(excludeDocId) && StringUtil.equals(target.getId(), excludeDocId))
             {
                continuation.execute();
             }
@@ -2791,7 +2797,7 @@ public class SourceColumnManager implements CommandPaletteEntrySource,
                column.selectTab(target.asWidget());
                pMruList_.get().add(thisPath);
                if (resultCallback != null)
-                  resultCallback.onSuccess(target);
+                  resultCallback.onSuccess(column.hydrate(target));
 
                return true;
             }
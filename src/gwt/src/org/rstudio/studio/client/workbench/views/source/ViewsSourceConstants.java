@@ -164,6 +164,9 @@ public interface ViewsSourceConstants extends com.google.gwt.i18n.client.Message
     String numberOfOccurrencesReplaced(int occurrences);
     String invalidSearchTerm();
     String noMoreOccurrences();
+    String matchIndexOfCount(int index, int count);
+    String matchCount(int count);
+    String noResults();
     String findCapitalized();
     String findOrReplace();
     String replaceCapitalized();
@@ -0,0 +1,509 @@
+/*
+ * PlaceholderEditingTarget.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.source.editors;
+
+import java.util.HashSet;
+
+import org.rstudio.core.client.StringUtil;
+import org.rstudio.core.client.command.AppCommand;
+import org.rstudio.core.client.events.EnsureHeightEvent;
+import org.rstudio.core.client.events.EnsureVisibleEvent;
+import org.rstudio.core.client.files.FileSystemContext;
+import org.rstudio.core.client.files.FileSystemItem;
+import org.rstudio.studio.client.common.ReadOnlyValue;
+import org.rstudio.studio.client.common.Value;
+import org.rstudio.studio.client.common.filetypes.FileIcon;
+import org.rstudio.studio.client.common.filetypes.FileType;
+import org.rstudio.studio.client.common.filetypes.TextFileType;
+import org.rstudio.studio.client.palette.model.CommandPaletteEntryProvider;
+import org.rstudio.studio.client.workbench.views.source.SourceColumn;
+import org.rstudio.studio.client.workbench.views.source.editors.EditingTargetSource.EditingTargetNameProvider;
+import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Position;
+import org.rstudio.studio.client.workbench.views.source.events.CollabEditStartParams;
+import org.rstudio.studio.client.workbench.views.source.model.SourceDocument;
+import org.rstudio.studio.client.workbench.views.source.model.SourcePosition;
+
+import com.google.gwt.event.logical.shared.CloseHandler;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Command;
+import com.google.gwt.user.client.ui.HasValue;
+import com.google.gwt.user.client.ui.SimpleLayoutPanel;
+import com.google.gwt.user.client.ui.Widget;
+
+/**
+ * Stands in for the editor of a text document restored at startup until its
+ * tab is first shown. The tab's name, icon and dirty state are answered from
+ * the restored document; anything that needs the editor itself asks the
+ * column to build it (see SourceColumn.hydrate), after which every call is
+ * forwarded to the real editing target, which is shown inside this
+ * placeholder's widget.
+ */
+public class PlaceholderEditingTarget implements EditingTarget
+{
+   /**
+    * @return True if a placeholder can stand in for the editor of the
+    *    given document, i.e. it's a text document whose tab name is known
+    *    without building the editor.
+    */
+   public static boolean canRestore(SourceDocument document, FileType type)
+   {
+      if (!(type instanceof TextFileType))
+         return false;
+
+      // collaborative editing sessions are resumed as soon as they're restored
+      if (document.getCollabParams() != null)
+         return false;
+
+      return document.getPath() != null ||
+             !StringUtil.isNullOrEmpty(document.getProperties().getString("tempName"));
+   }
+
+   @Override
+   public void initialize(SourceColumn column,
+                          SourceDocument document,
+                          FileSystemContext fileContext,
+                          FileType type,
+                          EditingTargetNameProvider defaultNameProvider)
+   {
+      column_ = column;
+      document_ = document;
+      fileType_ = type;
+      name_ = new Value<>(document.getPath() != null
+            ? FileSystemItem.getNameFromPath(document.getPath())
+            : document.getProperties().getString("tempName"));
+      dirtyState_ = new Value<>(document.isDirty());
+   }
+
+   public SourceDocument getDocument()
+   {
+      return document_;
+   }
+
+   /**
+    * @return The editing target built for this document, or null if it
+    *    hasn't been built yet.
+    */
+   public EditingTarget getTarget()
+   {
+      return target_;
+   }
+
+   public void setTarget(EditingTarget target)
+   {
+      target_ = target;
+      host_.setWidget(target.asWidget());
+   }
+
+   private EditingTarget target()
+   {
+      if (target_ == null)
+         column_.hydrate(this);
+      return target_;
+   }
+
+   @Override
+   public String getId()
+   {
+      return document_.getId();
+   }
+
+   @Override
+   public HasValue<String> getName()
+   {
+      return target_ == null ? name_ : target_.getName();
+   }
+
+   @Override
+   public String getTitle()
+   {
+      return getName().getValue();
+   }
+
+   @Override
+   public String getPath()
+   {
+      return target_ == null ? document_.getPath() : target_.getPath();
+   }
+
+   @Override
+   public String getContext()
+   {
+      return target_ == null ? null : target_.getContext();
+   }
+
+   @Override
+   public FileIcon getIcon()
+   {
+      return target_ == null ? fileType_.getDefaultFileIcon() : target_.getIcon();
+   }
+
+   @Override
+   public String getTabTooltip()
+   {
+      return target_ == null ? document_.getPath() : target_.getTabTooltip();
+   }
+
+   @Override
+   public FileType getFileType()
+   {
+      return target_ == null ? fileType_ : target_.getFileType();
+   }
+
+   @Override
+   public TextFileType getTextFileType()
+   {
+      return target_ == null ? (TextFileType) fileType_ : target_.getTextFileType();
+   }
+
+   @Override
+   public void adaptToExtendedFileType(String extendedType)
+   {
+      target().adaptToExtendedFileType(extendedType);
+   }
+
+   @Override
+   public String getExtendedFileType()
+   {
+      return target_ == null ? document_.getExtendedType() : target_.getExtendedFileType();
+   }
+
+   @Override
+   public boolean isShinyPrerenderedDoc()
+   {
+      return target().isShinyPrerenderedDoc();
+   }
+
+   @Override
+   public HashSet<AppCommand> getSupportedCommands()
+   {
+      return target().getSupportedCommands();
+   }
+
+   @Override
+   public void manageCommands()
+   {
+      target().manageCommands();
+   }
+
+   @Override
+   public boolean canCompilePdf()
+   {
+      return target().canCompilePdf();
+   }
+
+   @Override
+   public void verifyCppPrerequisites()
+   {
+      target().verifyCppPrerequisites();
+   }
+
+   @Override
+   public void verifyPythonPrerequisites()
+   {
+      target().verifyPythonPrerequisites();
+   }
+
+   @Override
+   public void verifyD3Prerequisites()
+   {
+      target().verifyD3Prerequisites();
+   }
+
+   @Override
+   public void verifyNewSqlPrerequisites()
+   {
+      target().verifyNewSqlPrerequisites();
+   }
+
+   @Override
+   public void focus()
+   {
+      target().focus();
+   }
+
+   @Override
+   public void onActivate()
+   {
+      target().onActivate();
+   }
+
+   @Override
+   public void onDeactivate()
+   {
+      // an editor that was never built was never activated
+      if (target_ != null)
+         target_.onDeactivate();
+   }
+
+   @Override
+   public void onInitiallyLoaded()
+   {
+      target().onInitiallyLoaded();
+   }
+
+   @Override
+   public void recordCurrentNavigationPosition()
+   {
+      target().recordCurrentNavigationPosition();
+   }
+
+   @Override
+   public void navigateToPosition(SourcePosition position,
+                                  boolean recordCurrent)
+   {
+      target().navigateToPosition(position, recordCurrent);
+   }
+
+   @Override
+   public void navigateToPosition(SourcePosition position,
+                                  boolean recordCurrent,
+                                  boolean highlightLine)
+   {
+      target().navigateToPosition(position, recordCurrent, highlightLine);
+   }
+
+   @Override
+   public void navigateToPosition(SourcePosition position,
+                                  boolean recordCurrent,
+                                  boolean highlightLine,
+                                  boolean moveCursor,
+                                  Command onNavigationCompleted)
+   {
+      target().navigateToPosition(position,
+                                  recordCurrent,
+                                  highlightLine,
+                                  moveCursor,
+                                  onNavigationCompleted);
+   }
+
+   @Override
+   public void restorePosition(SourcePosition position)
+   {
+      target().restorePosition(position);
+   }
+
+   @Override
+   public SourcePosition currentPosition()
+   {
+      return target().currentPosition();
+   }
+
+   @Override
+   public boolean isAtSourceRow(SourcePosition position)
+   {
+      return target().isAtSourceRow(position);
+   }
+
+   @Override
+   public void forceLineHighlighting()
+   {
+      target().forceLineHighlighting();
+   }
+
+   @Override
+   public void setSourceOnSave(boolean sourceOnSave)
+   {
+      target().setSourceOnSave(sourceOnSave);
+   }
+
+   @Override
+   public void setCursorPosition(Position position)
+   {
+      target().setCursorPosition(position);
+   }
+
+   @Override
+   public void ensureCursorVisible()
+   {
+      target().ensureCursorVisible();
+   }
+
+   @Override
+   public Position search(String regex)
+   {
+      return target().search(regex);
+   }
+
+   @Override
+   public Position search(Position startPos, String regex)
+   {
+      return target().search(startPos, regex);
+   }
+
+   @Override
+   public void highlightDebugLocation(SourcePosition startPos,
+                                      SourcePosition endPos,
+                                      boolean executing)
+   {
+      target().highlightDebugLocation(startPos, endPos, executing);
+   }
+
+   @Override
+   public void endDebugHighlighting()
+   {
+      if (target_ != null)
+         target_.endDebugHighlighting();
+   }
+
+   @Override
+   public void beginCollabSession(CollabEditStartParams params)
+   {
+      target().beginCollabSession(params);
+   }
+
+   @Override
+   public void endCollabSession()
+   {
+      if (target_ != null)
+         target_.endCollabSession();
+   }
+
+   @Override
+   public boolean onBeforeDismiss()
+   {
+      // a clean document that was never shown can always be closed; a dirty
+      // one needs the editor to prompt for (and perform) the save
+      if (target_ == null && !document_.isDirty())
+         return true;
+      return target().onBeforeDismiss();
+   }
+
+   @Override
+   public void onDismiss(int dismissType)
+   {
+      if (target_ != null)
+         target_.onDismiss(dismissType);
+   }
+
+   @Override
+   public ReadOnlyValue<Boolean> dirtyState()
+   {
+      return target_ == null ? dirtyState_ : target_.dirtyState();
+   }
+
+   @Override
+   public boolean isSaveCommandActive()
+   {
+      if (target_ != null)
+         return target_.isSaveCommandActive();
+
+      return document_.isDirty() ||
+             document_.sourceOnSave() ||
+             (document_.getPath() == null && StringUtil.isNullOrEmpty(document_.getContents()));
+   }
+
+   @Override
+   public void forceSaveCommandActive()
+   {
+      target().forceSaveCommandActive();
+   }
+
+   @Override
+   public void save(Command onCompleted)
+   {
+      target().save(onCompleted);
+   }
+
+   @Override
+   public void saveWithPrompt(Command onCompleted, Command onCancelled)
+   {
+      target().saveWithPrompt(onCompleted, onCancelled);
+   }
+
+   @Override
+   public void revertChanges(Command onCompleted)
+   {
+      target().revertChanges(onCompleted);
+   }
+
+   @Override
+   public long getFileSizeLimit()
+   {
+      return target().getFileSizeLimit();
+   }
+
+   @Override
+   public long getLargeFileSize()
+   {
+      return target().getLargeFileSize();
+   }
+
+   @Override
+   public String getDefaultNamePrefix()
+   {
+      return target().getDefaultNamePrefix();
+   }
+
+   @Override
+   public String getCurrentStatus()
+   {
+      return target().getCurrentStatus();
+   }
+
+   @Override
+   public CommandPaletteEntryProvider getPaletteEntryProvider()
+   {
+      return target_ == null ? null : target_.getPaletteEntryProvider();
+   }
+
+   @Override
+   public Widget asWidget()
+   {
+      return host_;
+   }
+
+   // the column registers its tab handlers on the real editing target once
+   // it's built, so there is nothing to listen to before then
+   @Override
+   public HandlerRegistration addEnsureVisibleHandler(EnsureVisibleEvent.Handler handler)
+   {
+      if (target_ != null)
+         return target_.addEnsureVisibleHandler(handler);
+      return () -> {};
+   }
+
+   @Override
+   public HandlerRegistration addEnsureHeightHandler(EnsureHeightEvent.Handler handler)
+   {
+      if (target_ != null)
+         return target_.addEnsureHeightHandler(handler);
+      return () -> {};
+   }
+
+   @Override
+   public HandlerRegistration addCloseHandler(CloseHandler<Void> handler)
+   {
+      if (target_ != null)
+         return target_.addCloseHandler(handler);
+      return () -> {};
+   }
+
+   @Override
+   public void fireEvent(GwtEvent<?> event)
+   {
+      if (target_ != null)
+         target_.fireEvent(event);
+   }
+
+   private SourceColumn column_;
+   private SourceDocument document_;
+   private FileType fileType_;
+   private Value<String> name_;
+   private Value<Boolean> dirtyState_;
+   private EditingTarget target_;
+
+   private final SimpleLayoutPanel host_ = new SimpleLayoutPanel();
+}
@@ -19,8 +19,6 @@ import java.util.List;
 
 import org.rstudio.core.client.Debug;
 import org.rstudio.core.client.JsVectorString;
-import org.rstudio.core.client.ListUtil;
-import org.rstudio.core.client.ListUtil.FilterPredicate;
 import org.rstudio.core.client.SafeHtmlUtil;
 import org.rstudio.core.client.StringUtil;
 import org.rstudio.core.client.command.KeyboardShortcut;
@@ -125,6 +123,7 @@ public class ObjectExplorerDataGrid
       /*-{
          return {
             "parent": parent,
+            "depth": (parent["depth"] || 0) + 1,
             "placeholder": true
          };
       }-*/;
@@ -168,6 +167,32 @@ public class ObjectExplorerDataGrid
          return !!this["matched"];
       }-*/;
 
+      // A lower-cased concatenation of the name, type and description
+      // of this node, used when matching against the search filter.
+      // Computed once on first use and cached on the node.
+      public final String getSearchKey()
+      {
+         String key = getSearchKeyImpl();
+         if (key == null)
+         {
+            key = (StringUtil.notNull(getDisplayName()) + SEARCH_KEY_SEPARATOR +
+                   StringUtil.notNull(getDisplayType()) + SEARCH_KEY_SEPARATOR +
+                   StringUtil.notNull(getDisplayDesc())).toLowerCase();
+            setSearchKeyImpl(key);
+         }
+         return key;
+      }
+
+      private final native String getSearchKeyImpl()
+      /*-{
+         return this["search_key"] || null;
+      }-*/;
+
+      private final native void setSearchKeyImpl(String key)
+      /*-{
+         this["search_key"] = key;
+      }-*/;
+
       // The current expansion state of this row.
       // Rows can either be expanded (children are visible),
       // or not expanded (children are hidden).
@@ -213,9 +238,13 @@ public class ObjectExplorerDataGrid
          return this["parent"] || null;
       }-*/;
 
+      // Setting the parent also caches the node's depth, so the parent
+      // must have its own parent set first (as is the case when ownership
+      // is assigned from the root down).
       public final native void setParentData(Data data)
       /*-{
          this["parent"] = data;
+         this["depth"] = data == null ? 0 : (data["depth"] || 0) + 1;
       }-*/;
 
       // Whether this node has the parent object 'data'.
@@ -248,18 +277,10 @@ public class ObjectExplorerDataGrid
       }-*/;
 
       // Return the node's depth, or the number of parents.
-      public final int getDepth()
-      {
-         int depth = 0;
-         for (Data parent = getParentData();
-              parent != null;
-              parent = parent.getParentData())
-         {
-            depth++;
-         }
-
-         return depth;
-      }
+      public final native int getDepth()
+      /*-{
+         return this["depth"] || 0;
+      }-*/;
 
       // Used to update ownership of children within the tree.
       // This is necessary as nodes received from the server
@@ -625,7 +646,7 @@ public class ObjectExplorerDataGrid
    public void setFilter(String filter)
    {
       filter_ = filter;
-      synchronize();
+      updateData();
    }
 
    public HandlerRegistration addSelectionChangedHandler(SelectionChangedEvent.Handler handler)
@@ -687,7 +708,7 @@ public class ObjectExplorerDataGrid
       }
 
       // otherwise, just select the row the user clicked on
-      setKeyboardSelectedRow(row);
+      setKeyboardSelectedIndex(row);
       setKeyboardSelectedColumn(0);
    }
 
@@ -703,7 +724,7 @@ public class ObjectExplorerDataGrid
       int code = event.getKeyCode();
       int modifier = KeyboardShortcut.getModifierValue(event);
       int type = event.getTypeInt();
-      int row = getKeyboardSelectedRow();
+      int row = getKeyboardSelectedIndex();
       boolean eventHandled = false;
 
       if (type == Event.ONKEYDOWN || type == Event.ONKEYPRESS)
@@ -888,8 +909,13 @@ public class ObjectExplorerDataGrid
 
    private void selectRowRelative(int delta)
    {
+      int index = getKeyboardSelectedIndex() + delta;
+      int n = getData().size();
+      if (n == 0)
+         return;
+
       setKeyboardSelectedColumn(0);
-      setKeyboardSelectedRow(getKeyboardSelectedRow() + delta);
+      setKeyboardSelectedIndex(Math.max(0, Math.min(n - 1, index)));
    }
 
    private void selectParentOrClose(int row)
@@ -913,7 +939,7 @@ public class ObjectExplorerDataGrid
       {
          if (list.get(i).equals(parent))
          {
-            setKeyboardSelectedRow(i);
+            setKeyboardSelectedIndex(i);
             break;
          }
       }
@@ -1012,8 +1038,8 @@ public class ObjectExplorerDataGrid
             if (attributes != null)
                attributes.setVisible(true);
 
-            // force update of data grid
-            synchronize();
+            // splice newly visible children into the data grid
+            synchronize(data);
             setFocusDeferred(true);
          }
       });
@@ -1046,8 +1072,8 @@ public class ObjectExplorerDataGrid
             if (attributes != null)
                attributes.setVisible(false);
 
-            // force update of data grid
-            synchronize();
+            // splice hidden children out of the data grid
+            synchronize(data);
             setFocusDeferred(true);
          }
       });
@@ -1101,7 +1127,7 @@ public class ObjectExplorerDataGrid
          @Override
          public void execute()
          {
-            synchronize();
+            synchronize(parent);
          }
       });
    }
@@ -1189,7 +1215,7 @@ public class ObjectExplorerDataGrid
                      {
                         if (getData().size() > 0)
                         {
-                           setKeyboardSelectedRow(0, true);
+                           setKeyboardSelectedIndex(0, true);
                         }
                      }
                   });
@@ -1204,70 +1230,141 @@ public class ObjectExplorerDataGrid
 
    }
 
+   // Rebuild the set of visible rows from the whole tree. This is only
+   // needed when the tree itself is replaced, or when a setting that affects
+   // every node changes; expanding or collapsing a single node should use
+   // synchronize(Data) instead.
    private void synchronize()
    {
       saveScrollPosition();
 
-      final String filter = StringUtil.notNull(filter_).trim();
+      rows_ = root_ == null
+            ? new ArrayList<>()
+            : flatten(root_, VISIBLE_FILTER);
+
+      updateData();
+   }
 
-      // only include visible data in the table
-      // TODO: we should consider how to better handle
-      // piecewise updates to the table, rather than
-      // shunting a whole new list in
-      List<Data> data = flatten(root_, new Filter<Data>()
+   // Update the visible rows after the children of 'data' have been shown,
+   // hidden, or extended. Only the subtree rooted at 'data' is re-flattened;
+   // it is then spliced into the existing set of rows in place of the rows
+   // it previously occupied.
+   private void synchronize(Data data)
+   {
+      int index = indexOfRow(data);
+      if (index == -1)
       {
-         @Override
-         public boolean accept(Data data)
-         {
-            // detect if this matches the current filter
-            if (!filter.isEmpty())
-            {
-               data.setMatched(false);
-               String[] fields = {
-                     data.getDisplayName(),
-                     data.getDisplayType(),
-                     data.getDisplayDesc()
-               };
-
-               for (String field : fields)
-               {
-                  int index = field.toLowerCase().indexOf(filter.toLowerCase());
-                  if (index != -1)
-                  {
-                     data.setMatched(true);
-                     break;
-                  }
-               }
-            }
+         synchronize();
+         return;
+      }
 
-            // otherwise, check whether it's currently visible
-            return data.isVisible();
-         }
-      });
+      saveScrollPosition();
 
-      // remove entries that don't match filter
-      if (!filter.isEmpty())
+      // find the end of the rows currently owned by this node; rows are
+      // stored in depth-first order so these are the rows that follow it
+      // with a greater depth
+      int depth = data.getDepth();
+      int end = index + 1;
+      int n = rows_.size();
+      while (end < n && rows_.get(end).getDepth() > depth)
+         end++;
+
+      // re-flatten this node's subtree (excluding the node itself)
+      List<Data> subtree = flatten(data, VISIBLE_FILTER);
+      subtree = subtree.subList(1, subtree.size());
+
+      List<Data> rows = new ArrayList<>(n - (end - index) + subtree.size());
+      rows.addAll(rows_.subList(0, index));
+      rows.addAll(subtree);
+      rows.addAll(rows_.subList(end, n));
+
+      if (isFilterActive())
       {
-         data = ListUtil.filter(data, new FilterPredicate<Data>()
-         {
-            @Override
-            public boolean test(Data object)
-            {
-               for (Data self = object;
-                    self != null;
-                    self = self.getParentData())
-               {
-                  if (self.isMatched())
-                     return true;
-               }
+         rows_ = rows;
+         updateData();
+         return;
+      }
 
-               return false;
-            }
-         });
+      // the data provider's list wraps rows_; writing the new rows through
+      // it updates rows_ and pushes only the rows from this node onwards
+      // (including the node itself, whose expansion state has changed)
+      List<Data> shown = getData();
+      for (int i = index, size = rows.size(); i < size; i++)
+      {
+         if (i < shown.size())
+            shown.set(i, rows.get(i));
+         else
+            shown.add(rows.get(i));
       }
 
-      setData(data);
-      redraw();
+      while (shown.size() > rows.size())
+         shown.remove(shown.size() - 1);
+   }
+
+   private int indexOfRow(Data data)
+   {
+      // when no filter is active, the rows shown in the table are the
+      // visible rows, so we can usually find the node near the selection
+      int selected = getKeyboardSelectedIndex();
+      if (selected >= 0 && selected < rows_.size() && rows_.get(selected) == data)
+         return selected;
+
+      for (int i = 0, n = rows_.size(); i < n; i++)
+         if (rows_.get(i) == data)
+            return i;
+
+      return -1;
+   }
+
+   // Push all the visible rows to the data grid, applying the current
+   // filter (if any). This re-renders every row; when no filter is active,
+   // the data provider wraps rows_ itself, so synchronize(Data) can push
+   // just the rows that changed.
+   private void updateData()
+   {
+      setData(isFilterActive() ? applyFilter(rows_, getFilter()) : rows_);
+   }
+
+   private boolean isFilterActive()
+   {
+      return !getFilter().isEmpty();
+   }
+
+   private String getFilter()
+   {
+      return StringUtil.notNull(filter_).trim();
+   }
+
+   // Retain those rows which match the filter, or which have an ancestor
+   // that matches the filter.
+   private List<Data> applyFilter(List<Data> rows, String filter)
+   {
+      String query = filter.toLowerCase();
+      List<Data> result = new ArrayList<>();
+
+      // rows are stored in depth-first order, so we only need to track the
+      // depth of the outermost matched ancestor on the current path
+      int matchedDepth = -1;
+      for (int i = 0, n = rows.size(); i < n; i++)
+      {
+         Data data = rows.get(i);
+         int depth = data.getDepth();
+         if (matchedDepth != -1 && depth <= matchedDepth)
+            matchedDepth = -1;
+
+         boolean matched =
+               !data.isMorePlaceholder() &&
+               data.getSearchKey().indexOf(query) != -1;
+
+         data.setMatched(matched);
+         if (matched && matchedDepth == -1)
+            matchedDepth = depth;
+
+         if (matchedDepth != -1)
+            result.add(data);
+      }
+
+      return result;
    }
 
    @Override
@@ -1292,7 +1389,7 @@ public class ObjectExplorerDataGrid
 
    public Data getCurrentSelection()
    {
-      int selectedRow = getKeyboardSelectedRow();
+      int selectedRow = getKeyboardSelectedIndex();
       return (selectedRow == -1)
             ? null
             : getData().get(selectedRow);
@@ -1379,6 +1476,10 @@ public class ObjectExplorerDataGrid
 
    private final ListDataProvider<Data> dataProvider_;
 
+   // The rows currently visible in the tree (ignoring the filter),
+   // in depth-first order.
+   private List<Data> rows_ = new ArrayList<>();
+
    private int scrollPosition_ = -1;
    private TableRowElement hoveredRow_;
    private boolean showAttributes_;
@@ -1397,6 +1498,17 @@ public class ObjectExplorerDataGrid
    // SessionObjectExplorer.R
    private static final int DEFAULT_ROW_LIMIT = 1000;
 
+   private static final String SEARCH_KEY_SEPARATOR = "\u0000";
+
+   private static final Filter<Data> VISIBLE_FILTER = new Filter<Data>()
+   {
+      @Override
+      public boolean accept(Data data)
+      {
+         return data.isVisible();
+      }
+   };
+
    private static final String ACTION_OPEN    = "open";
    private static final String ACTION_CLOSE   = "close";
    private static final String ACTION_EXTRACT = "extract";
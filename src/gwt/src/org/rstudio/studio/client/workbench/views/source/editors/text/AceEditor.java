@@ -29,6 +29,7 @@ import org.rstudio.core.client.Debug;
 import org.rstudio.core.client.ElementIds;
 import org.rstudio.core.client.ExternalJavaScriptLoader;
 import org.rstudio.core.client.ImmediatelyInvokedFunctionExpression;
+import org.rstudio.core.client.InputLatencyTracer;
 import org.rstudio.core.client.KeyboardTracker;
 import org.rstudio.core.client.Rectangle;
 import org.rstudio.core.client.StringUtil;
@@ -370,7 +371,15 @@ public class AceEditor implements DocDisplay
       {
          if (!valueChangeSuppressed_)
          {
-            ValueChangeEvent.fire(AceEditor.this, null);
+            InputLatencyTracer.Span span = InputLatencyTracer.get().startSpan("editor.change");
+            try
+            {
+               ValueChangeEvent.fire(AceEditor.this, null);
+            }
+            finally
+            {
+               span.end();
+            }
          }
       });
 
@@ -1150,7 +1159,7 @@ public class AceEditor implements DocDisplay
          marks = widget_.getEditor().getMarks();
 
       // create a keyboard previewer for our special hooks
-      AceKeyboardPreviewer previewer = new AceKeyboardPreviewer(completionManager_);
+      AceKeyboardPreviewer previewer = new AceKeyboardPreviewer(this, completionManager_);
 
       // set default key handler
       if (useVimMode_)
@@ -1203,6 +1212,49 @@ public class AceEditor implements DocDisplay
       doSetCode(code, preserveCursorPosition);
    }
 
+   // Replace the document's contents with 'code', editing only the span of
+   // text that differs between the two. Text before and after the change is
+   // left in place, so its tokenization, folds, markers and breakpoints are
+   // retained, and the edit is recorded as a single small undo delta.
+   @Override
+   public void updateCode(String code)
+   {
+      String oldCode = getCode();
+      String newCode = StringUtil.normalizeNewLines(code.replaceAll("\u001B", ""));
+
+      // offsets below assume '\n' line endings in the document; fall back to
+      // replacing the whole document otherwise
+      if (oldCode.indexOf('\r') != -1)
+      {
+         setCode(code, true);
+         return;
+      }
+
+      if (oldCode.equals(newCode))
+         return;
+
+      int oldLength = oldCode.length();
+      int newLength = newCode.length();
+
+      int prefix = 0;
+      int maxPrefix = Math.min(oldLength, newLength);
+      while (prefix < maxPrefix && oldCode.charAt(prefix) == newCode.charAt(prefix))
+         prefix++;
+
+      int suffix = 0;
+      int maxSuffix = maxPrefix - prefix;
+      while (suffix < maxSuffix &&
+             oldCode.charAt(oldLength - suffix - 1) == newCode.charAt(newLength - suffix - 1))
+         suffix++;
+
+      exitOrResetMultiSelect();
+
+      Range range = Range.fromPoints(
+            positionFromIndex(prefix),
+            positionFromIndex(oldLength - suffix));
+      getSession().replace(range, newCode.substring(prefix, newLength - suffix));
+   }
+
    // Drop back to a single selection. Ace's exitMultiSelectMode() is a
    // silent no-op on stranded multi-select state (it early-returns while
    // 'inVirtualSelectionMode' is set), so corrupt state is reset rather than
@@ -19,6 +19,8 @@ import java.util.ArrayList;
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.dom.client.NativeEvent;
 
+import org.rstudio.core.client.InputLatencyTracer;
+import org.rstudio.studio.client.common.filetypes.TextFileType;
 import org.rstudio.studio.client.workbench.views.console.shell.assist.CompletionManager;
 import org.rstudio.studio.client.workbench.views.source.editors.text.ace.KeyboardHandler;
 
@@ -37,8 +39,10 @@ public class AceKeyboardPreviewer
    // the user were holding Alt and pressed 'A' on macOS, they would get the
    // 'å' character inserted. Nowadays, most browsers provide these keys
    // as part of the 'key' attribute of the event, but that was not always the case.
-   public AceKeyboardPreviewer(final CompletionManager completionManager)
+   public AceKeyboardPreviewer(final DocDisplay docDisplay,
+                               final CompletionManager completionManager)
    {
+      docDisplay_ = docDisplay;
       addHandler(new Handler() {
 
          @Override
@@ -87,12 +91,27 @@ public class AceKeyboardPreviewer
 
    private boolean onKeyDown(JavaScriptObject data, NativeEvent e)
    {
-      for (Handler handler : handlers_)
+      InputLatencyTracer tracer = InputLatencyTracer.get();
+      if (tracer.isEnabled())
       {
-         if (handler.previewKeyDown(data, e))
-            return true;
+         TextFileType fileType = docDisplay_.getFileType();
+         tracer.setDocumentType(fileType == null ? null : fileType.getTypeId());
+      }
+
+      InputLatencyTracer.Span span = tracer.startSpan("completion");
+      try
+      {
+         for (Handler handler : handlers_)
+         {
+            if (handler.previewKeyDown(data, e))
+               return true;
+         }
+         return false;
+      }
+      finally
+      {
+         span.end();
       }
-      return false;
    }
    
 
@@ -105,15 +124,24 @@ public class AceKeyboardPreviewer
       if (text.equals("\u001B"))
          return true;
 
-      for (Handler handler : handlers_)
+      InputLatencyTracer.Span span = InputLatencyTracer.get().startSpan("completion");
+      try
       {
-         for (int i = 0; i < text.length(); i++)
-            if (handler.previewKeyPress(data, text.charAt(i)))
-               return true;
+         for (Handler handler : handlers_)
+         {
+            for (int i = 0; i < text.length(); i++)
+               if (handler.previewKeyPress(data, text.charAt(i)))
+                  return true;
+         }
+
+         return false;
+      }
+      finally
+      {
+         span.end();
       }
-      
-      return false;
    }
    
+   private final DocDisplay docDisplay_;
    private ArrayList<Handler> handlers_ = new ArrayList<>();
 }
@@ -67,7 +67,7 @@ public class ChunkHtmlPage extends ChunkOutputPage
          content_ = frame_;
       }
 
-      frame_.loadUrlDelayed(url, 400, new Command() 
+      frame_.loadUrlWhenVisible(url, 400, new Command() 
       {
          @Override
          public void execute()
@@ -85,7 +85,8 @@ public class ChunkHtmlPage extends ChunkOutputPage
                @Override
                public void run()
                {
-                  onRenderComplete.execute();
+                  if (onRenderComplete != null)
+                     onRenderComplete.execute();
                }
             };
 
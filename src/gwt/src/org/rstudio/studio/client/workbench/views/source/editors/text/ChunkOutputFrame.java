@@ -17,6 +17,7 @@ package org.rstudio.studio.client.workbench.views.source.editors.text;
 import org.rstudio.core.client.widget.DynamicIFrame;
 
 import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.IFrameElement;
 import com.google.gwt.user.client.Command;
 import com.google.gwt.user.client.Timer;
 
@@ -70,22 +71,105 @@ public class ChunkOutputFrame extends DynamicIFrame
 
       timer_.schedule(delayMs);
    }
+
+   /**
+    * Loads a URL once the frame approaches the viewport (see
+    * ChunkOutputFrameLoader). The frame may be unloaded again when scrolled
+    * far out of view, and is then reloaded (running onCompleted again) when
+    * it next approaches the viewport.
+    *
+    * @param url The URL to load.
+    * @param delayMs The number of milliseconds to delay before loading the
+    *   URL once the frame is near the viewport.
+    * @param onCompleted The command to run each time the URL is loaded.
+    */
+   void loadUrlWhenVisible(String url, int delayMs, Command onCompleted)
+   {
+      cancelPendingLoad();
+
+      onCompleted_ = onCompleted;
+      loaded_ = false;
+      url_ = url;
+      delayMs_ = delayMs;
+      lazy_ = true;
+
+      if (isAttached())
+         ChunkOutputFrameLoader.get().register(this);
+   }
+
+   // invoked by the loader when the frame approaches the viewport
+   void activate()
+   {
+      if (!lazy_ || live_)
+         return;
+
+      live_ = true;
+      timer_.schedule(delayMs_);
+   }
+
+   // invoked by the loader when the frame is far out of view; the frame keeps
+   // its size, so the surrounding layout doesn't change
+   void deactivate()
+   {
+      if (!lazy_ || !live_)
+         return;
+
+      live_ = false;
+      loaded_ = false;
+      if (timer_.isRunning())
+         timer_.cancel();
+      getElement().<IFrameElement>cast().setSrc("about:blank");
+   }
+
+   public boolean isLive()
+   {
+      return live_;
+   }
    
    public void cancelPendingLoad()
    {
       if (timer_.isRunning())
          timer_.cancel();
+
+      if (lazy_)
+      {
+         ChunkOutputFrameLoader.get().unregister(this);
+         lazy_ = false;
+      }
    }
 
    @Override
    public String getUrl()
    {
-      // return the pending URL if we haven't loaded one yet
-      if (timer_.isRunning())
+      // return the pending URL if we haven't loaded one yet (or have unloaded
+      // it)
+      if (timer_.isRunning() || (lazy_ && !live_))
          return url_;
       else
          return super.getUrl();
    }
+
+   @Override
+   protected void onLoad()
+   {
+      super.onLoad();
+      if (lazy_)
+         ChunkOutputFrameLoader.get().register(this);
+   }
+
+   @Override
+   protected void onUnload()
+   {
+      if (lazy_)
+      {
+         ChunkOutputFrameLoader.get().unregister(this);
+
+         // the browser discards the frame's document when it leaves the DOM;
+         // don't let it reload until it's next near the viewport
+         deactivate();
+      }
+      super.onUnload();
+   }
    
    @Override
    protected void onFrameLoaded()
@@ -125,4 +209,8 @@ public class ChunkOutputFrame extends DynamicIFrame
    private String url_;
    private Command onCompleted_;
    private boolean loaded_ = false;
+
+   private int delayMs_ = 0;
+   private boolean lazy_ = false;
+   private boolean live_ = false;
 }
@@ -0,0 +1,275 @@
+/*
+ * ChunkOutputFrameLoader.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.source.editors.text;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.rstudio.core.client.ClientMetrics;
+import org.rstudio.core.client.dom.DomUtils;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.user.client.ui.Widget;
+
+/**
+ * Loads the HTML output frames of notebook chunks only as they approach the
+ * viewport, and unloads them (leaving the empty, but still sized, frame in
+ * place) once they've been scrolled far out of view. The number of frames
+ * kept loaded for each document is capped; when the cap is exceeded, the
+ * frames that were least recently near the viewport are unloaded first.
+ *
+ * Distances are measured from the editor (which clips its line widgets)
+ * rather than the browser viewport, so each editor gets its own pair of
+ * observers.
+ */
+public class ChunkOutputFrameLoader
+{
+   public static ChunkOutputFrameLoader get()
+   {
+      if (instance_ == null)
+         instance_ = new ChunkOutputFrameLoader();
+      return instance_;
+   }
+
+   // the observers for the frames within one editor
+   private class Observers
+   {
+      Observers(Element root)
+      {
+         near_ = createObserver(root, LOAD_MARGIN, true);
+         far_ = createObserver(root, UNLOAD_MARGIN, false);
+      }
+
+      void observe(Element element)
+      {
+         ChunkOutputFrameLoader.observe(near_, element);
+         ChunkOutputFrameLoader.observe(far_, element);
+         count_++;
+      }
+
+      void unobserve(Element element)
+      {
+         ChunkOutputFrameLoader.unobserve(near_, element);
+         ChunkOutputFrameLoader.unobserve(far_, element);
+         count_--;
+      }
+
+      void disconnect()
+      {
+         ChunkOutputFrameLoader.disconnect(near_);
+         ChunkOutputFrameLoader.disconnect(far_);
+      }
+
+      boolean isEmpty()
+      {
+         return count_ == 0;
+      }
+
+      private final JavaScriptObject near_;
+      private final JavaScriptObject far_;
+      private int count_ = 0;
+   }
+
+   private ChunkOutputFrameLoader()
+   {
+      ClientMetrics.get().registerGauge("notebook.liveFrames",
+                                        () -> getLiveFrameCount());
+   }
+
+   // the number of frames currently loaded, across all documents
+   public int getLiveFrameCount()
+   {
+      int count = 0;
+      for (ChunkOutputFrame frame : frames_.values())
+         if (frame.isLive())
+            count++;
+      return count;
+   }
+
+   void register(ChunkOutputFrame frame)
+   {
+      // without intersection observers, load frames right away (as we did
+      // before frames were loaded lazily)
+      if (!isSupported())
+      {
+         frame.activate();
+         return;
+      }
+
+      if (frames_.containsKey(frame.getElement()))
+         return;
+      frames_.put(frame.getElement(), frame);
+
+      // frames outside an editor (if any) are measured from the viewport
+      Element root = findRoot(frame.getElement());
+      Observers observers = observers_.get(root);
+      if (observers == null)
+      {
+         observers = new Observers(root);
+         observers_.put(root, observers);
+      }
+
+      roots_.put(frame, root);
+      documents_.put(frame, findDocumentId(frame));
+      observers.observe(frame.getElement());
+   }
+
+   void unregister(ChunkOutputFrame frame)
+   {
+      if (frames_.remove(frame.getElement()) == null)
+         return;
+
+      Element root = roots_.remove(frame);
+      Observers observers = observers_.get(root);
+      if (observers != null)
+      {
+         observers.unobserve(frame.getElement());
+         if (observers.isEmpty())
+         {
+            observers.disconnect();
+            observers_.remove(root);
+         }
+      }
+
+      documents_.remove(frame);
+      recent_.remove(frame);
+      near_.remove(frame);
+   }
+
+   private void onIntersectionChanged(Element element,
+                                      boolean intersecting,
+                                      boolean near)
+   {
+      ChunkOutputFrame frame = frames_.get(element);
+      if (frame == null)
+         return;
+
+      if (near)
+      {
+         if (intersecting)
+         {
+            near_.add(frame);
+            recent_.remove(frame);
+            recent_.add(frame);
+            frame.activate();
+            enforceLimit(documents_.get(frame));
+         }
+         else
+         {
+            near_.remove(frame);
+         }
+      }
+      else if (!intersecting)
+      {
+         frame.deactivate();
+      }
+   }
+
+   private void enforceLimit(String documentId)
+   {
+      List<ChunkOutputFrame> live = new ArrayList<>();
+      for (ChunkOutputFrame frame : recent_)
+         if (frame.isLive() && documentId.equals(documents_.get(frame)))
+            live.add(frame);
+
+      // unload the frames least recently near the viewport first; frames
+      // that are near the viewport now are never unloaded
+      int excess = live.size() - MAX_LIVE_FRAMES;
+      for (ChunkOutputFrame frame : live)
+      {
+         if (excess <= 0)
+            break;
+         if (near_.contains(frame))
+            continue;
+         frame.deactivate();
+         excess--;
+      }
+   }
+
+   private static String findDocumentId(Widget widget)
+   {
+      for (Widget parent = widget; parent != null; parent = parent.getParent())
+      {
+         if (parent instanceof ChunkOutputWidget)
+            return ((ChunkOutputWidget) parent).getDocumentId();
+      }
+      return "";
+   }
+
+   // Ace appends line widgets to the editor's container, alongside (not
+   // within) its scroller, so the editor element is what clips them
+   static Element findRoot(Element element)
+   {
+      return DomUtils.findParentElement(element,
+            (Element parent) -> parent.hasClassName("ace_editor"));
+   }
+
+   private static final native boolean isSupported() /*-{
+      return typeof $wnd.IntersectionObserver === "function";
+   }-*/;
+
+   private final native JavaScriptObject createObserver(Element root,
+                                                        String margin,
+                                                        boolean near) /*-{
+      var self = this;
+      return new $wnd.IntersectionObserver($entry(function(entries) {
+         for (var i = 0; i < entries.length; i++) {
+            self.@org.rstudio.studio.client.workbench.views.source.editors.text.ChunkOutputFrameLoader::onIntersectionChanged(*)(
+               entries[i].target, entries[i].isIntersecting, near);
+         }
+      }), { root: root, rootMargin: margin });
+   }-*/;
+
+   private static final native void observe(JavaScriptObject observer,
+                                            Element element) /*-{
+      observer.observe(element);
+   }-*/;
+
+   private static final native void unobserve(JavaScriptObject observer,
+                                              Element element) /*-{
+      observer.unobserve(element);
+   }-*/;
+
+   private static final native void disconnect(JavaScriptObject observer) /*-{
+      observer.disconnect();
+   }-*/;
+
+   // the observers for each editor, and the editor of each frame
+   private final Map<Element, Observers> observers_ = new HashMap<>();
+   private final Map<ChunkOutputFrame, Element> roots_ = new HashMap<>();
+
+   private final Map<Element, ChunkOutputFrame> frames_ = new HashMap<>();
+   private final Map<ChunkOutputFrame, String> documents_ = new HashMap<>();
+
+   // frames near the viewport, and all frames in the order in which they were
+   // last near the viewport
+   private final Set<ChunkOutputFrame> near_ = new HashSet<>();
+   private final Set<ChunkOutputFrame> recent_ = new LinkedHashSet<>();
+
+   private static ChunkOutputFrameLoader instance_ = null;
+
+   // frames are loaded when within a screen or so of the editor's visible
+   // area, and unloaded when several screens away from it
+   private static final String LOAD_MARGIN = "1000px 0px";
+   private static final String UNLOAD_MARGIN = "4000px 0px";
+
+   public static final int MAX_LIVE_FRAMES = 12;
+}
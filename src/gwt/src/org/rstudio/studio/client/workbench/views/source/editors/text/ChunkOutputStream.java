@@ -262,7 +262,7 @@ public class ChunkOutputStream extends FlowPanel
       bodyStyle.setPadding(0, Unit.PX);
       bodyStyle.setMargin(0, Unit.PX);
 
-      frame.loadUrlDelayed(url, 250, new Command() 
+      frame.loadUrlWhenVisible(url, 250, new Command() 
       {
          @Override
          public void execute()
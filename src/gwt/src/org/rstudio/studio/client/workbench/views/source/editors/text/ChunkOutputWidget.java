@@ -242,6 +242,11 @@ public class ChunkOutputWidget extends Composite
    
    // Public methods ----------------------------------------------------------
 
+   public String getDocumentId()
+   {
+      return documentId_;
+   }
+
    public int getExpansionState()
    {
       return expansionState_.getValue();
@@ -127,13 +127,16 @@ public class ChunkSatelliteWindow extends SatelliteWindow
 
       mainPanel.addStyleName("ace_editor_theme");
 
-      pEventBus_.get().addHandler(ChunkSatelliteCodeExecutingEvent.TYPE, this);
-      pEventBus_.get().addHandler(ChunkSatelliteCacheEditorStyleEvent.TYPE, this);
-      pEventBus_.get().addHandler(ChunkPlotRefreshedEvent.TYPE, this);
-      pEventBus_.get().addHandler(ChunkPlotRefreshFinishedEvent.TYPE, this);
-      pEventBus_.get().addHandler(ChunkChangeEvent.TYPE, this);
-      pEventBus_.get().addHandler(RmdChunkOutputFinishedEvent.TYPE, this);
-      pEventBus_.get().addHandler(RmdChunkOutputEvent.TYPE, this);
+      // only events for our document are routed to us
+      EventBus events = pEventBus_.get();
+      String docId = chunkWindowParams_.getDocId();
+      events.addDocumentHandler(docId, ChunkSatelliteCodeExecutingEvent.TYPE, this);
+      events.addDocumentHandler(docId, ChunkSatelliteCacheEditorStyleEvent.TYPE, this);
+      events.addDocumentHandler(docId, ChunkPlotRefreshedEvent.TYPE, this);
+      events.addDocumentHandler(docId, ChunkPlotRefreshFinishedEvent.TYPE, this);
+      events.addDocumentHandler(docId, ChunkChangeEvent.TYPE, this);
+      events.addDocumentHandler(docId, RmdChunkOutputFinishedEvent.TYPE, this);
+      events.addDocumentHandler(docId, RmdChunkOutputEvent.TYPE, this);
       
       Window.addWindowClosingHandler(new ClosingHandler()
       {
@@ -155,11 +158,6 @@ public class ChunkSatelliteWindow extends SatelliteWindow
    @Override
    public void onChunkSatelliteCodeExecuting(ChunkSatelliteCodeExecutingEvent event)
    {
-      String docId = chunkWindowParams_.getDocId();
-      
-      if (event.getDocId() != docId)
-         return;
-
       chunkOutputWidget_.setCodeExecuting(
          event.getMode(),
          event.getScope());
@@ -168,11 +166,6 @@ public class ChunkSatelliteWindow extends SatelliteWindow
    @Override
    public void onChunkSatelliteCacheEditorStyle(ChunkSatelliteCacheEditorStyleEvent event)
    {
-      String docId = chunkWindowParams_.getDocId();
-      
-      if (event.getDocId() != docId)
-         return;
-
       ChunkOutputWidget.cacheEditorStyle(
          event.getForegroundColor(),
          event.getBackgroundColor(),
@@ -207,10 +200,6 @@ public class ChunkSatelliteWindow extends SatelliteWindow
       if (currentPlotsReplayId_ != event.getData().getReplayId())
          return;
 
-      // ignore if targeted at another document
-      if (event.getData().getDocId() != chunkWindowParams_.getDocId())
-         return;
-      
       // ignore if targeted at another chunk
       if (event.getData().getChunkId() != chunkWindowParams_.getChunkId())
          return;
@@ -231,10 +220,7 @@ public class ChunkSatelliteWindow extends SatelliteWindow
    @Override
    public void onChunkChange(ChunkChangeEvent event)
    {
-      String docId = chunkWindowParams_.getDocId();
-      String chunkId = chunkWindowParams_.getChunkId();
-      
-      if (event.getDocId() != docId || event.getChunkId() != chunkId)
+      if (event.getChunkId() != chunkWindowParams_.getChunkId())
          return;
       
       switch(event.getChangeType())
@@ -248,9 +234,6 @@ public class ChunkSatelliteWindow extends SatelliteWindow
    @Override
    public void onRmdChunkOutputFinished(RmdChunkOutputFinishedEvent event)
    {
-      if (event.getData().getDocId() != chunkWindowParams_.getDocId())
-         return;
-
       if (event.getData().getChunkId() != chunkWindowParams_.getChunkId())
          return;
 
@@ -266,9 +249,6 @@ public class ChunkSatelliteWindow extends SatelliteWindow
    @Override
    public void onRmdChunkOutput(RmdChunkOutputEvent event)
    {
-      if (event.getOutput().getDocId() != chunkWindowParams_.getDocId())
-         return;
-
       if (event.getOutput().getChunkId() != chunkWindowParams_.getChunkId())
          return;
 
@@ -135,6 +135,7 @@ public interface DocDisplay extends HasValueChangeHandlers<VoidResponse>,
    JsArrayString getLines();
    JsArrayString getLines(int startRow, int endRow);
    void setCode(String code, boolean preserveCursorPosition);
+   void updateCode(String code);
    void insertCode(String code);
    void insertCode(String code, boolean unused);
    void insertCode(String code, InsertionBehavior behavior);
@@ -14,6 +14,8 @@
  */
 package org.rstudio.studio.client.workbench.views.source.editors.text;
 
+import org.rstudio.core.client.BackgroundTask;
+import org.rstudio.core.client.dom.DomUtils;
 import org.rstudio.studio.client.RStudioGinjector;
 import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Position;
 import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Token;
@@ -27,7 +29,6 @@ import com.google.gwt.core.client.JsArray;
 import com.google.gwt.core.client.Scheduler;
 import org.rstudio.core.client.HandlerRegistrations;
 
-import com.google.gwt.user.client.Timer;
 
 // NOTE: Historically, scope tree management was implemented as part of
 // an accompanying code model, written as part of our JavaScript Ace
@@ -112,19 +113,25 @@ public abstract class ScopeTreeManager
    {
       private Worker()
       {
-         timer_ = new Timer()
+         task_ = new BackgroundTask("scope-tree")
          {
             @Override
-            public void run()
+            protected void run()
             {
                work();
             }
+
+            @Override
+            protected boolean isVisible()
+            {
+               return DomUtils.isEffectivelyVisible(docDisplay_.asWidget().getElement());
+            }
          };
       }
       
       public void cancel()
       {
-         timer_.cancel();
+         task_.cancel();
       }
 
       public void rebuildScopeTreeFromRow(int row)
@@ -184,7 +191,7 @@ public abstract class ScopeTreeManager
          {
             startRow_ = it.getCurrentTokenRow();
             endRow_ = Math.min(docDisplay_.getRowCount(), startRow_ + ROWS_TOKENIZED_PER_ITERATION);
-            timer_.schedule(DELAY_MS);
+            task_.schedule();
          }
          
          return it.getCurrentTokenRow();
@@ -193,9 +200,8 @@ public abstract class ScopeTreeManager
       private int startRow_;
       private int endRow_;
       
-      private final Timer timer_;
+      private final BackgroundTask task_;
       
-      private static final int DELAY_MS = 5;
       private static final int ROWS_TOKENIZED_PER_ITERATION = 200;
    }
    
@@ -217,6 +217,7 @@ import org.rstudio.studio.client.workbench.views.source.model.CheckForExternalEd
 import org.rstudio.studio.client.workbench.views.source.model.DirtyState;
 import org.rstudio.studio.client.workbench.views.source.model.DocTabDragParams;
 import org.rstudio.studio.client.workbench.views.source.model.DocUpdateSentinel;
+import org.rstudio.studio.client.workbench.views.source.model.DocumentDelta;
 import org.rstudio.studio.client.workbench.views.source.model.ProjectConfig;
 import org.rstudio.studio.client.workbench.views.source.model.RnwCompletionContext;
 import org.rstudio.studio.client.workbench.views.source.model.SourceDocument;
@@ -4554,6 +4555,16 @@ public class TextEditingTarget implements
       docUpdateSentinel_.withSavedDocNoRetry(onsaved);
    }
 
+   public DocumentDelta getPendingDocumentDelta()
+   {
+      return docUpdateSentinel_.getPendingDelta();
+   }
+
+   public void onDocumentDeltaApplied(DocumentDelta delta, String newHash)
+   {
+      docUpdateSentinel_.onDeltaApplied(delta, newHash);
+   }
+
    @Handler
    void onWordCount()
    {
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+import org.rstudio.core.client.ClientMetrics;
 import org.rstudio.core.client.Debug;
 import org.rstudio.core.client.HandlerRegistrations;
 import org.rstudio.core.client.MathUtil;
@@ -62,6 +63,7 @@ import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Anchor;
 import org.rstudio.studio.client.workbench.views.source.editors.text.ace.LineWidget;
 import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Position;
 import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Range;
+import org.rstudio.studio.client.workbench.views.source.model.DocumentDelta;
 
 import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.dom.client.Element;
@@ -1369,176 +1371,18 @@ public class TextEditingTargetAssistantHelper
             if (target_.isVisualEditorActive())
                return;
 
-            target_.withSavedDoc(() ->
+            DocumentDelta delta = target_.getPendingDocumentDelta();
+            if (delta != null)
             {
-               requestId_ += 1;
-               final int requestId = requestId_;
-               final Position savedCursorPosition = display_.getCursorPosition();
-
-               events_.fireEvent(
-                     new AssistantEvent(AssistantEventType.COMPLETION_REQUESTED));
-
-               String trigger = prefs_.assistantCompletionsTrigger().getGlobalValue();
-               boolean autoInvoked = trigger.equals(UserPrefsAccessor.ASSISTANT_COMPLETIONS_TRIGGER_AUTO);
-               if (completionTriggeredByCommand_)
-               {
-                  // users can trigger completions manually via command, even if set to auto
-                  autoInvoked = false;
-                  completionTriggeredByCommand_ = false;
-               }
-
-               server_.assistantGenerateCompletions(
-                     target_.getId(),
-                     StringUtil.notNull(target_.getPath()),
-                     StringUtil.isNullOrEmpty(target_.getPath()),
-                     autoInvoked,
-                     display_.getCursorRow(),
-                     display_.getCursorColumn(),
-                     new ServerRequestCallback<AssistantGenerateCompletionsResponse>()
-                     {
-                        @Override
-                        public void onResponseReceived(AssistantGenerateCompletionsResponse response)
-                        {
-                           // Check for invalidated request.
-                           if (requestId_ != requestId)
-                              return;
-
-                           // Check for alternate cursor position.
-                           Position currentCursorPosition = display_.getCursorPosition();
-                           if (!currentCursorPosition.isEqualTo(savedCursorPosition))
-                              return;
-
-                           // Check for null completion results -- this may occur if the Copilot
-                           // agent couldn't be started for some reason.
-                           if (response == null)
-                              return;
-
-                           // Check whether completions are enabled in this document.
-                           if (Objects.equals(response.enabled, false))
-                           {
-                              assistantDisabledInThisDocument_ = true;
-                              events_.fireEvent(new AssistantEvent(AssistantEventType.COMPLETION_CANCELLED));
-                              return;
-                           }
-
-                           // Check for error.
-                           AssistantError error = response.error;
-                           if (error != null)
-                           {
-                              // Handle 'document could not be found' errors up-front. These errors
-                              // will normally self-resolve after the user starts editing the document,
-                              // so it should suffice just to indicate that no completions are available.
-                              int code = error.code;
-                              if (code == AssistantConstants.ErrorCodes.DOCUMENT_NOT_FOUND)
-                              {
-                                 events_.fireEvent(new AssistantEvent(AssistantEventType.COMPLETION_RECEIVED_NONE));
-                              }
-                              else
-                              {
-                                 String message = assistant_.messageForError(error);
-                                 events_.fireEvent(
-                                       new AssistantEvent(
-                                             AssistantEventType.COMPLETION_ERROR,
-                                             message));
-                                 return;
-                              }
-                           }
-
-                           // Check for null result. This might occur if the completion request
-                           // was cancelled by the copilot agent. But it also might just imply there
-                           // weren't any completions available.
-                           Any result = response.result;
-                           if (result == null)
-                           {
-                              // For Copilot, fall back to NES; for Posit AI, just report no completions
-                              if (shouldFallbackToNes())
-                              {
-                                 nesFromCompletionFallback_ = true;
-                                 nesTimer_.schedule(20);
-                              }
-                              else
-                              {
-                                 events_.fireEvent(new AssistantEvent(AssistantEventType.COMPLETION_RECEIVED_NONE));
-                              }
-                              return;
-                           }
-
-                           // Check for a cancellation reason.
-                           Object reason = result.asPropertyMap().get("cancellationReason");
-                           if (reason != null)
-                           {
-                              events_.fireEvent(
-                                    new AssistantEvent(AssistantEventType.COMPLETION_CANCELLED));
-                              return;
-                           }
-
-                           // Otherwise, handle the response.
-                           JsArrayLike<AssistantCompletion> jsCompletions =
-                                 Js.cast(result.asPropertyMap().get("items"));
-
-                           // Create a filtered list of the completions we were provided.
-                           //
-                           // Normally, we'd just use .asList() and .removeIf(), but apparently
-                           // the implementation of the List interface backend here doesn't
-                           // actually support .removeIf(), so we do it by hand.
-                           List<AssistantCompletion> completions = new ArrayList<>();
-                           for (int i = 0, n = jsCompletions.getLength(); i < n; i++)
-                           {
-                              if (isValidCompletion(jsCompletions.getAt(i)))
-                              {
-                                 completions.add(jsCompletions.getAt(i));
-                              }
-                           }
-
-                           // If we don't have any completions available, fall back to NES for Copilot
-                           if (completions.isEmpty())
-                           {
-                              events_.fireEvent(new AssistantEvent(AssistantEventType.COMPLETION_RECEIVED_NONE));
-
-                              if (shouldFallbackToNes())
-                              {
-                                 nesFromCompletionFallback_ = true;
-                                 nesTimer_.schedule(20);
-                              }
-                              return;
-                           }
-
-                           // TODO: If multiple completions are available we should provide a way for
-                           // the user to view/select them. For now, use the last one.
-                           // https://github.com/rstudio/rstudio/issues/16055
-                           AssistantCompletion completion = completions.get(completions.size() - 1);
-
-                           events_.fireEvent(new AssistantEvent(
-                              AssistantEventType.COMPLETION_RECEIVED_SOME, completion));
-
-                           // The completion data gets modified when doing partial (word-by-word)
-                           // completions, so we need to use a copy and preserve the original
-                           // (which we need to send back to the server as-is in some language-server methods).
-                           AssistantCompletion normalized = normalizeCompletion(completion);
-
-                           sendSuggestionFeedback("ignored");
-                           resetSuggestion();
-                           editSuggestion_ = new EditSuggestion(normalized);
-                           editSuggestion_.type = SuggestionType.GHOST_TEXT;
-                           editSuggestion_.isRevealed = true;
-                           editSuggestion_.isInlineCompletion = true;
-                           createSuggestionAnchors(
-                              editSuggestion_.startLine,
-                              editSuggestion_.startCharacter,
-                              editSuggestion_.endLine,
-                              editSuggestion_.endCharacter);
-                           showGhostText(editSuggestion_.displayText,
-                              Position.create(editSuggestion_.startLine, editSuggestion_.startCharacter));
-                           server_.assistantDidShowCompletion(completion, new VoidServerRequestCallback());
-                        }
-
-                        @Override
-                        public void onError(ServerError error)
-                        {
-                           Debug.logError(error);
-                        }
-                     });
-            });
+               requestCompletions(delta);
+            }
+            else
+            {
+               // the document's changes can't be sent along with the request
+               // (e.g. because it's being saved); wait for it to be saved
+               ClientMetrics.get().increment("assistant.completion.savedDoc");
+               target_.withSavedDoc(() -> requestCompletions(null));
+            }
          }
       };
 
@@ -1594,6 +1438,266 @@ public class TextEditingTargetAssistantHelper
       });
    }
 
+   /**
+    * Requests inline completions at the cursor. The document's unsaved changes
+    * (if any) are sent along with the request, rather than saving the
+    * document first; if the delta is null, the document has just been saved.
+    */
+   private void requestCompletions(final DocumentDelta delta)
+   {
+      requestId_ += 1;
+      final int requestId = requestId_;
+      final Position savedCursorPosition = display_.getCursorPosition();
+
+      events_.fireEvent(
+            new AssistantEvent(AssistantEventType.COMPLETION_REQUESTED));
+
+      String trigger = prefs_.assistantCompletionsTrigger().getGlobalValue();
+      boolean autoInvoked = trigger.equals(UserPrefsAccessor.ASSISTANT_COMPLETIONS_TRIGGER_AUTO);
+      if (completionTriggeredByCommand_)
+      {
+         // users can trigger completions manually via command, even if set to auto
+         autoInvoked = false;
+         completionTriggeredByCommand_ = false;
+      }
+
+      ClientMetrics metrics = ClientMetrics.get();
+      metrics.increment("assistant.completion.requests");
+      if (delta != null && !delta.isEmpty())
+         metrics.increment("assistant.completion.delta");
+      final ClientMetrics.Timing timing = metrics.startTiming("assistant.completion.latency");
+
+      server_.assistantGenerateCompletions(
+            target_.getId(),
+            StringUtil.notNull(target_.getPath()),
+            StringUtil.isNullOrEmpty(target_.getPath()),
+            autoInvoked,
+            display_.getCursorRow(),
+            display_.getCursorColumn(),
+            delta,
+            new ServerRequestCallback<AssistantGenerateCompletionsResponse>()
+            {
+               @Override
+               public void onResponseReceived(AssistantGenerateCompletionsResponse response)
+               {
+                  // Record whether the server applied the document's changes,
+                  // even if this request has since been superseded.
+                  if (delta != null)
+                     target_.onDocumentDeltaApplied(delta, response == null ? null : response.documentHash);
+
+                  // Check for invalidated request. (The server cancels a
+                  // superseded request once the next one is made.)
+                  if (requestId_ != requestId)
+                  {
+                     ClientMetrics.get().increment("assistant.completion.superseded");
+                     return;
+                  }
+
+                  timing.stop();
+
+                  // Check for null completion results -- this may occur if the Copilot
+                  // agent couldn't be started for some reason.
+                  if (response == null)
+                     return;
+
+                  // If the server's copy of the document changed before our
+                  // changes reached it, save the document and try again.
+                  if (Objects.equals(response.stale, true))
+                  {
+                     ClientMetrics.get().increment("assistant.completion.stale");
+                     target_.withSavedDoc(() ->
+                     {
+                        if (requestId_ == requestId)
+                           requestCompletions(null);
+                     });
+                     return;
+                  }
+
+                  // Check for alternate cursor position. If the user has typed
+                  // further along the line since the request was made, the
+                  // completion may still apply (see below); otherwise it's stale.
+                  final Position currentCursorPosition = display_.getCursorPosition();
+                  final boolean typedAhead = !currentCursorPosition.isEqualTo(savedCursorPosition);
+                  if (typedAhead &&
+                      (currentCursorPosition.getRow() != savedCursorPosition.getRow() ||
+                       currentCursorPosition.getColumn() < savedCursorPosition.getColumn()))
+                  {
+                     return;
+                  }
+
+                  // Check whether completions are enabled in this document.
+                  if (Objects.equals(response.enabled, false))
+                  {
+                     assistantDisabledInThisDocument_ = true;
+                     events_.fireEvent(new AssistantEvent(AssistantEventType.COMPLETION_CANCELLED));
+                     return;
+                  }
+
+                  // Check for error.
+                  AssistantError error = response.error;
+                  if (error != null)
+                  {
+                     // Handle 'document could not be found' errors up-front. These errors
+                     // will normally self-resolve after the user starts editing the document,
+                     // so it should suffice just to indicate that no completions are available.
+                     int code = error.code;
+                     if (code == AssistantConstants.ErrorCodes.DOCUMENT_NOT_FOUND)
+                     {
+                        events_.fireEvent(new AssistantEvent(AssistantEventType.COMPLETION_RECEIVED_NONE));
+                     }
+                     else
+                     {
+                        String message = assistant_.messageForError(error);
+                        events_.fireEvent(
+                              new AssistantEvent(
+                                    AssistantEventType.COMPLETION_ERROR,
+                                    message));
+                        return;
+                     }
+                  }
+
+                  // Check for null result. This might occur if the completion request
+                  // was cancelled by the copilot agent. But it also might just imply there
+                  // weren't any completions available.
+                  Any result = response.result;
+                  if (result == null)
+                  {
+                     // For Copilot, fall back to NES; for Posit AI, just report no completions
+                     if (shouldFallbackToNes())
+                     {
+                        nesFromCompletionFallback_ = true;
+                        nesTimer_.schedule(20);
+                     }
+                     else
+                     {
+                        events_.fireEvent(new AssistantEvent(AssistantEventType.COMPLETION_RECEIVED_NONE));
+                     }
+                     return;
+                  }
+
+                  // Check for a cancellation reason.
+                  Object reason = result.asPropertyMap().get("cancellationReason");
+                  if (reason != null)
+                  {
+                     events_.fireEvent(
+                           new AssistantEvent(AssistantEventType.COMPLETION_CANCELLED));
+                     return;
+                  }
+
+                  // Otherwise, handle the response.
+                  JsArrayLike<AssistantCompletion> jsCompletions =
+                        Js.cast(result.asPropertyMap().get("items"));
+
+                  // Create a filtered list of the completions we were provided.
+                  //
+                  // Normally, we'd just use .asList() and .removeIf(), but apparently
+                  // the implementation of the List interface backend here doesn't
+                  // actually support .removeIf(), so we do it by hand.
+                  List<AssistantCompletion> completions = new ArrayList<>();
+                  for (int i = 0, n = jsCompletions.getLength(); i < n; i++)
+                  {
+                     if (isValidCompletion(jsCompletions.getAt(i)))
+                     {
+                        completions.add(jsCompletions.getAt(i));
+                     }
+                  }
+
+                  // If we don't have any completions available, fall back to NES for Copilot
+                  if (completions.isEmpty())
+                  {
+                     events_.fireEvent(new AssistantEvent(AssistantEventType.COMPLETION_RECEIVED_NONE));
+
+                     if (shouldFallbackToNes())
+                     {
+                        nesFromCompletionFallback_ = true;
+                        nesTimer_.schedule(20);
+                     }
+                     return;
+                  }
+
+                  // TODO: If multiple completions are available we should provide a way for
+                  // the user to view/select them. For now, use the last one.
+                  // https://github.com/rstudio/rstudio/issues/16055
+                  AssistantCompletion completion = completions.get(completions.size() - 1);
+
+                  events_.fireEvent(new AssistantEvent(
+                     AssistantEventType.COMPLETION_RECEIVED_SOME, completion));
+
+                  // The completion data gets modified when doing partial (word-by-word)
+                  // completions, so we need to use a copy and preserve the original
+                  // (which we need to send back to the server as-is in some language-server methods).
+                  AssistantCompletion normalized;
+                  if (typedAhead)
+                  {
+                     // The completion was computed before the user typed ahead;
+                     // normalizing it trims any of the typed text it begins with.
+                     // It can be reused only if it began with all of it.
+                     normalized = normalizeCompletion(
+                           shiftCompletionEnd(completion, savedCursorPosition, currentCursorPosition));
+
+                     boolean reusable =
+                           normalized.range.start.line == currentCursorPosition.getRow() &&
+                           normalized.range.start.character == currentCursorPosition.getColumn() &&
+                           !normalized.insertText.isEmpty();
+
+                     if (!reusable)
+                        return;
+
+                     // No need to request completions again for the typed text.
+                     suggestionTimer_.cancel();
+                     ClientMetrics.get().increment("assistant.completion.reused");
+                  }
+                  else
+                  {
+                     normalized = normalizeCompletion(completion);
+                  }
+
+                  sendSuggestionFeedback("ignored");
+                  resetSuggestion();
+                  editSuggestion_ = new EditSuggestion(normalized);
+                  editSuggestion_.type = SuggestionType.GHOST_TEXT;
+                  editSuggestion_.isRevealed = true;
+                  editSuggestion_.isInlineCompletion = true;
+                  createSuggestionAnchors(
+                     editSuggestion_.startLine,
+                     editSuggestion_.startCharacter,
+                     editSuggestion_.endLine,
+                     editSuggestion_.endCharacter);
+                  showGhostText(editSuggestion_.displayText,
+                     Position.create(editSuggestion_.startLine, editSuggestion_.startCharacter));
+                  server_.assistantDidShowCompletion(completion, new VoidServerRequestCallback());
+               }
+
+               @Override
+               public void onError(ServerError error)
+               {
+                  // (whether the document's changes were applied is unknown)
+                  if (delta != null)
+                     target_.onDocumentDeltaApplied(delta, null);
+
+                  Debug.logError(error);
+               }
+            });
+   }
+
+   /**
+    * Returns a copy of a completion requested with the cursor at 'from', with
+    * the end of its range moved past the text since typed up to 'to' (on the
+    * same row), so that the range still ends after that text.
+    */
+   private AssistantCompletion shiftCompletionEnd(AssistantCompletion completion,
+                                                  Position from,
+                                                  Position to)
+   {
+      AssistantCompletion shifted = JsUtil.clone(completion);
+      if (shifted.range.end.line == from.getRow() &&
+          shifted.range.end.character >= from.getColumn())
+      {
+         shifted.range.end.character += to.getColumn() - from.getColumn();
+      }
+      return shifted;
+   }
+
    private boolean isValidCompletion(AssistantCompletion completion)
    {
       // Skip this completion if the insertion text matches
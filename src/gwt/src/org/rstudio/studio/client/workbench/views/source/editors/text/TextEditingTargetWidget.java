@@ -2361,7 +2361,9 @@ public class TextEditingTargetWidget
       @Override
       public void setCode(String code)
       {
-         editor_.setCode(code, true);
+         // only replace the text that changed, so that syncing from the
+         // visual editor preserves folds, markers and tokenization elsewhere
+         editor_.updateCode(code);
       }
 
       @Override
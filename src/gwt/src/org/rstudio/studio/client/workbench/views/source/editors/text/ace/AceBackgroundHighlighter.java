@@ -19,10 +19,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.rstudio.core.client.BackgroundTask;
 import org.rstudio.core.client.JsVector;
 import org.rstudio.core.client.JsVectorInteger;
 import org.rstudio.core.client.ListUtil;
 import org.rstudio.core.client.StringUtil;
+import org.rstudio.core.client.dom.DomUtils;
 import org.rstudio.core.client.regex.Match;
 import org.rstudio.core.client.regex.Pattern;
 import org.rstudio.studio.client.RStudioGinjector;
@@ -35,7 +37,6 @@ import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.event.logical.shared.ValueChangeEvent;
 import com.google.gwt.event.logical.shared.ValueChangeHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
-import com.google.gwt.user.client.Timer;
 import com.google.inject.Inject;
 
 public class AceBackgroundHighlighter
@@ -90,13 +91,19 @@ public class AceBackgroundHighlighter
    {
       public Worker()
       {
-         timer_ = new Timer()
+         task_ = new BackgroundTask("background-highlighter")
          {
             @Override
-            public void run()
+            protected void run()
             {
                work();
             }
+
+            @Override
+            protected boolean isVisible()
+            {
+               return DomUtils.isEffectivelyVisible(editor_.asWidget().getElement());
+            }
          };
       }
       
@@ -182,24 +189,23 @@ public class AceBackgroundHighlighter
          // more work to be done
          row_ = endRow;
          if (endRow != n)
-            timer_.schedule(DELAY_MS);
+            task_.schedule();
       }
       
       public void start(int row)
       {
          row_ = Math.min(row, row_);
-         timer_.schedule(0);
+         task_.schedule();
       }
 
       public void cancel()
       {
-         timer_.cancel();
+         task_.cancel();
       }
 
-      private final Timer timer_;
+      private final BackgroundTask task_;
       private int row_;
       
-      private static final int DELAY_MS = 5;
       private static final int CHUNK_SIZE = 200;
    }
    
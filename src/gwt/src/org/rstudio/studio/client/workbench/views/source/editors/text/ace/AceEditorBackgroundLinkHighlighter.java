@@ -17,6 +17,7 @@ package org.rstudio.studio.client.workbench.views.source.editors.text.ace;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.rstudio.core.client.BackgroundTask;
 import org.rstudio.core.client.BrowseCap;
 import org.rstudio.core.client.Debug;
 import org.rstudio.core.client.HandlerRegistrations;
@@ -27,6 +28,7 @@ import org.rstudio.core.client.MapUtil.ForEachCommand;
 import org.rstudio.core.client.StringUtil;
 import org.rstudio.core.client.command.KeyboardShortcut;
 import org.rstudio.core.client.container.SafeMap;
+import org.rstudio.core.client.dom.DomUtils;
 import org.rstudio.core.client.files.FileSystemItem;
 import org.rstudio.core.client.regex.Match;
 import org.rstudio.core.client.regex.Pattern;
@@ -63,7 +65,6 @@ import com.google.gwt.resources.client.CssResource;
 import com.google.gwt.user.client.Event;
 import com.google.gwt.user.client.Event.NativePreviewEvent;
 import com.google.gwt.user.client.Event.NativePreviewHandler;
-import com.google.gwt.user.client.Timer;
 import com.google.inject.Inject;
 
 public class AceEditorBackgroundLinkHighlighter
@@ -101,10 +102,10 @@ public class AceEditorBackgroundLinkHighlighter
       activeMarkers_ = new SafeMap<>();
 
       nextHighlightStart_ = 0;
-      timer_ = new Timer()
+      task_ = new BackgroundTask("link-highlighter")
       {
          @Override
-         public void run()
+         protected void run()
          {
             int n = editor_.getCurrentLineCount();
             int startRow = nextHighlightStart_;
@@ -115,7 +116,13 @@ public class AceEditorBackgroundLinkHighlighter
 
             nextHighlightStart_ = endRow;
             if (endRow != n)
-               timer_.schedule(5);
+               task_.schedule();
+         }
+
+         @Override
+         protected boolean isVisible()
+         {
+            return DomUtils.isEffectivelyVisible(editor_.asWidget().getElement());
          }
       };
 
@@ -159,7 +166,7 @@ public class AceEditorBackgroundLinkHighlighter
             }
             
             nextHighlightStart_ = 0;
-            timer_.schedule(100);
+            task_.schedule(100);
          }
       });
    }
@@ -610,7 +617,7 @@ public class AceEditorBackgroundLinkHighlighter
 
    public void detach()
    {
-      timer_.cancel();
+      task_.cancel();
       toggleableHandlers_.detach();
 
       if (previewHandler_ != null)
@@ -631,7 +638,7 @@ public class AceEditorBackgroundLinkHighlighter
       // prepare highlighter
       int row = event.getEvent().getRange().getStart().getRow();
       nextHighlightStart_ = Math.min(nextHighlightStart_, row);
-      timer_.schedule(700);
+      task_.schedule(700);
 
       // update marker positions (deferred so that anchors update)
       Scheduler.get().scheduleDeferred(new ScheduledCommand()
@@ -771,7 +778,7 @@ public class AceEditorBackgroundLinkHighlighter
 
    private final AceEditor editor_;
    private final List<Highlighter> highlighters_;
-   private final Timer timer_;
+   private final BackgroundTask task_;
    private final HandlerRegistrations handlers_;
    private HandlerRegistrations toggleableHandlers_;
 
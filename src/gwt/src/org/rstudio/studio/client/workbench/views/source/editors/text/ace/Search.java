@@ -14,6 +14,8 @@
  */
 package org.rstudio.studio.client.workbench.views.source.editors.text.ace;
 
+import org.rstudio.core.client.regex.Pattern;
+
 import com.google.gwt.core.client.JavaScriptObject;
 
 public class Search extends JavaScriptObject
@@ -44,4 +46,11 @@ public class Search extends JavaScriptObject
    public final native Range find(EditSession session) /*-{
       return this.find(session);
    }-*/;
+
+   // the (single-line) regular expression that this search matches with, or
+   // null if the needle is empty or not a valid regular expression
+   public final native Pattern getPattern() /*-{
+      var re = this.$assembleRegExp(this.getOptions(), true);
+      return re instanceof RegExp ? re : null;
+   }-*/;
 }
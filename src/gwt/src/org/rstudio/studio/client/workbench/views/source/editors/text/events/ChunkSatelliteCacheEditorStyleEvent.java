@@ -17,12 +17,14 @@ package org.rstudio.studio.client.workbench.views.source.editors.text.events;
 
 import org.rstudio.core.client.js.JavaScriptSerializable;
 import org.rstudio.studio.client.application.events.CrossWindowEvent;
+import org.rstudio.studio.client.application.events.DocumentScopedEvent;
 
 import com.google.gwt.event.shared.EventHandler;
 
 @JavaScriptSerializable
 public class ChunkSatelliteCacheEditorStyleEvent
              extends CrossWindowEvent<ChunkSatelliteCacheEditorStyleEvent.Handler>
+             implements DocumentScopedEvent
 {
    public interface Handler extends EventHandler
    {
@@ -46,6 +48,7 @@ public class ChunkSatelliteCacheEditorStyleEvent
       aceEditorColor_ = aceEditorColor;
    }
 
+   @Override
    public String getDocId()
    {
       return docId_;
@@ -15,10 +15,13 @@
 
 package org.rstudio.studio.client.workbench.views.source.editors.text.events;
 
+import org.rstudio.studio.client.application.events.DocumentScopedEvent;
+
 import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.GwtEvent;
 
 public class ChunkSatelliteWindowRegisteredEvent extends GwtEvent<ChunkSatelliteWindowRegisteredEvent.Handler>
+             implements DocumentScopedEvent
 {
    public interface Handler extends EventHandler
    {
@@ -37,6 +40,7 @@ public class ChunkSatelliteWindowRegisteredEvent extends GwtEvent<ChunkSatellite
       chunkId_ = chunkId;
    }
 
+   @Override
    public String getDocId()
    {
       return docId_;
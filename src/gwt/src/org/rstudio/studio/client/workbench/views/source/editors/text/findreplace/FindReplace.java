@@ -14,6 +14,11 @@
  */
 package org.rstudio.studio.client.workbench.views.source.editors.text.findreplace;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.rstudio.core.client.ClientMetrics;
+import org.rstudio.core.client.HandlerRegistrations;
 import org.rstudio.core.client.StringUtil;
 import org.rstudio.core.client.command.KeyboardHelper;
 import org.rstudio.core.client.regex.Match;
@@ -28,6 +33,7 @@ import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Range;
 import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Search;
 
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.event.dom.client.ClickEvent;
 import com.google.gwt.event.dom.client.ClickHandler;
 import com.google.gwt.event.dom.client.HasClickHandlers;
@@ -55,6 +61,11 @@ public class FindReplace
       HasValue<Boolean> getRegex();
       HasClickHandlers getReplaceAll();
 
+      /**
+       * Shows the given match count (e.g. "3 of 12"), or hides it if null.
+       */
+      void setMatchCount(String text);
+
       void activate(String searchText,
                     boolean defaultForward,
                     boolean inSelection);
@@ -73,12 +84,20 @@ public class FindReplace
       globalDisplay_ = globalDisplay;
       errorCaption_ = showingReplace ? constants_.findOrReplace() : constants_.findCapitalized();
 
+      searchIndex_ = new SearchIndex(editor_, () -> onSearchIndexChanged());
+      ticks_ = new SearchMatchTicks(editor_, searchIndex_);
+      handlers_ = new HandlerRegistrations(
+            editor_.addDocumentChangedHandler(event ->
+                  searchIndex_.onDocumentChanged(event.getEvent())),
+            editor_.addCursorChangedHandler(event -> updateMatchCount()));
+
       HasValue<Boolean> caseSensitive = display_.getCaseSensitive();
       caseSensitive.setValue(defaultCaseSensitive_);
       caseSensitive.addValueChangeHandler(new ValueChangeHandler<Boolean>() {
          public void onValueChange(ValueChangeEvent<Boolean> event)
          {
             defaultCaseSensitive_ = event.getValue();
+            refreshSearchIndex();
          }
       });
 
@@ -88,6 +107,7 @@ public class FindReplace
          public void onValueChange(ValueChangeEvent<Boolean> event)
          {
             defaultWholeWord_ = event.getValue();
+            refreshSearchIndex();
          }
       });
 
@@ -97,6 +117,7 @@ public class FindReplace
          public void onValueChange(ValueChangeEvent<Boolean> event)
          {
             defaultRegex_ = event.getValue();
+            refreshSearchIndex();
          }
       });
 
@@ -120,6 +141,7 @@ public class FindReplace
             }
             else
                clearTargetSelection();
+            updateMatchCount();
          }
       });
 
@@ -144,6 +166,7 @@ public class FindReplace
                return;
             }
             // perform incremental search
+            refreshSearchIndex();
             find(defaultForward_ ? FindType.Forward : FindType.Reverse, true);
          }
 
@@ -157,6 +180,7 @@ public class FindReplace
       defaultForward_ = defaultForward;
       incrementalSearchPosition_ = null;
       display_.activate(searchText, defaultForward, inSelection);
+      refreshSearchIndex();
    }
 
    public void findNext()
@@ -182,6 +206,9 @@ public class FindReplace
    public void notifyClosing()
    {
       clearTargetSelection();
+      handlers_.detach();
+      searchIndex_.detach();
+      ticks_.detach();
    }
 
    private void addClickHandler(HasClickHandlers hasClickHandlers,
@@ -281,6 +308,31 @@ public class FindReplace
          incrementalSearchPosition_ = null;
       }
 
+      // use the search index where possible, which finds the next match in
+      // O(log n) rather than scanning the document from the search position
+      if (searchIndex_.isComplete())
+      {
+         Range resultRange = findIndexed(findType, position, range, wrap);
+         if (resultRange == null)
+         {
+            if (!incremental)
+            {
+               globalDisplay_.showMessage(GlobalDisplay.MSG_INFO,
+                                          errorCaption_,
+                                          constants_.noMoreOccurrences());
+            }
+            else
+            {
+               editor_.collapseSelection(true);
+            }
+
+            return false;
+         }
+
+         editor_.revealRange(resultRange, false);
+         return true;
+      }
+
       // do the search
       Search search = Search.create(searchString,
                                     findType != FindType.Forward,
@@ -325,6 +377,169 @@ public class FindReplace
       }
    }
 
+   // finds the next match (in the given direction) in the search index,
+   // searching from the given position (or the current selection) and
+   // within the given range (or the whole document)
+   private Range findIndexed(FindType findType,
+                             Position position,
+                             Range range,
+                             boolean wrap)
+   {
+      int[] scope = getIndexScope(range);
+      int first = scope[0];
+      int last = scope[1];
+      if (first == last)
+         return null;
+
+      int index;
+      if (findType == FindType.Forward)
+      {
+         if (position == null)
+            position = editor_.getSelectionEnd();
+
+         index = Math.max(first, searchIndex_.lowerBound(position));
+         if (index >= last)
+         {
+            if (!wrap)
+               return null;
+            index = first;
+         }
+      }
+      else
+      {
+         if (position == null)
+            position = editor_.getSelectionStart();
+
+         // the last match ending at or before the position; since matches
+         // don't overlap, at most one match can straddle the position
+         index = Math.min(last, searchIndex_.lowerBound(position)) - 1;
+         if (index >= first &&
+             searchIndex_.getRange(index).getEnd().isAfter(position))
+         {
+            index--;
+         }
+
+         if (index < first)
+         {
+            if (!wrap)
+               return null;
+            index = last - 1;
+         }
+      }
+
+      return searchIndex_.getRange(index);
+   }
+
+   // returns the (half-open) range of indexes of matches within the given
+   // range, or of all matches if the range is null
+   private int[] getIndexScope(Range range)
+   {
+      if (range == null)
+         return new int[] { 0, searchIndex_.getCount() };
+
+      return new int[] {
+            searchIndex_.lowerBound(range.getStart()),
+            searchIndex_.lowerBound(range.getEnd())
+      };
+   }
+
+   private void onSearchIndexChanged()
+   {
+      ticks_.update();
+      updateMatchCount();
+   }
+
+   // rebuilds the search index if the query (or its options) changed
+   private void refreshSearchIndex()
+   {
+      String find = display_.getFindValue().getValue();
+      boolean regex = display_.getRegex().getValue();
+
+      // multi-line regular expressions can't be matched one row at a time,
+      // so they are left to Ace's search (without a match count)
+      String key = null;
+      if (find.length() > 0 && !(regex && MULTILINE_REGEX.test(find)))
+      {
+         key = find + "\n" +
+               display_.getCaseSensitive().getValue() + "," +
+               display_.getWholeWord().getValue() + "," +
+               regex;
+      }
+
+      if (StringUtil.equals(key, searchIndexKey_))
+         return;
+      searchIndexKey_ = key;
+
+      // index with the same expression Ace's search uses (including its
+      // notion of whole words), so that find lands on the same matches
+      // whether or not the index is complete; invalid regular expressions
+      // yield no pattern, and are reported when searching
+      Pattern pattern = null;
+      if (key != null)
+      {
+         pattern = Search.create(find,
+                                 false,
+                                 false,
+                                 display_.getCaseSensitive().getValue(),
+                                 display_.getWholeWord().getValue(),
+                                 null,
+                                 null,
+                                 regex).getPattern();
+
+         // patterns that can match empty text (e.g. '^' or '$') match
+         // between characters, which the index can't count or step through;
+         // leave them to Ace's search, as with multi-line expressions
+         if (pattern != null && pattern.test(""))
+            pattern = null;
+      }
+
+      searchIndex_.setPattern(pattern);
+      ticks_.update();
+      updateMatchCount();
+   }
+
+   private void invalidateSearchIndex()
+   {
+      searchIndexKey_ = null;
+      searchIndex_.setPattern(null);
+   }
+
+   // updates the match count shown in the find bar (once the current
+   // event has been handled, so that the selection is up to date)
+   private void updateMatchCount()
+   {
+      if (matchCountPending_)
+         return;
+
+      matchCountPending_ = true;
+      Scheduler.get().scheduleDeferred(() ->
+      {
+         matchCountPending_ = false;
+         display_.setMatchCount(getMatchCountText());
+      });
+   }
+
+   private String getMatchCountText()
+   {
+      if (!searchIndex_.isComplete())
+         return null;
+
+      Range range = null;
+      if (display_.getInSelection().getValue() && (targetSelection_ != null))
+         range = targetSelection_.getRange();
+
+      int[] scope = getIndexScope(range);
+      int count = scope[1] - scope[0];
+      if (count == 0)
+         return constants_.noResults();
+
+      int index = searchIndex_.indexOf(editor_.getSelectionRange());
+      if (index >= scope[0] && index < scope[1])
+         return constants_.matchIndexOfCount(index - scope[0] + 1, count);
+
+      return constants_.matchCount(count);
+   }
+
    private void replace()
    {
       String searchString = display_.getFindValue().getValue();
@@ -368,15 +583,19 @@ public class FindReplace
 
    private void replaceAll()
    {
+      // the text to search, and where it begins in the document
       String code = null;
+      Position origin = null;
       if (targetSelection_ != null)
       {
          Range range = targetSelection_.getRange();
          code = editor_.getCode(range.getStart(), range.getEnd());
+         origin = range.getStart();
       }
       else
       {
          code = editor_.getCode();
+         origin = Position.create(0, 0);
       }
 
       boolean regex = display_.getRegex().getValue();
@@ -386,28 +605,31 @@ public class FindReplace
       int occurrences = 0;
       if (find.length() > 0)
       {
-         Pattern pattern = createPattern();
-         StringBuilder result = new StringBuilder();
+         ClientMetrics.Timing timing =
+               ClientMetrics.get().startTiming("editor.replaceAll");
 
-         int pos = 0; // pointer into original string
+         // collect the edits to make: the start and end offsets of each match
+         // (relative to the start of the searched text) and its replacement
+         Pattern pattern = createPattern();
+         List<Integer> offsets = new ArrayList<>();
+         List<String> replacements = new ArrayList<>();
+         int delta = 0;
          for (Match m = pattern.match(code, 0);
               m != null;
               m = m.nextMatch())
          {
             occurrences++;
 
-            // Add everything between the end of the last match, and this one
+            // (matches that are replaced with themselves need no edit)
             int index = m.getIndex();
-            result.append(code, pos, index);
-
-            // Add the replacement value
-            if (regex)
-               result.append(substitute(m, repl, code));
-            else
-               result.append(repl);
-
-            // Point to the end of this match
-            pos = index + m.getValue().length();
+            String replacement = regex ? substitute(m, repl, code) : repl;
+            if (!replacement.equals(m.getValue()))
+            {
+               offsets.add(index);
+               offsets.add(index + m.getValue().length());
+               replacements.add(replacement);
+               delta += replacement.length() - m.getValue().length();
+            }
 
             // If the data matched is an empty string (which can happen for
             // regexps that don't consume characters such as ^ or $), then we
@@ -418,30 +640,85 @@ public class FindReplace
                break;
             }
          }
-         result.append(code, pos, code.length());
 
-         String newCode = result.toString();
+         // stop maintaining the index while editing; it's rebuilt afterwards
+         invalidateSearchIndex();
 
-         // either replace all or replace just the target range
-         if (targetSelection_ != null)
+         // apply the edits from the bottom up (so that the positions of the
+         // edits yet to be applied remain valid) as a single operation, so
+         // that only the matched text changes (leaving folds, markers and
+         // tokenization elsewhere intact) and the edits are undone together
+         List<Position> positions = positionsFromOffsets(code, origin, offsets);
+         editor_.startOperation();
+         try
          {
-            // restore and then replace the selection
-            editor_.setSelectionRange(targetSelection_.getRange());
-            editor_.replaceSelection(newCode, false);
-
-            // reset the target selection
-            resetTargetSelection();
+            for (int i = replacements.size() - 1; i >= 0; i--)
+            {
+               Range range = Range.fromPoints(positions.get(2 * i),
+                                              positions.get(2 * i + 1));
+               editor_.replaceRange(range, replacements.get(i));
+            }
          }
-         else
+         finally
          {
-            editor_.replaceCode(newCode);
+            editor_.endOperation();
          }
+
+         if (targetSelection_ != null)
+         {
+            // select the (possibly resized) target range, then reset the
+            // target selection to it
+            Position end = positionFromOffset(origin, code.length() + delta);
+            editor_.setSelectionRange(Range.fromPoints(origin, end));
+            resetTargetSelection();
+         }
+
+         refreshSearchIndex();
+         timing.stop();
       }
       globalDisplay_.showMessage(GlobalDisplay.MSG_INFO,
                                  errorCaption_,
                                  constants_.numberOfOccurrencesReplaced(occurrences));
    }
 
+   // converts an offset into text beginning at 'origin' into a document position
+   private Position positionFromOffset(Position origin, int offset)
+   {
+      return editor_.getSession().getDocument().indexToPosition(
+            origin.getColumn() + offset, origin.getRow());
+   }
+
+   // converts ascending offsets into 'code' (text beginning at 'origin') into
+   // document positions, in a single pass over the text
+   private static List<Position> positionsFromOffsets(String code,
+                                                      Position origin,
+                                                      List<Integer> offsets)
+   {
+      List<Position> positions = new ArrayList<>(offsets.size());
+      int row = origin.getRow();
+      int column = origin.getColumn();
+      int index = 0;
+      for (int offset : offsets)
+      {
+         for (; index < offset; index++)
+         {
+            char ch = code.charAt(index);
+            if (ch == '\n' ||
+                (ch == '\r' && (index + 1 == code.length() || code.charAt(index + 1) != '\n')))
+            {
+               row++;
+               column = 0;
+            }
+            else if (ch != '\r')
+            {
+               column++;
+            }
+         }
+         positions.add(Position.create(row, column));
+      }
+      return positions;
+   }
+
    private String substitute(final Match match,
                              String replacement,
                              final String data)
@@ -516,6 +793,11 @@ public class FindReplace
    private final Display display_;
    private final GlobalDisplay globalDisplay_;
    private final String errorCaption_;
+   private final SearchIndex searchIndex_;
+   private final SearchMatchTicks ticks_;
+   private final HandlerRegistrations handlers_;
+   private String searchIndexKey_ = null;
+   private boolean matchCountPending_ = false;
    private boolean defaultForward_ = true;
    private Position incrementalSearchPosition_ = null;
 
@@ -586,5 +868,6 @@ public class FindReplace
    private static boolean defaultWrapSearch_ = true;
    private static boolean defaultRegex_ = false;
    private static boolean defaultWholeWord_ = false;
+   private static final Pattern MULTILINE_REGEX = Pattern.create("\\\\[nr]");
    private static final ViewsSourceConstants constants_ = GWT.create(ViewsSourceConstants.class);
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import com.google.gwt.resources.client.ImageResource;
 import com.google.gwt.user.client.ui.*;
 
 import org.rstudio.core.client.ElementIds;
+import org.rstudio.core.client.StringUtil;
 import org.rstudio.core.client.dom.WindowEx;
 import org.rstudio.core.client.resources.ImageResource2x;
 import org.rstudio.core.client.theme.res.ThemeResources;
@@ -60,6 +61,9 @@ public class FindReplaceBar extends Composite implements Display, RequiresResize
       String optionsPanel();
       String checkboxLabel();
       String closeButton();
+      String matchCount();
+      String matchTicks();
+      String matchTick();
    }
 
    public FindReplaceBar(boolean showReplace, boolean defaultForward)
@@ -97,6 +101,11 @@ public class FindReplaceBar extends Composite implements Display, RequiresResize
       btnFindPrev_.getElement().addClassName("rstudio-find-replace-find-prev-button");
       findReplacePanel.add(btnSelectAll_ = new SmallButton(cmds.findSelectAll()));
       btnSelectAll_.getElement().addClassName("rstudio-find-replace-select-all-button");
+      findReplacePanel.add(lblMatchCount_ = new Label());
+      lblMatchCount_.addStyleName(RES.styles().matchCount());
+      lblMatchCount_.getElement().addClassName("rstudio-find-replace-match-count");
+      Roles.getStatusRole().set(lblMatchCount_.getElement());
+      lblMatchCount_.setVisible(false);
 
       findReplacePanel.add(txtReplace_ = new FindTextBox(constants_.replaceCapitalized()));
       txtReplace_.addStyleName(RES.styles().replaceTextBox());
@@ -308,6 +317,12 @@ public class FindReplaceBar extends Composite implements Display, RequiresResize
    }
 
 
+   public void setMatchCount(String text)
+   {
+      lblMatchCount_.setText(StringUtil.notNull(text));
+      lblMatchCount_.setVisible(text != null);
+   }
+
    public HasClickHandlers getCloseButton()
    {
       return btnClose_;
@@ -351,6 +366,11 @@ public class FindReplaceBar extends Composite implements Display, RequiresResize
       RES.styles().ensureInjected();
    }
 
+   static Styles styles()
+   {
+      return RES.styles();
+   }
+
    public void onResize()
    {
       int width = getOffsetWidth();
@@ -392,6 +412,7 @@ public class FindReplaceBar extends Composite implements Display, RequiresResize
    private final SmallButton btnFindNext_;
    private final SmallButton btnFindPrev_;
    private final SmallButton btnSelectAll_;
+   private final Label lblMatchCount_;
    private final SmallButton btnReplace_;
    private final SmallButton btnReplaceAll_;
    private final CheckBox chkWholeWord_;
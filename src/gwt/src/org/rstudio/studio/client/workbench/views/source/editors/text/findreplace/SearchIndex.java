@@ -0,0 +1,323 @@
+/*
+ * SearchIndex.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.source.editors.text.findreplace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.rstudio.core.client.BackgroundTask;
+import org.rstudio.core.client.ClientMetrics;
+import org.rstudio.core.client.dom.DomUtils;
+import org.rstudio.core.client.regex.Match;
+import org.rstudio.core.client.regex.Pattern;
+import org.rstudio.studio.client.workbench.views.source.editors.text.AceEditor;
+import org.rstudio.studio.client.workbench.views.source.editors.text.ace.AceDocumentChangeEventNative;
+import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Position;
+import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Range;
+
+import com.google.gwt.core.client.Duration;
+
+/**
+ * The ranges of all matches of a (single-line) search pattern in a document,
+ * kept in document order. The document is scanned in time slices by a
+ * background task, after which the index is kept up to date from the
+ * editor's change deltas (rescanning only the changed rows), so that the
+ * matches nearest a position, and the rank of a match, can be found by
+ * binary search.
+ */
+class SearchIndex
+{
+   public interface Listener
+   {
+      void onSearchIndexChanged();
+   }
+
+   private static class Entry
+   {
+      Entry(int row, int start, int end)
+      {
+         row_ = row;
+         start_ = start;
+         end_ = end;
+      }
+
+      private int row_;
+      private final int start_;
+      private final int end_;
+   }
+
+   public SearchIndex(AceEditor editor, Listener listener)
+   {
+      editor_ = editor;
+      listener_ = listener;
+
+      task_ = new BackgroundTask("search-index")
+      {
+         @Override
+         protected void run()
+         {
+            scanSlice();
+         }
+
+         @Override
+         protected boolean isVisible()
+         {
+            return DomUtils.isEffectivelyVisible(editor_.asWidget().getElement());
+         }
+      };
+   }
+
+   /**
+    * Rebuilds the index for the given pattern (a global, multi-line mode
+    * pattern, matched against each row in turn), or clears it if the
+    * pattern is null.
+    */
+   public void setPattern(Pattern pattern)
+   {
+      pattern_ = pattern;
+      entries_.clear();
+      nextRow_ = 0;
+      task_.cancel();
+
+      if (pattern_ != null)
+      {
+         timing_ = ClientMetrics.get().startTiming("editor.searchIndex");
+         task_.schedule();
+      }
+   }
+
+   public boolean hasPattern()
+   {
+      return pattern_ != null;
+   }
+
+   /**
+    * Whether the whole document has been scanned.
+    */
+   public boolean isComplete()
+   {
+      return pattern_ != null && nextRow_ >= editor_.getCurrentLineCount();
+   }
+
+   public int getCount()
+   {
+      return entries_.size();
+   }
+
+   public Range getRange(int index)
+   {
+      Entry entry = entries_.get(index);
+      return Range.create(entry.row_, entry.start_, entry.row_, entry.end_);
+   }
+
+   public int getRow(int index)
+   {
+      return entries_.get(index).row_;
+   }
+
+   /**
+    * Returns the index of the first match starting at or after the given
+    * position (the number of matches before it), which is getCount() if
+    * there is no such match.
+    */
+   public int lowerBound(Position position)
+   {
+      int row = position.getRow();
+      int column = position.getColumn();
+
+      int lo = 0;
+      int hi = entries_.size();
+      while (lo < hi)
+      {
+         int mid = (lo + hi) >>> 1;
+         Entry entry = entries_.get(mid);
+         if (entry.row_ < row || (entry.row_ == row && entry.start_ < column))
+            lo = mid + 1;
+         else
+            hi = mid;
+      }
+      return lo;
+   }
+
+   /**
+    * Returns the index of the match spanning exactly the given range, or -1.
+    */
+   public int indexOf(Range range)
+   {
+      int index = lowerBound(range.getStart());
+      if (index == entries_.size())
+         return -1;
+
+      Entry entry = entries_.get(index);
+      Position end = range.getEnd();
+      if (entry.row_ == range.getStart().getRow() &&
+          entry.start_ == range.getStart().getColumn() &&
+          entry.row_ == end.getRow() &&
+          entry.end_ == end.getColumn())
+      {
+         return index;
+      }
+      return -1;
+   }
+
+   public void onDocumentChanged(AceDocumentChangeEventNative event)
+   {
+      if (pattern_ == null)
+         return;
+
+      int startRow = event.start.getRow();
+      int endRow = event.end.getRow();
+      int lineDelta = event.isInsertion()
+            ? endRow - startRow
+            : startRow - endRow;
+
+      // rows before the change were unaffected
+      if (nextRow_ <= startRow)
+         return;
+
+      // the rows spanned by the change before and after it was made
+      int oldEndRow = event.isInsertion() ? startRow : endRow;
+      int newEndRow = event.isInsertion() ? endRow : startRow;
+
+      int first = lowerBound(Position.create(startRow, 0));
+
+      // for large changes, just rescan everything from the change onwards
+      if (newEndRow - startRow >= MAX_SYNC_RESCAN_ROWS)
+      {
+         truncate(first);
+         nextRow_ = startRow;
+         task_.schedule();
+         listener_.onSearchIndexChanged();
+         return;
+      }
+
+      // drop the matches on the changed rows, and shift those after them
+      int last = lowerBound(Position.create(oldEndRow + 1, 0));
+      entries_.subList(first, last).clear();
+      if (lineDelta != 0)
+      {
+         for (int i = first, n = entries_.size(); i < n; i++)
+            entries_.get(i).row_ += lineDelta;
+      }
+
+      // rescan the changed rows (as far as the scan has reached)
+      if (nextRow_ > oldEndRow)
+         nextRow_ += lineDelta;
+      else
+         nextRow_ = newEndRow + 1;
+
+      List<Entry> scanned = new ArrayList<>();
+      for (int row = startRow; row <= newEndRow; row++)
+      {
+         if (!scanRow(row, scanned))
+         {
+            abandon();
+            return;
+         }
+      }
+      entries_.addAll(first, scanned);
+
+      listener_.onSearchIndexChanged();
+   }
+
+   public void detach()
+   {
+      task_.cancel();
+      pattern_ = null;
+      entries_.clear();
+   }
+
+   private void scanSlice()
+   {
+      if (pattern_ == null)
+         return;
+
+      double deadline = Duration.currentTimeMillis() + SLICE_MS;
+      int n = editor_.getCurrentLineCount();
+      while (nextRow_ < n)
+      {
+         if (!scanRow(nextRow_++, entries_))
+         {
+            abandon();
+            return;
+         }
+         if (Duration.currentTimeMillis() > deadline)
+            break;
+      }
+
+      if (nextRow_ < n)
+      {
+         task_.schedule();
+      }
+      else if (timing_ != null)
+      {
+         timing_.stop();
+         timing_ = null;
+      }
+
+      listener_.onSearchIndexChanged();
+   }
+
+   // Returns false if the pattern matched empty text on the row (e.g. a
+   // lookahead); such matches are found by Ace's search but can't be
+   // indexed, so the caller gives up on the index (see abandon).
+   private boolean scanRow(int row, List<Entry> entries)
+   {
+      String line = editor_.getLine(row);
+      int index = 0;
+      while (index <= line.length())
+      {
+         Match m = pattern_.match(line, index);
+         if (m == null)
+            break;
+
+         int length = m.getValue().length();
+         if (length == 0)
+            return false;
+
+         entries.add(new Entry(row, m.getIndex(), m.getIndex() + length));
+         index = m.getIndex() + length;
+      }
+      return true;
+   }
+
+   // drops the index for a pattern it can't represent, leaving searches to
+   // Ace (as though no pattern had been set)
+   private void abandon()
+   {
+      task_.cancel();
+      pattern_ = null;
+      entries_.clear();
+      timing_ = null;
+      listener_.onSearchIndexChanged();
+   }
+
+   private void truncate(int index)
+   {
+      entries_.subList(index, entries_.size()).clear();
+   }
+
+   private final AceEditor editor_;
+   private final Listener listener_;
+   private final BackgroundTask task_;
+   private final List<Entry> entries_ = new ArrayList<>();
+
+   private Pattern pattern_ = null;
+   private int nextRow_ = 0;
+   private ClientMetrics.Timing timing_ = null;
+
+   private static final int SLICE_MS = 8;
+   private static final int MAX_SYNC_RESCAN_ROWS = 200;
+}
@@ -0,0 +1,118 @@
+/*
+ * SearchMatchTicks.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.source.editors.text.findreplace;
+
+import org.rstudio.studio.client.workbench.views.source.editors.text.AceEditor;
+import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Position;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style.Unit;
+
+/**
+ * Tick marks alongside the editor's vertical scrollbar, showing where the
+ * matches in a SearchIndex are in the document. Matches that would share a
+ * pixel row share a tick, so the number of elements drawn is bounded by the
+ * height of the editor rather than the number of matches. Ticks are placed
+ * by document row, ignoring folds and soft wrapping.
+ */
+class SearchMatchTicks
+{
+   public SearchMatchTicks(AceEditor editor, SearchIndex index)
+   {
+      editor_ = editor;
+      index_ = index;
+   }
+
+   /**
+    * Redraws the ticks once the current event has been handled (so that
+    * several updates in a row only redraw once).
+    */
+   public void update()
+   {
+      if (updatePending_)
+         return;
+
+      updatePending_ = true;
+      Scheduler.get().scheduleDeferred(() ->
+      {
+         updatePending_ = false;
+         render();
+      });
+   }
+
+   public void detach()
+   {
+      if (track_ != null)
+      {
+         track_.removeFromParent();
+         track_ = null;
+      }
+   }
+
+   private void render()
+   {
+      int count = index_.getCount();
+      if (!index_.hasPattern() || count == 0)
+      {
+         detach();
+         return;
+      }
+
+      Element container = editor_.getWidget().getEditor().getContainer();
+      int height = container.getClientHeight();
+      int rows = editor_.getCurrentLineCount();
+      if (height <= 0 || rows <= 0)
+      {
+         detach();
+         return;
+      }
+
+      if (track_ == null)
+      {
+         track_ = Document.get().createDivElement();
+         track_.setClassName(FindReplaceBar.styles().matchTicks());
+      }
+      if (track_.getParentElement() != container)
+         container.appendChild(track_);
+
+      track_.removeAllChildren();
+
+      double scale = (double) (height - TICK_HEIGHT) / rows;
+      int i = 0;
+      while (i < count)
+      {
+         int top = (int) (index_.getRow(i) * scale);
+
+         Element tick = Document.get().createDivElement();
+         tick.setClassName(FindReplaceBar.styles().matchTick());
+         tick.getStyle().setTop(top, Unit.PX);
+         track_.appendChild(tick);
+
+         // skip ahead to the first match below this tick
+         int nextRow = (int) Math.ceil((top + TICK_HEIGHT) / scale);
+         i = Math.max(i + 1, index_.lowerBound(Position.create(nextRow, 0)));
+      }
+   }
+
+   private final AceEditor editor_;
+   private final SearchIndex index_;
+
+   private Element track_ = null;
+   private boolean updatePending_ = false;
+
+   private static final int TICK_HEIGHT = 2;
+}
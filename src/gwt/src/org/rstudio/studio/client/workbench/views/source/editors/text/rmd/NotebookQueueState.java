@@ -76,8 +76,8 @@ public class NotebookQueueState implements NotebookRangeExecutedEvent.Handler,
       scopeHelper_ = new TextEditingTargetScopeHelper(display);
       rmdHelper_ = new TextEditingTargetRMarkdownHelper();
       
-      registrations_.add(events_.addHandler(NotebookRangeExecutedEvent.TYPE, this));
-      registrations_.add(events_.addHandler(ChunkExecStateChangedEvent.TYPE, this));
+      registrations_.add(sentinel_.addDocumentHandler(NotebookRangeExecutedEvent.TYPE, this));
+      registrations_.add(sentinel_.addDocumentHandler(ChunkExecStateChangedEvent.TYPE, this));
 
       syncWidth();
    }
@@ -303,28 +303,31 @@ public class TextEditingTargetNotebook
       queue_ = new NotebookQueueState(docDisplay_, editingTarget_,
             docUpdateSentinel_, server, events, this);
 
-      releaseOnDismiss_.add(
-            events_.addHandler(RmdChunkOutputEvent.TYPE, this));
-      releaseOnDismiss_.add(
-            events_.addHandler(RmdChunkOutputFinishedEvent.TYPE, this));
-      releaseOnDismiss_.add(
-            events_.addHandler(ChunkPlotRefreshedEvent.TYPE, this));
-      releaseOnDismiss_.add(
-            events_.addHandler(ChunkPlotRefreshFinishedEvent.TYPE, this));
-      releaseOnDismiss_.add(
-            events_.addHandler(SendToChunkConsoleEvent.TYPE, this));
-      releaseOnDismiss_.add(
-            events_.addHandler(ChunkChangeEvent.TYPE, this));
+      // events concerning this document only are routed to us by document
+      // id, so they needn't be filtered here
+      releaseOnDismiss_.add(docUpdateSentinel_.addDocumentHandler(
+            RmdChunkOutputEvent.TYPE, this));
+      releaseOnDismiss_.add(docUpdateSentinel_.addDocumentHandler(
+            RmdChunkOutputFinishedEvent.TYPE, this));
+      releaseOnDismiss_.add(docUpdateSentinel_.addDocumentHandler(
+            ChunkPlotRefreshedEvent.TYPE, this));
+      releaseOnDismiss_.add(docUpdateSentinel_.addDocumentHandler(
+            ChunkPlotRefreshFinishedEvent.TYPE, this));
+      releaseOnDismiss_.add(docUpdateSentinel_.addDocumentHandler(
+            SendToChunkConsoleEvent.TYPE, this));
+      releaseOnDismiss_.add(docUpdateSentinel_.addDocumentHandler(
+            ChunkChangeEvent.TYPE, this));
+      releaseOnDismiss_.add(docUpdateSentinel_.addDocumentHandler(
+            SourceDocAddedEvent.TYPE, this));
+      releaseOnDismiss_.add(docUpdateSentinel_.addDocumentHandler(
+            ChunkSatelliteWindowRegisteredEvent.TYPE, this));
+
       releaseOnDismiss_.add(
             events_.addHandler(ChunkContextChangeEvent.TYPE, this));
       releaseOnDismiss_.add(
             events_.addHandler(InterruptStatusEvent.TYPE, this));
       releaseOnDismiss_.add(
             events_.addHandler(DeferredInitCompletedEvent.TYPE, this));
-      releaseOnDismiss_.add(
-            events_.addHandler(SourceDocAddedEvent.TYPE, this));
-      releaseOnDismiss_.add(
-            events_.addHandler(ChunkSatelliteWindowRegisteredEvent.TYPE, this));
 
       // subscribe to global rmd output inline preference and sync
       // again when it changes
@@ -666,10 +669,6 @@ public class TextEditingTargetNotebook
    @Override
    public void onSendToChunkConsole(final SendToChunkConsoleEvent event)
    {
-      // not for our doc
-      if (event.getDocId() != docUpdateSentinel_.getId())
-         return;
-
       // execute setup chunk first if necessary
       if (needsSetupChunkExecuted() && !isSetupChunkScope(event.getScope()))
       {
@@ -691,10 +690,6 @@ public class TextEditingTargetNotebook
    @Override
    public void onRmdChunkOutput(RmdChunkOutputEvent event)
    {
-      // ignore if not targeted at this document
-      if (event.getOutput().getDocId() != docUpdateSentinel_.getId())
-         return;
-
       // if nothing at all was returned, this means the chunk doesn't exist on
       // the server, so clean it up here.
       if (event.getOutput().isEmpty() && !queue_.isExecuting())
@@ -763,9 +758,6 @@ public class TextEditingTargetNotebook
    @Override
    public void onRmdChunkOutputFinished(RmdChunkOutputFinishedEvent event)
    {
-      // ignore if not targeted at this document
-      if (event.getData().getDocId() != docUpdateSentinel_.getId())
-         return;
       boolean ensureVisible = true;
 
       RmdChunkOutputFinishedEvent.Data data = event.getData();
@@ -834,10 +826,6 @@ public class TextEditingTargetNotebook
 
       currentPlotsReplayId_ = null;
 
-      // ignore if targeted at another document
-      if (event.getData().getDocId() != docUpdateSentinel_.getId())
-         return;
-
       lastPlotWidth_ = event.getData().getWidth();
 
       // clean up flag
@@ -857,10 +845,6 @@ public class TextEditingTargetNotebook
       if (currentPlotsReplayId_ != event.getData().getReplayId())
          return;
 
-      // ignore if targeted at another document
-      if (event.getData().getDocId() != docUpdateSentinel_.getId())
-         return;
-
       // find chunk containing plot and push the new plot in
       String chunkId = event.getData().getChunkId();
       if (chunkHasOutput(chunkId))
@@ -871,9 +855,6 @@ public class TextEditingTargetNotebook
    @Override
    public void onChunkChange(ChunkChangeEvent event)
    {
-      if (event.getDocId() != docUpdateSentinel_.getId())
-         return;
-
       switch(event.getChangeType())
       {
          case ChunkChangeEvent.CHANGE_CREATE:
@@ -959,9 +940,6 @@ public class TextEditingTargetNotebook
       String docId = event.getDocId();
       String chunkId = event.getChunkId();
 
-      if (docId != docUpdateSentinel_.getId())
-         return;
-
       events_.fireEvent(
          new ChunkSatelliteCacheEditorStyleEvent(
             docId,
@@ -1132,9 +1110,6 @@ public class TextEditingTargetNotebook
    @Override
    public void onSourceDocAdded(SourceDocAddedEvent e)
    {
-      if (e.getDoc().getId() != docUpdateSentinel_.getId())
-         return;
-
       // when interactively adding a new notebook, we maximize the source pane
       if (e.getMode() == Source.OPEN_INTERACTIVE &&
           editingTarget_.isActiveDocument() &&
@@ -334,8 +334,10 @@ public class VisualMode implements VisualModeEditorSync,
       });
 
       if (isVisualEditorActive() && (syncType == SyncType.SyncTypeActivate || isDirty_)) {
-         // set flags
+         // set flags (the editors aren't known to be in sync until the
+         // serialized markdown has been applied to the source editor)
          isDirty_ = false;
+         lastSyncedCode_ = null;
          
          withPanmirror(() -> {
             
@@ -387,8 +389,11 @@ public class VisualMode implements VisualModeEditorSync,
                         }
                         */
                         
-                        // always set all of the code (no diffs, see comment above)
+                        // always set all of the code (no diffs, see comment above);
+                        // the source editor only replaces the span of text that
+                        // actually changed
                         getSourceEditor().setCode(markdown.code);
+                        lastSyncedCode_ = markdown.code;
                         
                         // if the format comment has changed then show the reload prompt
                         if ((panmirrorFormatConfig_ != null) && panmirrorFormatConfig_.requiresReload())
@@ -490,12 +495,26 @@ public class VisualMode implements VisualModeEditorSync,
          panmirrorFormatConfig_ = null;
          view_.editorContainer().removeWidget(panmirror_);
          panmirror_ = null;
+         lastSyncedCode_ = null;
       }
       
       withPanmirror(() -> {
          
          final String editorCode = getEditorCode();
          
+         // if neither the source nor the visual editor has changed since the
+         // two were last synchronized, there is nothing to re-parse; skip
+         // the (potentially very expensive) round trip through pandoc
+         if (!isDirty_ && editorCode.equals(lastSyncedCode_))
+         {
+            loadingFromSource_ = false;
+            if (done != null)
+               done.execute(true);
+            if (focus)
+               Scheduler.get().scheduleDeferred(() -> restoreEditingLocation());
+            return;
+         }
+         
          final VisualModeMarkdownWriter.Options writerOptions = visualModeWriterOptions_.optionsFromCode(editorCode);
           
          // serialize these calls (they are expensive on both the server side for the call(s)
@@ -604,6 +623,7 @@ public class VisualMode implements VisualModeEditorSync,
                                getSourceEditor().setCode(result.canonical);
                                markDirty();
                            }
+                           lastSyncedCode_ = result.canonical;
                            
                            // completed
                            allDone.execute(true);
@@ -613,26 +633,7 @@ public class VisualMode implements VisualModeEditorSync,
                               // if we are being focused it means we are switching from source mode, in that
                               // case sync our editing location to what it is in source 
                               if (focus)
-                              { 
-                                 // catch exceptions which occur here (can result from attempting to restore
-                                 // an invalid position). generally we'd like to diagnose and fix instances
-                                 // of this error in a more targeted fashion, however we are now at the point
-                                 // of v1.4 release and the error results in an inability to switch to visual
-                                 // mode, so we do more coarse grained error handling here
-                                 try
-                                 {
-                                    panmirror_.spellingInvalidateAllWords();
-                                    panmirror_.focus();
-                                    panmirror_.setEditingLocation(
-                                          visualModeLocation_.getSourceOutlineLocation(), 
-                                          visualModeLocation_.savedEditingLocation()
-                                          ); 
-                                 }
-                                 catch(Exception e)
-                                 {
-                                    Debug.logException(e);
-                                 }
-                              }
+                                 restoreEditingLocation();
                               
                               // show any warnings
                               PanmirrorPandocFormat format = panmirror_.getPandocFormat();
@@ -667,6 +668,28 @@ public class VisualMode implements VisualModeEditorSync,
       });
    }
    
+   private void restoreEditingLocation()
+   {
+      // catch exceptions which occur here (can result from attempting to restore
+      // an invalid position). generally we'd like to diagnose and fix instances
+      // of this error in a more targeted fashion, however we are now at the point
+      // of v1.4 release and the error results in an inability to switch to visual
+      // mode, so we do more coarse grained error handling here
+      try
+      {
+         panmirror_.spellingInvalidateAllWords();
+         panmirror_.focus();
+         panmirror_.setEditingLocation(
+               visualModeLocation_.getSourceOutlineLocation(), 
+               visualModeLocation_.savedEditingLocation()
+               ); 
+      }
+      catch(Exception e)
+      {
+         Debug.logException(e);
+      }
+   }
+   
    public boolean canWriteCanonical()
    {
       return validateActivation() == null;
@@ -1984,6 +2007,10 @@ public class VisualMode implements VisualModeEditorSync,
    
    private boolean isDirty_ = false;
    private boolean loadingFromSource_ = false;
+   
+   // the markdown most recently exchanged between the source and visual
+   // editors (null if they are not known to be in sync)
+   private String lastSyncedCode_ = null;
    private boolean deactivatingForInvalidSource_ = false;
    
    private PanmirrorWidget panmirror_;
@@ -16,6 +16,7 @@ package org.rstudio.studio.client.workbench.views.source.events;
 
 import org.rstudio.core.client.js.JavaScriptSerializable;
 import org.rstudio.studio.client.application.events.CrossWindowEvent;
+import org.rstudio.studio.client.application.events.DocumentScopedEvent;
 
 import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.GwtEvent;
@@ -23,6 +24,7 @@ import com.google.gwt.event.shared.GwtEvent;
 @JavaScriptSerializable
 public class ChunkChangeEvent 
              extends CrossWindowEvent<ChunkChangeEvent.Handler>
+             implements DocumentScopedEvent
 {
    public interface Handler extends EventHandler
    {
@@ -50,6 +52,7 @@ public class ChunkChangeEvent
       type_ = type;
    }
    
+   @Override
    public String getDocId()
    {
       return docId_;
@@ -16,6 +16,7 @@ package org.rstudio.studio.client.workbench.views.source.events;
 
 import org.rstudio.core.client.js.JavaScriptSerializable;
 import org.rstudio.studio.client.application.events.CrossWindowEvent;
+import org.rstudio.studio.client.application.events.DocumentScopedEvent;
 import org.rstudio.studio.client.workbench.views.source.SourceWindowManager;
 import org.rstudio.studio.client.workbench.views.source.model.SourceDocument;
 
@@ -24,6 +25,7 @@ import com.google.gwt.event.shared.EventHandler;
 @JavaScriptSerializable
 public class SourceDocAddedEvent
              extends CrossWindowEvent<SourceDocAddedEvent.Handler>
+             implements DocumentScopedEvent
 {
    public interface Handler extends EventHandler
    {
@@ -62,6 +64,12 @@ public class SourceDocAddedEvent
       return mode_;
    }
 
+   @Override
+   public String getDocId()
+   {
+      return doc_ == null ? null : doc_.getId();
+   }
+
    @Override
    public Type<Handler> getAssociatedType()
    {
@@ -23,6 +23,7 @@ import org.rstudio.core.client.Barrier.Token;
 import org.rstudio.core.client.CommandWithArg;
 import org.rstudio.core.client.DebouncedCommand;
 import org.rstudio.core.client.Debug;
+import org.rstudio.core.client.InputLatencyTracer;
 import org.rstudio.core.client.StringUtil;
 import org.rstudio.core.client.js.JsObject;
 import org.rstudio.core.client.patch.SubstringDiff;
@@ -58,6 +59,8 @@ import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.event.logical.shared.ValueChangeEvent;
 import com.google.gwt.event.logical.shared.ValueChangeHandler;
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent.Type;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.Command;
 import com.google.gwt.user.client.Window;
@@ -318,6 +321,62 @@ public class DocUpdateSentinel
          onSaved.execute();
       }
    }
+
+   /**
+    * Returns the document's unsaved changes as a delta against the server's
+    * copy of the document, for requests that can apply the changes
+    * themselves rather than waiting on withSavedDoc(). The delta is taken to
+    * be sent right away: until its outcome is known (see onDeltaApplied()),
+    * later deltas and autosaves are computed against the contents it gives
+    * the server's copy. Returns null if the changes can't be expressed that
+    * way (e.g. a save is in progress), in which case withSavedDoc() should
+    * be used instead.
+    */
+   public DocumentDelta getPendingDelta()
+   {
+      if (isSaving_)
+         return null;
+
+      if (!changeTracker_.hasChanged())
+      {
+         String hash = deltas_.getHash(sourceDoc_.getHash());
+         return new DocumentDelta("", 0, 0, hash, null, null, null, 0, true);
+      }
+
+      // as for a save, fork the change tracker to mark the version of the
+      // document the delta was computed from
+      ChangeTracker changeTracker = changeTracker_.fork();
+      changeTracker.reset();
+
+      return deltas_.next(sourceDoc_.getContents(),
+                          sourceDoc_.getHash(),
+                          docDisplay_.getCode(),
+                          changeTracker);
+   }
+
+   /**
+    * Records the outcome of sending the given delta: the hash the server's
+    * copy of the document has once the delta is applied, or null if it
+    * wasn't applied (or its outcome is unknown). The document is still
+    * autosaved as usual (which also saves folds and chunk definitions), but
+    * only needs to send the changes made since.
+    */
+   public void onDeltaApplied(DocumentDelta delta, String newHash)
+   {
+      // ignore if not applied, or if a later delta or save (e.g. in full,
+      // after racing with the delta) has already updated the server's copy
+      if (!deltas_.onApplied(delta, newHash))
+         return;
+
+      // if the document hasn't changed since the delta was computed, the
+      // server's copy is now up to date
+      if (!delta.getChangeTracker().hasChanged())
+         changeTracker_.reset();
+
+      sourceDoc_.setContents(delta.getContents());
+      sourceDoc_.setHash(newHash);
+   }
+
    private boolean maybeAutoSave()
    {
       if (quit_.isQuitting() || quit_.isSuspendingAndRestarting())
@@ -535,9 +594,11 @@ public class DocUpdateSentinel
       // so we reset the forked change tracker to its initial state.
       thisChangeTracker.reset();
 
+      // diff against the server's copy of the document, as it will be once
+      // any delta still in flight is applied
       final String newContents = docDisplay_.getCode();
-      String oldContents = sourceDoc_.getContents();
-      final String hash = sourceDoc_.getHash();
+      String oldContents = deltas_.getContents(sourceDoc_.getContents());
+      final String hash = deltas_.getHash(sourceDoc_.getHash());
 
       final String foldSpec = Fold.encode(Fold.flatten(docDisplay_.getFolds()));
       String oldFoldSpec = sourceDoc_.getFoldSpec();
@@ -551,6 +612,7 @@ public class DocUpdateSentinel
       // Don't auto-save when there are no changes. In addition to being
       // wasteful, it causes the server to think the document is dirty.
       if (path == null && fileType == null && diff.isValid() && diff.isEmpty()
+          && !deltas_.isPending()
           && foldSpec == oldFoldSpec
           && (newChunkDefs == null ||
               ChunkDefinition.equalTo(newChunkDefs, oldChunkDefs)))
@@ -587,6 +649,7 @@ public class DocUpdateSentinel
       }
 
       isSaving_ = true;
+      final int sequence = deltas_.beginSave();
       server_.saveDocumentDiff(
             sourceDoc_.getId(),
             path,
@@ -649,6 +712,8 @@ public class DocUpdateSentinel
                         if (!thisChangeTracker.hasChanged())
                            changeTracker_.reset();
 
+                        deltas_.onSaved(sequence);
+
                         // update the foldSpec and newChunkDefs so we
                         // can use them for change detection the next
                         // time around
@@ -678,7 +743,7 @@ public class DocUpdateSentinel
                      eventBus_.fireEvent(saveEvent);
                      isSaving_ = false;
                   }
-                  else if (hash != sourceDoc_.getHash())
+                  else if (hash != deltas_.getHash(sourceDoc_.getHash()))
                   {
                      // We just hit a race condition where two updates
                      // happened at once. Try again.
@@ -930,7 +995,9 @@ public class DocUpdateSentinel
 
    public void onValueChange(ValueChangeEvent<VoidResponse> voidValueChangeEvent)
    {
+      InputLatencyTracer.Span span = InputLatencyTracer.get().startSpan("docUpdateSentinel");
       nudgeAutosave();
+      span.end();
    }
 
    @Override
@@ -1028,6 +1095,16 @@ public class DocUpdateSentinel
    {
       return sourceDoc_.getId();
    }
+
+   /**
+    * Registers a handler for the document-scoped events that concern this
+    * document (see EventBus.addDocumentHandler).
+    */
+   public <H extends EventHandler> HandlerRegistration addDocumentHandler(
+         Type<H> type, H handler)
+   {
+      return eventBus_.addDocumentHandler(getId(), type, handler);
+   }
    
    public String getType()
    {
@@ -1052,6 +1129,7 @@ public class DocUpdateSentinel
    private int suspendDetectChanges_ = 0;
    private boolean changesPending_ = false;
    private final ChangeTracker changeTracker_;
+   private final DocumentDeltaChain deltas_ = new DocumentDeltaChain();
    private final SourceServerOperations server_;
    private final DocDisplay docDisplay_;
    private SourceDocument sourceDoc_;
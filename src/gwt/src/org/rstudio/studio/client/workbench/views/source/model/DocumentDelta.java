@@ -0,0 +1,113 @@
+/*
+ * DocumentDelta.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.source.model;
+
+import org.rstudio.studio.client.workbench.model.ChangeTracker;
+
+/**
+ * The unsaved changes to a document, as a diff against the server's copy of
+ * the document (which has the given hash): the server's contents in the
+ * range [offset, offset + length) are to be replaced with the replacement.
+ * Offsets are as for a diff-based save.
+ */
+public class DocumentDelta
+{
+   DocumentDelta(String replacement,
+                 int offset,
+                 int length,
+                 String hash,
+                 String contents,
+                 String newHash,
+                 ChangeTracker changeTracker,
+                 int sequence,
+                 boolean empty)
+   {
+      replacement_ = replacement;
+      offset_ = offset;
+      length_ = length;
+      hash_ = hash;
+      contents_ = contents;
+      newHash_ = newHash;
+      changeTracker_ = changeTracker;
+      sequence_ = sequence;
+      empty_ = empty;
+   }
+
+   public String getReplacement()
+   {
+      return replacement_;
+   }
+
+   public int getOffset()
+   {
+      return offset_;
+   }
+
+   public int getLength()
+   {
+      return length_;
+   }
+
+   /**
+    * The hash of the server's copy of the document this delta applies to.
+    */
+   public String getHash()
+   {
+      return hash_;
+   }
+
+   /**
+    * Whether there are no unsaved changes (so nothing needs to be sent).
+    */
+   public boolean isEmpty()
+   {
+      return empty_;
+   }
+
+   // the contents of the document once the delta is applied
+   String getContents()
+   {
+      return contents_;
+   }
+
+   // the hash the server's copy of the document is expected to have once the
+   // delta is applied
+   String getNewHash()
+   {
+      return newHash_;
+   }
+
+   // tracks changes made to the document since the delta was computed
+   ChangeTracker getChangeTracker()
+   {
+      return changeTracker_;
+   }
+
+   // the order in which the delta was sent (see DocumentDeltaChain)
+   int getSequence()
+   {
+      return sequence_;
+   }
+
+   private final String replacement_;
+   private final int offset_;
+   private final int length_;
+   private final String hash_;
+   private final String contents_;
+   private final String newHash_;
+   private final ChangeTracker changeTracker_;
+   private final int sequence_;
+   private final boolean empty_;
+}
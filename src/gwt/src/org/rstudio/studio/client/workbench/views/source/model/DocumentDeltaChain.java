@@ -0,0 +1,171 @@
+/*
+ * DocumentDeltaChain.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.source.model;
+
+import org.rstudio.core.client.StringUtil;
+import org.rstudio.core.client.patch.SubstringDiff;
+import org.rstudio.studio.client.workbench.model.ChangeTracker;
+
+/**
+ * Tracks the deltas sent to the server's copy of a document. The server only
+ * applies a delta (or a diff-based save) computed against its current copy,
+ * so changes made while a delta is in flight are diffed against the contents
+ * that delta will give the server's copy, and the hash those contents will
+ * have, rather than against the copy the server last acknowledged.
+ */
+class DocumentDeltaChain
+{
+   /**
+    * Returns the delta from the server's copy of the document to the given
+    * contents, and records it as sent. The server's copy is the one with the
+    * given contents and hash, as changed by any delta still in flight.
+    * Returns null if the contents can't be diffed.
+    */
+   DocumentDelta next(String contents,
+                      String hash,
+                      String newContents,
+                      ChangeTracker changeTracker)
+   {
+      SubstringDiff diff = new SubstringDiff(getContents(contents), newContents);
+      if (!diff.isValid())
+         return null;
+
+      if (diff.isEmpty())
+         return new DocumentDelta("", 0, 0, getHash(hash), null, null, null, 0, true);
+
+      if (sent_ == null)
+         chainStart_ = sequence_ + 1;
+
+      sent_ = new DocumentDelta(diff.getReplacement(),
+                                diff.getOffset(),
+                                diff.getLength(),
+                                getHash(hash),
+                                newContents,
+                                hashOf(newContents),
+                                changeTracker,
+                                ++sequence_,
+                                false);
+      return sent_;
+   }
+
+   /**
+    * The contents a save should be diffed against, given the contents of the
+    * server's copy of the document as last acknowledged.
+    */
+   String getContents(String contents)
+   {
+      return sent_ == null ? contents : sent_.getContents();
+   }
+
+   /**
+    * The hash a save should be diffed against, given the hash of the server's
+    * copy of the document as last acknowledged.
+    */
+   String getHash(String hash)
+   {
+      return sent_ == null ? hash : sent_.getNewHash();
+   }
+
+   /**
+    * Whether a delta is in flight.
+    */
+   boolean isPending()
+   {
+      return sent_ != null;
+   }
+
+   /**
+    * Records that a save (computed against getContents() and getHash()) is
+    * being sent, returning the sequence number to pass to onSaved().
+    */
+   int beginSave()
+   {
+      return ++sequence_;
+   }
+
+   /**
+    * Records that the save with the given sequence number succeeded.
+    */
+   void onSaved(int sequence)
+   {
+      known_ = Math.max(known_, sequence);
+
+      // the save includes the changes of any delta sent before it
+      if (sent_ != null && sent_.getSequence() < sequence)
+         sent_ = null;
+   }
+
+   /**
+    * Records the outcome of sending a delta: the hash of the server's copy of
+    * the document once it was applied, or null if it wasn't applied. Returns
+    * true if the server's copy should now be taken to be the delta's contents
+    * with that hash; false if the delta wasn't applied, or if a later delta
+    * or save has already been acknowledged.
+    */
+   boolean onApplied(DocumentDelta delta, String newHash)
+   {
+      if (delta.isEmpty())
+         return false;
+
+      boolean applied = !StringUtil.isNullOrEmpty(newHash);
+
+      // deltas sent since this one (in the same chain) were computed against
+      // its expected outcome; if that didn't come about, the server will
+      // reject them too, so later changes are diffed against the acknowledged
+      // copy instead
+      if (sent_ != null &&
+          delta.getSequence() >= chainStart_ &&
+          (sent_ == delta || !applied || !StringUtil.equals(newHash, delta.getNewHash())))
+      {
+         sent_ = null;
+      }
+
+      if (!applied || delta.getSequence() <= known_)
+         return false;
+
+      known_ = delta.getSequence();
+      return true;
+   }
+
+   /**
+    * The hash the session gives a document with the given contents (see
+    * SourceDocument::setContents): the CRC-32 of their UTF-8 encoding, in
+    * decimal.
+    */
+   static String hashOf(String contents)
+   {
+      return Long.toString(Long.parseLong(StringUtil.crc32(encodeUtf8(contents)), 16));
+   }
+
+   // returns the UTF-8 encoding of the string, one character per byte
+   private static native String encodeUtf8(String value) /*-{
+      var bytes = new $wnd.TextEncoder("utf-8").encode(value);
+      var result = "";
+      for (var i = 0; i < bytes.length; i++)
+         result += String.fromCharCode(bytes[i]);
+      return result;
+   }-*/;
+
+   // the last delta sent, while its outcome is unknown, and the sequence
+   // number of the first delta in its chain
+   private DocumentDelta sent_ = null;
+   private int chainStart_ = 0;
+
+   // deltas and saves are numbered in the order they're sent; the last one
+   // acknowledged is known_, so that late responses to earlier ones are
+   // ignored
+   private int sequence_ = 0;
+   private int known_ = 0;
+}
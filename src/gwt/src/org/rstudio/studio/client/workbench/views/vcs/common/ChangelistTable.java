@@ -279,7 +279,7 @@ public abstract class ChangelistTable extends Composite
          }
       };
       pathColumn.setSortable(true);
-      sortHandler_.setComparator(pathColumn, new StatusAndPath.PathComparator());
+      sortHandler_.setComparator(pathColumn, StatusAndPath.PATH_COMPARATOR);
       table_.addColumn(pathColumn, constants_.pathCapitalized());
 
       table_.getColumnSortList().push(pathColumn);
@@ -0,0 +1,106 @@
+/*
+ * BenchmarkComparison.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the results of a benchmark run against those of a baseline run
+ * (both as written by the 'benchmark' build target, one JSON object per
+ * line), and fails if any benchmark's throughput has dropped by more than the
+ * given tolerance.
+ *
+ * Usage: BenchmarkComparison baseline.json results.json [tolerance]
+ */
+public class BenchmarkComparison
+{
+   public static void main(String[] args) throws IOException
+   {
+      if (args.length < 2)
+      {
+         System.err.println(
+               "Usage: BenchmarkComparison baseline.json results.json [tolerance]");
+         System.exit(2);
+      }
+
+      Map<String, Double> baseline = readResults(args[0]);
+      Map<String, Double> results = readResults(args[1]);
+      double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.2;
+
+      int regressions = 0;
+      for (Map.Entry<String, Double> result : results.entrySet())
+      {
+         Double baselineOps = baseline.get(result.getKey());
+         if (baselineOps == null || baselineOps == 0)
+         {
+            System.out.println(String.format(Locale.ROOT,
+                  "  NEW        %-50s %12.1f ops/sec",
+                  result.getKey(), result.getValue()));
+            continue;
+         }
+
+         double change = (result.getValue() - baselineOps) / baselineOps;
+         boolean regressed = change < -tolerance;
+         if (regressed)
+            regressions++;
+
+         System.out.println(String.format(Locale.ROOT,
+               "  %-10s %-50s %12.1f ops/sec (%+.1f%%)",
+               regressed ? "REGRESSED" : "OK",
+               result.getKey(), result.getValue(), change * 100));
+      }
+
+      if (regressions > 0)
+      {
+         System.err.println(regressions + " benchmark(s) regressed by more than " +
+                            Math.round(tolerance * 100) + "%");
+         System.exit(1);
+      }
+   }
+
+   // reads the throughput of each benchmark, keyed by "suite.name"
+   private static Map<String, Double> readResults(String path) throws IOException
+   {
+      Map<String, Double> results = new LinkedHashMap<>();
+      for (String line : Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8))
+      {
+         String suite = field(line, SUITE);
+         String name = field(line, NAME);
+         String ops = field(line, OPS_PER_SEC);
+         if (suite != null && name != null && ops != null)
+            results.put(suite + "." + name, Double.parseDouble(ops));
+      }
+      return results;
+   }
+
+   private static String field(String line, Pattern pattern)
+   {
+      Matcher matcher = pattern.matcher(line);
+      return matcher.find() ? matcher.group(1) : null;
+   }
+
+   private static final Pattern SUITE = Pattern.compile("\"suite\"\\s*:\\s*\"([^\"]*)\"");
+   private static final Pattern NAME = Pattern.compile("\"name\"\\s*:\\s*\"([^\"]*)\"");
+   private static final Pattern OPS_PER_SEC =
+         Pattern.compile("\"opsPerSec\"\\s*:\\s*([-+0-9.eE]+)");
+}
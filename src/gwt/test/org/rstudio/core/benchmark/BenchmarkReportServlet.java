@@ -0,0 +1,50 @@
+/*
+ * BenchmarkReportServlet.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.rstudio.core.client.benchmark.BenchmarkResult;
+
+/**
+ * Receives benchmark results posted by the compiled benchmarks (which run in
+ * the browser, where standard output isn't visible to the test runner), and
+ * writes them to standard output, one per line, for the 'benchmark' build
+ * target to collect. Registered by the RStudioBenchmarks module.
+ */
+public class BenchmarkReportServlet extends HttpServlet
+{
+   @Override
+   protected void doPost(HttpServletRequest request,
+                         HttpServletResponse response) throws IOException
+   {
+      BufferedReader reader = request.getReader();
+      for (String line; (line = reader.readLine()) != null;)
+      {
+         if (!line.trim().isEmpty())
+            System.out.println(BenchmarkResult.REPORT_PREFIX + line.trim());
+      }
+      System.out.flush();
+
+      response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+   }
+
+   private static final long serialVersionUID = 1L;
+}
@@ -0,0 +1,108 @@
+/*
+ * BackgroundTaskSchedulerTests.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.user.client.Timer;
+
+public class BackgroundTaskSchedulerTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   // a task that counts how many slices it has run
+   private static class CountingTask extends BackgroundTask
+   {
+      CountingTask(boolean visible)
+      {
+         super("test");
+         visible_ = visible;
+      }
+
+      @Override
+      protected void run()
+      {
+         runCount++;
+      }
+
+      @Override
+      protected boolean isVisible()
+      {
+         return visible_;
+      }
+
+      int runCount = 0;
+      private final boolean visible_;
+   }
+
+   // a visible task queued while a (slow) hidden tick is pending runs at the
+   // visible rate rather than waiting for the hidden tick
+   public void testVisibleTaskPreemptsHiddenDelay()
+   {
+      final BackgroundTaskScheduler scheduler = BackgroundTaskScheduler.get();
+      final CountingTask visible = new CountingTask(true);
+
+      // a hidden task that always has more work, so the scheduler keeps a
+      // hidden tick pending
+      final BackgroundTask hidden = new BackgroundTask("test")
+      {
+         @Override
+         protected void run()
+         {
+            schedule();
+            if (visible.isScheduled() || visible.runCount > 0)
+               return;
+
+            // once the scheduler has queued its next (hidden) tick, queue
+            // the visible task
+            Scheduler.get().scheduleDeferred(() ->
+            {
+               assertTrue(scheduler.getPendingDelayMs() >
+                          BackgroundTaskScheduler.VISIBLE_DELAY_MS);
+
+               visible.schedule();
+               assertTrue(scheduler.getPendingDelayMs() <=
+                          BackgroundTaskScheduler.VISIBLE_DELAY_MS);
+            });
+         }
+
+         @Override
+         protected boolean isVisible()
+         {
+            return false;
+         }
+      };
+
+      delayTestFinish(TEST_TIMEOUT_MS);
+      hidden.schedule();
+
+      new Timer()
+      {
+         @Override
+         public void run()
+         {
+            hidden.cancel();
+            assertEquals(1, visible.runCount);
+            finishTest();
+         }
+      }.schedule(BackgroundTaskScheduler.HIDDEN_DELAY_MS / 2);
+   }
+
+   private static final int TEST_TIMEOUT_MS = 2000;
+}
@@ -0,0 +1,81 @@
+/*
+ * ClientMetricsTests.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+public class ClientMetricsTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   @Override
+   protected void gwtSetUp()
+   {
+      ClientMetrics.get().reset();
+   }
+
+   public void testHistogramPercentiles()
+   {
+      ClientMetrics.Histogram histogram = new ClientMetrics.Histogram();
+      for (int i = 100; i >= 1; i--)
+         histogram.record(i);
+
+      assertEquals(100, histogram.getCount());
+      assertEquals(50.5, histogram.getMean(), 1e-9);
+      assertEquals(50.0, histogram.getPercentile(50), 1e-9);
+      assertEquals(95.0, histogram.getPercentile(95), 1e-9);
+      assertEquals(100.0, histogram.getMax(), 1e-9);
+   }
+
+   public void testHistogramKeepsRecentSamples()
+   {
+      ClientMetrics.Histogram histogram = new ClientMetrics.Histogram();
+      for (int i = 0; i < 1000; i++)
+         histogram.record(1000);
+      for (int i = 0; i < 512; i++)
+         histogram.record(1);
+
+      // the older, slower samples no longer contribute to percentiles, but
+      // are still reflected in the count, mean and maximum
+      assertEquals(1.0, histogram.getPercentile(99), 1e-9);
+      assertEquals(1512, histogram.getCount());
+      assertEquals(1000.0, histogram.getMax(), 1e-9);
+   }
+
+   public void testEmptyHistogram()
+   {
+      ClientMetrics.Histogram histogram = new ClientMetrics.Histogram();
+      assertEquals(0.0, histogram.getMean(), 1e-9);
+      assertEquals(0.0, histogram.getPercentile(95), 1e-9);
+   }
+
+   public void testCountersAndReset()
+   {
+      ClientMetrics metrics = ClientMetrics.get();
+      metrics.increment("test.counter");
+      metrics.increment("test.counter");
+      metrics.record("test.timing", 5);
+      assertEquals(2, metrics.getCount("test.counter"));
+      assertEquals(1, metrics.getHistogram("test.timing").getCount());
+
+      metrics.reset();
+      assertEquals(0, metrics.getCount("test.counter"));
+      assertEquals(0, metrics.getHistogram("test.timing").getCount());
+   }
+}
@@ -0,0 +1,146 @@
+/*
+ * CoreClientBenchmarks.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client;
+
+import org.rstudio.core.client.benchmark.Benchmark;
+import org.rstudio.core.client.benchmark.BenchmarkTestCase;
+import org.rstudio.core.client.dom.DomUtils;
+import org.rstudio.studio.client.workbench.prefs.model.UserPrefs;
+
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.PreElement;
+
+public class CoreClientBenchmarks extends BenchmarkTestCase
+{
+   private static final VirtualConsole.Preferences PREFS =
+         new VirtualConsole.Preferences()
+   {
+      @Override
+      public int truncateLongLinesInConsoleHistory()
+      {
+         return 1000;
+      }
+
+      @Override
+      public String consoleAnsiMode()
+      {
+         return UserPrefs.ANSI_CONSOLE_MODE_ON;
+      }
+
+      @Override
+      public boolean screenReaderEnabled()
+      {
+         return false;
+      }
+   };
+
+   // console output of the kind printed by data frames and progress bars,
+   // with colors, carriage returns and long lines
+   private static String consoleOutput(int lines)
+   {
+      StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < lines; i++)
+      {
+         if (i % 10 == 0)
+            builder.append(AnsiCode.CSI).append("32").append(AnsiCode.SGR);
+         builder.append("[").append(i).append("] ")
+                .append("  12.345  67.890  mpg cyl disp hp drat wt qsec");
+         if (i % 10 == 0)
+            builder.append(AnsiCode.CSI).append("0").append(AnsiCode.SGR);
+         builder.append(i % 25 == 0 ? "\r" : "\n");
+      }
+      return builder.toString();
+   }
+
+   public void testVirtualConsoleSubmit()
+   {
+      final String output = consoleOutput(200);
+      benchmark("virtualConsoleSubmit", () ->
+      {
+         PreElement pre = Document.get().createPreElement();
+         VirtualConsole console = new VirtualConsole(pre, PREFS);
+         console.submit(output);
+         return console;
+      });
+   }
+
+   public void testVirtualConsoleSubmitChunked()
+   {
+      final String output = consoleOutput(20);
+      final PreElement pre = Document.get().createPreElement();
+      final VirtualConsole console = new VirtualConsole(pre, PREFS);
+      benchmark("virtualConsoleSubmitChunked", () ->
+      {
+         console.submit(output);
+         return console;
+      });
+   }
+
+   public void testAnsiCodeStrip()
+   {
+      final String output = consoleOutput(200);
+      benchmark("ansiCodeStrip", () -> AnsiCode.strip(output));
+   }
+
+   public void testAnsiCodeProcessCode()
+   {
+      final String[] codes = {
+            AnsiCode.CSI + "1;31" + AnsiCode.SGR,
+            AnsiCode.CSI + "38;5;208" + AnsiCode.SGR,
+            AnsiCode.CSI + "48;5;17" + AnsiCode.SGR,
+            AnsiCode.CSI + "0" + AnsiCode.SGR
+      };
+      benchmark("ansiCodeProcessCode", () ->
+      {
+         AnsiCode code = new AnsiCode();
+         Object result = null;
+         for (int i = 0; i < 100; i++)
+            result = code.processCode(codes[i % codes.length]);
+         return result;
+      });
+   }
+
+   public void testStringUtilIsSubsequence()
+   {
+      final String[] candidates = new String[1000];
+      for (int i = 0; i < candidates.length; i++)
+         candidates[i] = "package_function_name_" + i;
+      benchmark("stringUtilIsSubsequence", () ->
+      {
+         int matches = 0;
+         for (String candidate : candidates)
+         {
+            if (StringUtil.isSubsequence(candidate, "pfn9", true))
+               matches++;
+         }
+         return matches;
+      });
+   }
+
+   public void testStringUtilCountMatches()
+   {
+      final String text = consoleOutput(500);
+      benchmark("stringUtilCountMatches", () ->
+            StringUtil.countMatches(text, '\n'));
+   }
+
+   public void testDomUtilsCountLines()
+   {
+      final PreElement pre = Document.get().createPreElement();
+      pre.setInnerText(consoleOutput(500));
+      benchmark(new Benchmark(getSuiteName(), "domUtilsCountLines").iterations(50),
+                () -> DomUtils.countLines(pre, true));
+   }
+}
@@ -0,0 +1,112 @@
+/*
+ * LongTaskWatchdogTests.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client;
+
+import java.util.List;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.junit.client.GWTTestCase;
+
+public class LongTaskWatchdogTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   @Override
+   protected void gwtSetUp()
+   {
+      LongTaskWatchdog.get().reset();
+   }
+
+   private static void busyWait(int ms)
+   {
+      double end = Duration.currentTimeMillis() + ms;
+      while (Duration.currentTimeMillis() < end)
+      {
+      }
+   }
+
+   public void testShortTasksIgnored()
+   {
+      LongTaskWatchdog watchdog = LongTaskWatchdog.get();
+      watchdog.begin("short").end();
+      assertTrue(watchdog.getLongTasks().isEmpty());
+   }
+
+   public void testNestedTaskAttribution()
+   {
+      LongTaskWatchdog watchdog = LongTaskWatchdog.get();
+      LongTaskWatchdog.Task outer = watchdog.begin("outer");
+
+      watchdog.begin("quick").end();
+
+      LongTaskWatchdog.Task slow = watchdog.begin("slow");
+      busyWait(60);
+      slow.end();
+
+      outer.end();
+
+      // only the outermost task is reported, attributed to the slow one
+      List<LongTaskWatchdog.LongTask> tasks = watchdog.getLongTasks();
+      assertEquals(1, tasks.size());
+      assertEquals("outer", tasks.get(0).getLabel());
+      assertEquals("slow", tasks.get(0).getCulprit());
+   }
+
+   public void testUnendedNestedTask()
+   {
+      LongTaskWatchdog watchdog = LongTaskWatchdog.get();
+      LongTaskWatchdog.Task outer = watchdog.begin("outer");
+      watchdog.begin("abandoned");
+      busyWait(60);
+      outer.end();
+
+      List<LongTaskWatchdog.LongTask> tasks = watchdog.getLongTasks();
+      assertEquals(1, tasks.size());
+      assertEquals("outer", tasks.get(0).getLabel());
+      assertNull(tasks.get(0).getCulprit());
+
+      // the abandoned task no longer affects later tasks
+      LongTaskWatchdog.Task next = watchdog.begin("next");
+      busyWait(60);
+      next.end();
+      assertEquals(2, watchdog.getLongTasks().size());
+   }
+
+   public void testWrappedCommandLabel()
+   {
+      LongTaskWatchdog watchdog = LongTaskWatchdog.get();
+      ScheduledCommand command = new SlowCommand();
+      watchdog.wrap("scheduler.deferred", command).execute();
+
+      List<LongTaskWatchdog.LongTask> tasks = watchdog.getLongTasks();
+      assertEquals(1, tasks.size());
+      assertEquals("scheduler.deferred " + SlowCommand.class.getName(),
+                   tasks.get(0).getLabel());
+   }
+
+   private static class SlowCommand implements ScheduledCommand
+   {
+      @Override
+      public void execute()
+      {
+         busyWait(60);
+      }
+   }
+}
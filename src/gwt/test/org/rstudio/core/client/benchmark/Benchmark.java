@@ -0,0 +1,121 @@
+/*
+ * Benchmark.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client.benchmark;
+
+/**
+ * Runs an operation repeatedly and measures its throughput. The operation is
+ * first run a number of times without being measured (so that it's been
+ * optimized by the time it's measured), and is then run for at least the
+ * given number of iterations and the given time.
+ *
+ * The change in the size of the JavaScript heap over the measured runs is
+ * reported as a proxy for the amount of memory the operation allocates; this
+ * is only available in browsers that report the heap size.
+ */
+public class Benchmark
+{
+   public interface Body
+   {
+      // the result is retained, so that the work isn't optimized away
+      Object run();
+   }
+
+   public Benchmark(String suite, String name)
+   {
+      suite_ = suite;
+      name_ = name;
+   }
+
+   public Benchmark warmup(int iterations)
+   {
+      warmup_ = iterations;
+      return this;
+   }
+
+   public Benchmark iterations(int iterations)
+   {
+      iterations_ = iterations;
+      return this;
+   }
+
+   public Benchmark minTime(double ms)
+   {
+      minTimeMs_ = ms;
+      return this;
+   }
+
+   public BenchmarkResult run(Body body)
+   {
+      for (int i = 0; i < warmup_; i++)
+         sink(body.run());
+
+      double heapBefore = getUsedHeapSize();
+      double start = now();
+      double min = Double.MAX_VALUE;
+      double max = 0;
+
+      int count = 0;
+      while (count < iterations_ || now() - start < minTimeMs_)
+      {
+         double before = now();
+         sink(body.run());
+         double elapsed = now() - before;
+
+         min = Math.min(min, elapsed);
+         max = Math.max(max, elapsed);
+         count++;
+      }
+
+      double total = now() - start;
+      double heapAfter = getUsedHeapSize();
+
+      double heapPerOp = -1;
+      if (heapBefore >= 0 && heapAfter >= 0)
+         heapPerOp = Math.max(0, heapAfter - heapBefore) / count;
+
+      return new BenchmarkResult(suite_, name_, count, total, min, max, heapPerOp);
+   }
+
+   private void sink(Object result)
+   {
+      if (result != null)
+         sinkCount_++;
+   }
+
+   private static native double now() /*-{
+      var performance = $wnd.performance;
+      return performance && performance.now ? performance.now() : Date.now();
+   }-*/;
+
+   private static native double getUsedHeapSize() /*-{
+      var performance = $wnd.performance;
+      if (performance && performance.memory)
+         return performance.memory.usedJSHeapSize;
+      return -1;
+   }-*/;
+
+   private final String suite_;
+   private final String name_;
+   private int warmup_ = DEFAULT_WARMUP;
+   private int iterations_ = DEFAULT_ITERATIONS;
+   private double minTimeMs_ = DEFAULT_MIN_TIME_MS;
+
+   @SuppressWarnings("unused")
+   private int sinkCount_ = 0;
+
+   private static final int DEFAULT_WARMUP = 20;
+   private static final int DEFAULT_ITERATIONS = 100;
+   private static final double DEFAULT_MIN_TIME_MS = 500;
+}
@@ -0,0 +1,114 @@
+/*
+ * BenchmarkResult.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client.benchmark;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.json.client.JSONNumber;
+import com.google.gwt.json.client.JSONObject;
+import com.google.gwt.json.client.JSONString;
+
+public class BenchmarkResult
+{
+   BenchmarkResult(String suite,
+                   String name,
+                   int iterations,
+                   double totalMs,
+                   double minMs,
+                   double maxMs,
+                   double heapBytesPerOp)
+   {
+      suite_ = suite;
+      name_ = name;
+      iterations_ = iterations;
+      totalMs_ = totalMs;
+      minMs_ = minMs;
+      maxMs_ = maxMs;
+      heapBytesPerOp_ = heapBytesPerOp;
+   }
+
+   public String getName()
+   {
+      return suite_ + "." + name_;
+   }
+
+   public int getIterations()
+   {
+      return iterations_;
+   }
+
+   public double getMeanMs()
+   {
+      return totalMs_ / iterations_;
+   }
+
+   public double getOpsPerSecond()
+   {
+      return totalMs_ == 0 ? 0 : iterations_ * 1000 / totalMs_;
+   }
+
+   // -1 if the heap size isn't available
+   public double getHeapBytesPerOp()
+   {
+      return heapBytesPerOp_;
+   }
+
+   public String toJson()
+   {
+      JSONObject json = new JSONObject();
+      json.put("suite", new JSONString(suite_));
+      json.put("name", new JSONString(name_));
+      json.put("iterations", new JSONNumber(iterations_));
+      json.put("opsPerSec", new JSONNumber(round(getOpsPerSecond())));
+      json.put("meanMs", new JSONNumber(round(getMeanMs())));
+      json.put("minMs", new JSONNumber(round(minMs_)));
+      json.put("maxMs", new JSONNumber(round(maxMs_)));
+      json.put("heapBytesPerOp", new JSONNumber(round(heapBytesPerOp_)));
+      return json.toString();
+   }
+
+   /**
+    * Posts the result, as a single line of JSON, to the test server, which
+    * writes it to the runner's standard output (see BenchmarkReportServlet);
+    * the 'benchmark' build target collects these lines into the results
+    * file. The request is synchronous, so that the result is recorded before
+    * the test finishes.
+    */
+   public void report()
+   {
+      post(GWT.getModuleBaseURL() + "benchmark", toJson());
+   }
+
+   private static native void post(String url, String body) /*-{
+      var xhr = new $wnd.XMLHttpRequest();
+      xhr.open("POST", url, false);
+      xhr.setRequestHeader("Content-Type", "application/json");
+      xhr.send(body);
+   }-*/;
+
+   private static double round(double value)
+   {
+      return Math.round(value * 1000) / 1000.0;
+   }
+
+   public static final String REPORT_PREFIX = "BENCHMARK ";
+
+   private final String suite_;
+   private final String name_;
+   private final int iterations_;
+   private final double totalMs_;
+   private final double minMs_;
+   private final double maxMs_;
+   private final double heapBytesPerOp_;
+}
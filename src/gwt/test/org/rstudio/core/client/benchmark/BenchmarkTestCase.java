@@ -0,0 +1,47 @@
+/*
+ * BenchmarkTestCase.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client.benchmark;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+// Base class for the suites run by RStudioBenchmarkSuite; each test method
+// runs one or more benchmarks, which report their results as they complete.
+public abstract class BenchmarkTestCase extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioBenchmarks";
+   }
+
+   protected BenchmarkResult benchmark(String name, Benchmark.Body body)
+   {
+      return benchmark(new Benchmark(getSuiteName(), name), body);
+   }
+
+   protected BenchmarkResult benchmark(Benchmark benchmark, Benchmark.Body body)
+   {
+      BenchmarkResult result = benchmark.run(body);
+      result.report();
+      assertTrue(result.getIterations() > 0);
+      return result;
+   }
+
+   protected String getSuiteName()
+   {
+      String name = getClass().getName();
+      return name.substring(name.lastIndexOf('.') + 1);
+   }
+}
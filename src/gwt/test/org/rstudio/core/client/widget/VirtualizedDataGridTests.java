@@ -0,0 +1,138 @@
+/*
+ * VirtualizedDataGridTests.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client.widget;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.user.cellview.client.TextColumn;
+import com.google.gwt.user.client.ui.RootPanel;
+import com.google.gwt.view.client.ListDataProvider;
+
+// Checks that VirtualizedDataGrid only builds the rows near the viewport, so
+// the cost of a redraw doesn't depend on the number of rows in the list.
+public class VirtualizedDataGridTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   private static class TestGrid extends VirtualizedDataGrid<Integer>
+   {
+      public TestGrid(int rows)
+      {
+         List<Integer> list = new ArrayList<>(rows);
+         for (int i = 0; i < rows; i++)
+            list.add(i);
+
+         dataProvider_ = new ListDataProvider<>(list);
+
+         addColumn(new TextColumn<Integer>()
+         {
+            @Override
+            public String getValue(Integer object)
+            {
+               return "Row " + object;
+            }
+         });
+
+         setSize("400px", "400px");
+         dataProvider_.addDataDisplay(this);
+      }
+
+      @Override
+      public double getRowHeight()
+      {
+         return 20;
+      }
+
+      @Override
+      public int getTotalNumberOfRows()
+      {
+         return dataProvider_ == null ? 0 : dataProvider_.getList().size();
+      }
+
+      @Override
+      public String getBorderColor()
+      {
+         return null;
+      }
+
+      public int getBuiltRowCount()
+      {
+         return getTableBodyElement().getRows().getLength();
+      }
+
+      private final ListDataProvider<Integer> dataProvider_;
+   }
+
+   public void testRedrawCostIndependentOfRowCount()
+   {
+      final TestGrid small = new TestGrid(10000);
+      final TestGrid large = new TestGrid(1000000);
+      RootPanel.get().add(small);
+      RootPanel.get().add(large);
+
+      small.redraw();
+      large.redraw();
+
+      delayTestFinish(10000);
+      Scheduler.get().scheduleDeferred(() ->
+      {
+         assertEquals(small.getBuiltRowCount(), large.getBuiltRowCount());
+         assertTrue(large.getBuiltRowCount() < 1000);
+         assertEquals(1000000, large.getRowCount());
+
+         RootPanel.get().remove(small);
+         RootPanel.get().remove(large);
+         finishTest();
+      });
+   }
+
+   public void testSelectingDistantRowMakesItActive()
+   {
+      final TestGrid grid = new TestGrid(1000000);
+      RootPanel.get().add(grid);
+
+      grid.setKeyboardSelectedIndex(500000, false);
+      assertTrue(grid.getFirstActiveRow() <= 500000);
+      assertTrue(grid.getLastActiveRow() >= 500000);
+      assertEquals(500000, grid.getKeyboardSelectedIndex());
+
+      RootPanel.get().remove(grid);
+   }
+
+   public void testSetPageSizeKeepsActiveRange()
+   {
+      final TestGrid grid = new TestGrid(100000);
+      RootPanel.get().add(grid);
+      grid.redraw();
+
+      grid.setPageSize(100001);
+      assertEquals(grid.getFirstActiveRow(), grid.getVisibleRange().getStart());
+      assertEquals(grid.getLastActiveRow() - grid.getFirstActiveRow() + 1,
+                   grid.getVisibleRange().getLength());
+
+      // a redraw with unchanged active rows still restores the range
+      grid.redraw();
+      assertTrue(grid.getVisibleRange().getLength() < 1000);
+
+      RootPanel.get().remove(grid);
+   }
+}
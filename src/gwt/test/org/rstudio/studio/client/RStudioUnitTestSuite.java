@@ -15,9 +15,12 @@
 package org.rstudio.studio.client;
 
 import org.rstudio.core.client.AnsiCodeTests;
+import org.rstudio.core.client.BackgroundTaskSchedulerTests;
+import org.rstudio.core.client.ClientMetricsTests;
 import org.rstudio.core.client.ConsoleOutputWriterTests;
 import org.rstudio.core.client.DebouncedCommandTests;
 import org.rstudio.core.client.ElementIdsTests;
+import org.rstudio.core.client.LongTaskWatchdogTests;
 import org.rstudio.core.client.SafeHtmlUtilTests;
 import org.rstudio.core.client.StringUtilTests;
 import org.rstudio.core.client.TextCursorTests;
@@ -26,21 +29,28 @@ import org.rstudio.core.client.VirtualConsoleTests;
 import org.rstudio.core.client.dom.DomUtilsTests;
 import org.rstudio.core.client.files.FileSystemItemTests;
 import org.rstudio.core.client.widget.MiniPopupPanelTests;
+import org.rstudio.core.client.widget.VirtualizedDataGridTests;
 import org.rstudio.studio.client.application.ApplicationUtilsTests;
+import org.rstudio.studio.client.application.events.EventBusTests;
 import org.rstudio.studio.client.application.model.SessionScopeTests;
 import org.rstudio.studio.client.common.filetypes.FileIconRendererTests;
 import org.rstudio.studio.client.common.filetypes.FileIconTests;
 import org.rstudio.studio.client.common.r.RTokenizerTests;
 import org.rstudio.studio.client.common.sourcemarkers.SourceMarkerItemCodecTests;
+import org.rstudio.studio.client.common.vcs.StatusAndPathTests;
 import org.rstudio.studio.client.projects.model.ProjectMRUEntryTests;
 import org.rstudio.studio.client.workbench.prefs.model.PrefsTests;
 import org.rstudio.studio.client.workbench.views.environment.dataimport.model.DataImportPreviewResponseTests;
 import org.rstudio.studio.client.workbench.views.jobs.model.JobManagerTests;
 import org.rstudio.studio.client.workbench.views.jobs.view.JobsListTests;
 import org.rstudio.studio.client.workbench.views.chat.PositAiInstallManagerTests;
+import org.rstudio.studio.client.workbench.views.output.find.FindResultsTableTests;
 import org.rstudio.studio.client.workbench.views.output.lint.model.LintItemTests;
+import org.rstudio.studio.client.workbench.views.packages.model.PackageListIndexTests;
 import org.rstudio.studio.client.workbench.views.packages.ui.PackageLinkColumnTests;
+import org.rstudio.studio.client.workbench.views.source.editors.text.ChunkOutputFrameLoaderTests;
 import org.rstudio.studio.client.workbench.views.source.editors.text.VimrcLoaderTests;
+import org.rstudio.studio.client.workbench.views.source.model.DocumentDeltaChainTests;
 import org.rstudio.studio.client.workbench.views.source.editors.text.assist.RChunkHeaderParserTests;
 import org.rstudio.studio.client.workbench.views.vcs.common.model.VcsStateTests;
 import org.rstudio.studio.client.workbench.views.terminal.TerminalLocalEchoTests;
@@ -93,6 +103,16 @@ public class RStudioUnitTestSuite extends GWTTestSuite
       suite.addTestSuite(PrefsTests.class);
       suite.addTestSuite(VimrcLoaderTests.class);
       suite.addTestSuite(VcsStateTests.class);
+      suite.addTestSuite(StatusAndPathTests.class);
+      suite.addTestSuite(VirtualizedDataGridTests.class);
+      suite.addTestSuite(FindResultsTableTests.class);
+      suite.addTestSuite(EventBusTests.class);
+      suite.addTestSuite(PackageListIndexTests.class);
+      suite.addTestSuite(ClientMetricsTests.class);
+      suite.addTestSuite(LongTaskWatchdogTests.class);
+      suite.addTestSuite(DocumentDeltaChainTests.class);
+      suite.addTestSuite(ChunkOutputFrameLoaderTests.class);
+      suite.addTestSuite(BackgroundTaskSchedulerTests.class);
 
       return suite;
    }
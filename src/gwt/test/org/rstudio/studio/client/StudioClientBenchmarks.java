@@ -0,0 +1,217 @@
+/*
+ * StudioClientBenchmarks.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.rstudio.core.client.benchmark.BenchmarkTestCase;
+import org.rstudio.studio.client.common.codetools.Completions;
+import org.rstudio.studio.client.common.r.RTokenizer;
+import org.rstudio.studio.client.common.vcs.StatusAndPath;
+import org.rstudio.studio.client.common.vcs.StatusAndPathInfo;
+import org.rstudio.studio.client.server.ServerError;
+import org.rstudio.studio.client.server.ServerRequestCallback;
+import org.rstudio.studio.client.workbench.prefs.model.PrefLayer;
+import org.rstudio.studio.client.workbench.prefs.model.Prefs;
+import org.rstudio.studio.client.workbench.prefs.model.UserPrefsAccessor;
+import org.rstudio.studio.client.workbench.views.console.shell.assist.CompletionCache;
+import org.rstudio.studio.client.workbench.views.vcs.common.diff.DiffChunk;
+import org.rstudio.studio.client.workbench.views.vcs.common.diff.UnifiedParser;
+
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.JsArrayBoolean;
+import com.google.gwt.core.client.JsArrayInteger;
+import com.google.gwt.core.client.JsArrayString;
+
+public class StudioClientBenchmarks extends BenchmarkTestCase
+{
+   private static class BenchmarkPrefs extends Prefs
+   {
+      BenchmarkPrefs()
+      {
+         super(layers());
+      }
+
+      PrefValue<Boolean> flag()
+      {
+         return bool("flag", "Flag", "A boolean pref", false);
+      }
+
+      @Override
+      public int userLayer()
+      {
+         return UserPrefsAccessor.LAYER_USER;
+      }
+
+      @Override
+      public int projectLayer()
+      {
+         return UserPrefsAccessor.LAYER_PROJECT;
+      }
+
+      private static native JsArray<PrefLayer> layers() /*-{
+         var layers = [];
+         for (var i = 0; i <= @org.rstudio.studio.client.workbench.prefs.model.UserPrefsAccessor::LAYER_PROJECT; i++)
+            layers.push({ name: "layer" + i, values: {} });
+         return layers;
+      }-*/;
+   }
+
+   private static String rSource(int functions)
+   {
+      StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < functions; i++)
+      {
+         builder.append("f").append(i).append(" <- function(x, y = 2L, ...) {\n")
+                .append("   # compute something\n")
+                .append("   z <- x[[\"value\"]] %>% mean(na.rm = TRUE) + y * 1e-3\n")
+                .append("   if (z >= 10 && !is.null(y)) 'big' else `small name`\n")
+                .append("}\n");
+      }
+      return builder.toString();
+   }
+
+   private static String unifiedDiff(int chunks)
+   {
+      StringBuilder builder = new StringBuilder();
+      builder.append("diff --git a/R/file.R b/R/file.R\n")
+             .append("--- a/R/file.R\n")
+             .append("+++ b/R/file.R\n");
+      for (int i = 0; i < chunks; i++)
+      {
+         int line = i * 20 + 1;
+         builder.append("@@ -").append(line).append(",7 +").append(line)
+                .append(",7 @@ f").append(i).append(" <- function(x) {\n")
+                .append("   a <- 1\n")
+                .append("   b <- 2\n")
+                .append("-  c <- a + b\n")
+                .append("+  c <- a * b\n")
+                .append("   d <- c\n")
+                .append("   e <- d\n")
+                .append("   e\n");
+      }
+      return builder.toString();
+   }
+
+   private static Completions completions(int count)
+   {
+      JsArrayString names = JsArrayString.createArray().cast();
+      JsArrayString packages = JsArrayString.createArray().cast();
+      JsArrayString meta = JsArrayString.createArray().cast();
+      JsArrayBoolean flags = JsArrayBoolean.createArray().cast();
+      JsArrayInteger types = JsArrayInteger.createArray().cast();
+      for (int i = 0; i < count; i++)
+      {
+         names.push((i % 2 == 0 ? "read_" : "parse_") + "table_" + i);
+         packages.push("pkg" + (i % 20));
+         meta.push("");
+         flags.push(false);
+         types.push(0);
+      }
+      return Completions.createCompletions(
+            "", names, names, packages, flags, types, flags, flags, meta,
+            null, false, false, false, true, null, "R", types);
+   }
+
+   public void testRTokenizer()
+   {
+      final String source = rSource(100);
+      benchmark("rTokenizer", () ->
+      {
+         RTokenizer tokenizer = new RTokenizer(source);
+         int count = 0;
+         while (tokenizer.nextToken() != null)
+            count++;
+         return count;
+      });
+   }
+
+   public void testUnifiedParser()
+   {
+      final String diff = unifiedDiff(200);
+      benchmark("unifiedParser", () ->
+      {
+         UnifiedParser parser = new UnifiedParser(diff);
+         parser.nextFilePair();
+
+         int lines = 0;
+         for (DiffChunk chunk; null != (chunk = parser.nextChunk());)
+            lines += chunk.getLines().size();
+         return lines;
+      });
+   }
+
+   public void testCompletionNarrowing()
+   {
+      final CompletionCache cache = new CompletionCache();
+      cache.store("re", completions(5000));
+
+      final ServerRequestCallback<Completions> callback =
+            new ServerRequestCallback<Completions>()
+      {
+         @Override
+         public void onResponseReceived(Completions response)
+         {
+         }
+
+         @Override
+         public void onError(ServerError error)
+         {
+         }
+      };
+
+      benchmark("completionNarrowing", () ->
+            cache.satisfyRequest("read_t", callback));
+   }
+
+   public void testChangelistSort()
+   {
+      final List<StatusAndPath> entries = new ArrayList<>();
+      for (int i = 0; i < 20000; i++)
+      {
+         String path = "dir" + (i % 97) + "/sub" + (i % 13) + "/file" + i + ".R";
+         entries.add(StatusAndPath.fromInfo(
+               StatusAndPathInfo.create("M ", path, path, true, false)));
+      }
+      Collections.shuffle(entries);
+
+      benchmark("changelistSort", () ->
+      {
+         List<StatusAndPath> sorted = new ArrayList<>(entries);
+         Collections.sort(sorted, StatusAndPath.PATH_COMPARATOR);
+         return sorted;
+      });
+   }
+
+   public void testPrefGetValue()
+   {
+      final BenchmarkPrefs prefs = new BenchmarkPrefs();
+      prefs.flag().setGlobalValue(true, false);
+
+      // look the pref up each time, as generated accessors do
+      benchmark("prefGetValue", () ->
+      {
+         int count = 0;
+         for (int i = 0; i < 1000; i++)
+         {
+            if (prefs.flag().getValue())
+               count++;
+         }
+         return count;
+      });
+   }
+}
@@ -0,0 +1,68 @@
+/*
+ * EventBusTests.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.application.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.rstudio.studio.client.workbench.views.source.editors.text.events.ChunkSatelliteWindowRegisteredEvent;
+
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.junit.client.GWTTestCase;
+
+public class EventBusTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   public void testDocumentHandlersOnlySeeTheirDocument()
+   {
+      EventBus events = new EventBus(() -> null, () -> null);
+
+      // register handlers for many documents
+      final List<String> received = new ArrayList<>();
+      List<HandlerRegistration> regs = new ArrayList<>();
+      for (int i = 0; i < 40; i++)
+      {
+         final String docId = "doc" + i;
+         regs.add(events.addDocumentHandler(docId,
+               ChunkSatelliteWindowRegisteredEvent.TYPE,
+               event -> received.add(docId + ":" + event.getDocId())));
+      }
+
+      events.fireEvent(new ChunkSatelliteWindowRegisteredEvent("doc7", "chunk"));
+      assertEquals(1, received.size());
+      assertEquals("doc7:doc7", received.get(0));
+      assertEquals(1, events.getDocumentDispatchCount());
+
+      // events for other (or no) documents aren't delivered at all
+      events.fireEvent(new ChunkSatelliteWindowRegisteredEvent("other", "chunk"));
+      events.fireEvent(new ChunkSatelliteWindowRegisteredEvent(null, "chunk"));
+      assertEquals(1, received.size());
+      assertEquals(1, events.getDocumentDispatchCount());
+
+      // removing a document's handlers stops delivery to it
+      assertEquals(1, events.getDocumentHandlerCount("doc7"));
+      regs.get(7).removeHandler();
+      regs.get(7).removeHandler();
+      assertEquals(0, events.getDocumentHandlerCount("doc7"));
+      assertEquals(1, events.getDocumentHandlerCount("doc8"));
+      events.fireEvent(new ChunkSatelliteWindowRegisteredEvent("doc7", "chunk"));
+      assertEquals(1, received.size());
+   }
+}
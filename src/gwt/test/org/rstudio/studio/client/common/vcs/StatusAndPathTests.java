@@ -0,0 +1,82 @@
+/*
+ * StatusAndPathTests.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.common.vcs;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+// Tests for StatusAndPath.PathComparator, which orders changelist entries by
+// directory and then by name using sort keys computed once per entry.
+public class StatusAndPathTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   private static StatusAndPath entry(String path)
+   {
+      return StatusAndPath.fromInfo(
+            StatusAndPathInfo.create("M ", path, path, true, false));
+   }
+
+   private static int compare(String a, String b)
+   {
+      return StatusAndPath.PATH_COMPARATOR.compare(entry(a), entry(b));
+   }
+
+   public void testSortsByDirectoryBeforeName()
+   {
+      // "a/z" is in directory "a", which sorts before directory "a/b"
+      assertTrue(compare("a/z", "a/b/c") < 0);
+      assertTrue(compare("a/b/c", "a/z") > 0);
+   }
+
+   public void testSortsByNameWithinDirectory()
+   {
+      assertTrue(compare("dir/a.R", "dir/b.R") < 0);
+      assertTrue(compare("dir/b.R", "dir/a.R") > 0);
+      assertEquals(0, compare("dir/a.R", "dir/a.R"));
+   }
+
+   public void testTopLevelFilesSortFirst()
+   {
+      assertTrue(compare("zzz.R", "a/b.R") < 0);
+   }
+
+   public void testBackslashSeparator()
+   {
+      assertTrue(compare("a\\z", "a\\b\\c") < 0);
+   }
+
+   public void testSortLargeChangelist()
+   {
+      ArrayList<StatusAndPath> entries = new ArrayList<>();
+      for (int i = 0; i < 20000; i++)
+         entries.add(entry("dir" + (i % 97) + "/sub" + (i % 13) + "/file" + i + ".R"));
+      Collections.shuffle(entries);
+
+      Collections.sort(entries, StatusAndPath.PATH_COMPARATOR);
+
+      for (int i = 1; i < entries.size(); i++)
+      {
+         assertTrue(StatusAndPath.PATH_COMPARATOR.compare(
+               entries.get(i - 1), entries.get(i)) <= 0);
+      }
+   }
+}
@@ -160,4 +160,44 @@ public class PrefsTests extends GWTTestCase
 
       assertTrue(pref.getProjectValue());
    }
+
+   // Resolved values are cached per pref; the following check that writes
+   // through any accessor, and replacement of the layers, are observed.
+
+   private static native JsArray<PrefLayer> fullLayers() /*-{
+      var layers = [];
+      for (var i = 0; i <= @org.rstudio.studio.client.workbench.prefs.model.UserPrefsAccessor::LAYER_PROJECT; i++)
+         layers.push({ name: "layer" + i, values: {} });
+      return layers;
+   }-*/;
+
+   public void testGetValueObservesGlobalAndProjectWrites()
+   {
+      TestPrefs prefs = new TestPrefs(fullLayers());
+      Prefs.PrefValue<Integer> pref = prefs.integer("test", "Test", "Test pref", 1);
+      assertEquals(1, pref.getValue().intValue());
+
+      pref.setGlobalValue(2, false);
+      assertEquals(2, pref.getValue().intValue());
+
+      pref.setProjectValue(3, false);
+      assertEquals(3, pref.getValue().intValue());
+
+      pref.removeProjectValue(false);
+      assertEquals(2, pref.getValue().intValue());
+
+      pref.removeGlobalValue(false);
+      assertEquals(1, pref.getValue().intValue());
+   }
+
+   public void testGetValueObservesReplacedLayers()
+   {
+      TestPrefs prefs = new TestPrefs(fullLayers());
+      Prefs.PrefValue<Boolean> pref = prefs.bool("test", "Test", "Test pref", false);
+      pref.setGlobalValue(true, false);
+      assertTrue(pref.getValue());
+
+      prefs.updatePrefs(fullLayers());
+      assertFalse(pref.getValue());
+   }
 }
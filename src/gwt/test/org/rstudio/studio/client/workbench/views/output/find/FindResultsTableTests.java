@@ -0,0 +1,98 @@
+/*
+ * FindResultsTableTests.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.output.find;
+
+import java.util.ArrayList;
+
+import org.rstudio.studio.client.workbench.views.output.find.model.FindResult;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.user.client.ui.RootPanel;
+
+public class FindResultsTableTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   private static FindResultsTable createTable()
+   {
+      FindOutputResources resources = GWT.create(FindOutputResources.class);
+      resources.styles().ensureInjected();
+
+      FindResultsTable table = new FindResultsTable(
+            new FindOutputCodec(resources), resources, "Find Results");
+      table.setSize("400px", "400px");
+      RootPanel.get().add(table);
+      return table;
+   }
+
+   // results for the given number of files, with the given number of
+   // matching lines in each
+   private static ArrayList<FindResult> createResults(int files, int linesPerFile)
+   {
+      ArrayList<FindResult> results = new ArrayList<>();
+      for (int i = 0; i < files; i++)
+         for (int j = 0; j < linesPerFile; j++)
+            results.add(FindResult.create("~/file" + i + ".R", j + 1, "x <- " + j));
+      return results;
+   }
+
+   public void testRendersOnlyRowsInView()
+   {
+      final FindResultsTable table = createTable();
+
+      // deliver results in chunks, as they are streamed from the session
+      ArrayList<FindResult> results = createResults(1000, 100);
+      for (int i = 0; i < results.size(); i += 500)
+         table.addItems(results.subList(i, Math.min(results.size(), i + 500)));
+
+      delayTestFinish(10000);
+      Scheduler.get().scheduleDeferred(() ->
+      {
+         assertEquals(100000, table.getResultCount());
+         assertEquals(1000, table.getFileCount());
+         assertTrue(table.getRenderedRowCount() < 200);
+
+         RootPanel.get().remove(table);
+         finishTest();
+      });
+   }
+
+   public void testCollapsedFileHidesResults()
+   {
+      final FindResultsTable table = createTable();
+      table.addItems(createResults(2, 3));
+
+      // select the first file's header, and collapse it
+      table.selectNextRow();
+      assertNotNull(table.getSelectedValue());
+      table.selectPreviousRow();
+      assertNull(table.getSelectedValue());
+      table.toggleSelectedGroup();
+
+      // the next row is now the second file's header, then its results
+      table.selectNextRow();
+      assertNull(table.getSelectedValue());
+      table.selectNextRow();
+      assertEquals("~/file1.R", table.getSelectedValue().getFile());
+
+      RootPanel.get().remove(table);
+   }
+}
@@ -0,0 +1,81 @@
+/*
+ * PackageListIndexTests.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.packages.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+public class PackageListIndexTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   private static PackageListIndex createIndex()
+   {
+      // sorted by library, then by name
+      List<PackageInfo> packages = new ArrayList<>();
+      packages.add(createPackage("askpass", "Password Entry Utilities", "user"));
+      packages.add(createPackage("dplyr", "A Grammar of Data Manipulation", "user"));
+      packages.add(createPackage("plyr", "Tools for Splitting Data", "user"));
+      packages.add(createPackage("base", "The R Base Package", "system"));
+      packages.add(createPackage("plyr", "Tools for Splitting Data", "system"));
+      return new PackageListIndex(packages, pkgInfo -> pkgInfo.getLibrary());
+   }
+
+   private static String names(List<PackageInfo> packages)
+   {
+      StringBuilder builder = new StringBuilder();
+      for (PackageInfo packageInfo : packages)
+         builder.append(packageInfo.getName()).append(' ');
+      return builder.toString().trim();
+   }
+
+   public void testPrefixMatchesFirstWithinLibrary()
+   {
+      PackageListIndex index = createIndex();
+      assertEquals("plyr dplyr plyr", names(index.filter("ply")));
+      assertEquals("askpass dplyr plyr base plyr", names(index.filter("")));
+   }
+
+   public void testNarrowingMatchesSameAsFreshFilter()
+   {
+      PackageListIndex narrowed = createIndex();
+      narrowed.filter("a");
+      narrowed.filter("da");
+      assertEquals(names(createIndex().filter("dat")),
+                   names(narrowed.filter("dat")));
+
+      // shortening the filter searches all packages again
+      assertEquals("askpass dplyr plyr base plyr", names(narrowed.filter("a")));
+   }
+
+   public void testPackagesByName()
+   {
+      PackageListIndex index = createIndex();
+      assertEquals(2, index.getPackages("plyr").size());
+      assertEquals(0, index.getPackages("ggplot2").size());
+   }
+
+   private static native PackageInfo createPackage(String name,
+                                                   String desc,
+                                                   String library) /*-{
+      return { name: name, desc: desc, library: library };
+   }-*/;
+}
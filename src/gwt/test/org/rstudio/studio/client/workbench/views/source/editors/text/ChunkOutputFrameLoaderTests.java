@@ -0,0 +1,65 @@
+/*
+ * ChunkOutputFrameLoaderTests.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.source.editors.text;
+
+import com.google.gwt.dom.client.DivElement;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.junit.client.GWTTestCase;
+
+public class ChunkOutputFrameLoaderTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   public void testLineWidgetFrameRoot()
+   {
+      // mirror Ace's layout: line widgets are appended to the editor's
+      // container, as siblings of its scroller
+      DivElement editor = Document.get().createDivElement();
+      editor.addClassName("ace_editor");
+
+      DivElement scroller = Document.get().createDivElement();
+      scroller.addClassName("ace_scroller");
+      editor.appendChild(scroller);
+
+      DivElement lineWidget = Document.get().createDivElement();
+      lineWidget.addClassName("ace_lineWidgetContainer");
+      editor.appendChild(lineWidget);
+
+      ChunkOutputFrame frame = new ChunkOutputFrame("Chunk output");
+      lineWidget.appendChild(frame.getElement());
+
+      Document.get().getBody().appendChild(editor);
+      try
+      {
+         assertNotNull(ChunkOutputFrameLoader.findRoot(frame.getElement()));
+         assertEquals(editor, ChunkOutputFrameLoader.findRoot(frame.getElement()));
+      }
+      finally
+      {
+         editor.removeFromParent();
+      }
+   }
+
+   public void testDetachedFrameRoot()
+   {
+      // frames outside an editor are measured from the viewport
+      ChunkOutputFrame frame = new ChunkOutputFrame("Chunk output");
+      assertNull(ChunkOutputFrameLoader.findRoot(frame.getElement()));
+   }
+}
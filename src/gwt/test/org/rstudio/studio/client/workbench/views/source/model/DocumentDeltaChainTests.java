@@ -0,0 +1,122 @@
+/*
+ * DocumentDeltaChainTests.java
+ *
+ * Copyright (C) 2026 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.source.model;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+public class DocumentDeltaChainTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   // the session's copy of the document, as last acknowledged
+   private static final String CONTENTS = "x <- 1\n";
+   private static final String HASH = DocumentDeltaChain.hashOf(CONTENTS);
+
+   public void testHashMatchesSession()
+   {
+      // (values computed with boost::crc_32_type, as the session does)
+      assertEquals("1095738169",
+            DocumentDeltaChain.hashOf("The quick brown fox jumps over the lazy dog"));
+      assertEquals("119479494", DocumentDeltaChain.hashOf("x <- \u00e9t\u00e9\n"));
+      assertEquals("0", DocumentDeltaChain.hashOf(""));
+   }
+
+   public void testTypedAheadDeltaChainsOnDeltaInFlight()
+   {
+      DocumentDeltaChain chain = new DocumentDeltaChain();
+      DocumentDelta first = chain.next(CONTENTS, HASH, "x <- 12\n", null);
+      assertEquals(HASH, first.getHash());
+      assertEquals("2", first.getReplacement());
+
+      // text typed while the first delta is in flight is diffed against the
+      // contents it gives the session's copy
+      DocumentDelta second = chain.next(CONTENTS, HASH, "x <- 123\n", null);
+      assertEquals(first.getNewHash(), second.getHash());
+      assertEquals("3", second.getReplacement());
+      assertEquals(7, second.getOffset());
+      assertEquals(0, second.getLength());
+
+      // as are autosaves
+      assertTrue(chain.isPending());
+      assertEquals("x <- 123\n", chain.getContents(CONTENTS));
+      assertEquals(second.getNewHash(), chain.getHash(HASH));
+
+      assertTrue(chain.onApplied(first, first.getNewHash()));
+      assertTrue(chain.isPending());
+      assertTrue(chain.onApplied(second, second.getNewHash()));
+      assertFalse(chain.isPending());
+      assertEquals(CONTENTS, chain.getContents(CONTENTS));
+   }
+
+   public void testStaleDeltaResetsChain()
+   {
+      DocumentDeltaChain chain = new DocumentDeltaChain();
+      DocumentDelta first = chain.next(CONTENTS, HASH, "x <- 12\n", null);
+      DocumentDelta second = chain.next(CONTENTS, HASH, "x <- 123\n", null);
+
+      // the first delta wasn't applied, so the second can't be either; later
+      // changes are diffed against the acknowledged copy again
+      assertFalse(chain.onApplied(first, null));
+      assertFalse(chain.isPending());
+      assertEquals(HASH, chain.getHash(HASH));
+
+      DocumentDelta third = chain.next(CONTENTS, HASH, "x <- 1234\n", null);
+      assertEquals(HASH, third.getHash());
+      assertEquals("234", third.getReplacement());
+
+      // the rejected delta's late response doesn't disturb the chain
+      assertFalse(chain.onApplied(second, null));
+      assertTrue(chain.isPending());
+      assertTrue(chain.onApplied(third, third.getNewHash()));
+   }
+
+   public void testSupersededResponseIgnored()
+   {
+      DocumentDeltaChain chain = new DocumentDeltaChain();
+      DocumentDelta first = chain.next(CONTENTS, HASH, "x <- 12\n", null);
+      DocumentDelta second = chain.next(CONTENTS, HASH, "x <- 123\n", null);
+
+      // the response to the superseded first request arrives last
+      assertTrue(chain.onApplied(second, second.getNewHash()));
+      assertFalse(chain.onApplied(first, first.getNewHash()));
+      assertFalse(chain.isPending());
+   }
+
+   public void testSaveSupersedesDeltaInFlight()
+   {
+      DocumentDeltaChain chain = new DocumentDeltaChain();
+      DocumentDelta delta = chain.next(CONTENTS, HASH, "x <- 12\n", null);
+
+      int save = chain.beginSave();
+      chain.onSaved(save);
+      assertFalse(chain.isPending());
+
+      // the delta's response (arriving after the save's) is ignored
+      assertFalse(chain.onApplied(delta, delta.getNewHash()));
+   }
+
+   public void testEmptyDeltaNotChained()
+   {
+      DocumentDeltaChain chain = new DocumentDeltaChain();
+      DocumentDelta delta = chain.next(CONTENTS, HASH, CONTENTS, null);
+      assertTrue(delta.isEmpty());
+      assertFalse(chain.isPending());
+      assertFalse(chain.onApplied(delta, HASH));
+   }
+}